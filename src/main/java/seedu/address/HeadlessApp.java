@@ -0,0 +1,175 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.completion.CompletionEngine;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookSaver;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs ConnectS without a GUI, on the same data and preferences as {@link MainApp}.
+ * Commands are read one per line from a script file, or from standard input, and the result of each command is
+ * printed to standard output as soon as it is executed, while logs go to standard error as usual. Blank lines and
+ * lines starting with {@code #} are skipped, a failed command is reported with its line number without stopping the
+ * run, and {@code exit} ends the run early.
+ *
+ * The data is saved in the background every few commands if asked to, and once more when the run ends.
+ */
+public class HeadlessApp {
+
+    public static final String PARAMETER_HEADLESS = "--headless";
+
+    public static final String MESSAGE_COMMAND_FAILED = "Line %d: %s";
+    public static final String MESSAGE_SCRIPT_FAILED = "Could not read commands: %s";
+    public static final String MESSAGE_SAVE_FAILED = "Could not save data: %s";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private static final String COMMENT_PREFIX = "#";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final AddressBookSaver addressBookSaver;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, which saves the data using
+     * {@code addressBookSaver}.
+     */
+    public HeadlessApp(Logic logic, AddressBookSaver addressBookSaver) {
+        requireNonNull(logic);
+        requireNonNull(addressBookSaver);
+        this.logic = logic;
+        this.addressBookSaver = addressBookSaver;
+    }
+
+    /**
+     * Runs ConnectS without a GUI with the parameters described by {@link HeadlessParameters#MESSAGE_USAGE}, and
+     * exits with {@link #EXIT_SUCCESS} if every command succeeded, {@link #EXIT_COMMAND_FAILED} if a command failed,
+     * or {@link #EXIT_ERROR} if the parameters are invalid, or the commands could not be read or the data saved.
+     */
+    public static void main(String[] args) {
+        HeadlessParameters parameters;
+        try {
+            parameters = HeadlessParameters.parse(List.of(args));
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(HeadlessParameters.MESSAGE_USAGE);
+            System.exit(EXIT_ERROR);
+            return;
+        }
+
+        Config config = MainApp.initConfig(parameters.getConfigPath());
+        MainApp.initLogging(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = MainApp.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(MainApp.initAddressBookStorage(userPrefs), userPrefsStorage);
+        Model model = MainApp.initModelManager(storage, userPrefs);
+
+        AddressBookSaver addressBookSaver = new AddressBookSaver(storage, parameters.getSaveInterval());
+        // There is no command box to complete commands in, so the completion engine is given no persons to follow
+        Logic logic = new LogicManager(model, storage, addressBookSaver,
+                new CompletionEngine(FXCollections.emptyObservableList(), Runnable::run));
+        HeadlessApp app = new HeadlessApp(logic, addressBookSaver);
+
+        int exitStatus;
+        try (BufferedReader commands = openCommands(parameters.getScriptPath())) {
+            exitStatus = app.run(commands, System.out) == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_SCRIPT_FAILED, e.getMessage()));
+            exitStatus = EXIT_ERROR;
+        }
+
+        try {
+            app.save();
+        } catch (IOException e) {
+            System.err.println(String.format(MESSAGE_SAVE_FAILED, e.getMessage()));
+            exitStatus = EXIT_ERROR;
+        }
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Executes each line of {@code commands} as a command until they run out or the {@code exit} command is executed,
+     * printing the result of each command to {@code out}.
+     *
+     * @return the number of commands that failed.
+     * @throws IOException if {@code commands} could not be read.
+     */
+    public int run(BufferedReader commands, PrintStream out) throws IOException {
+        requireNonNull(commands);
+        requireNonNull(out);
+        int lineNumber = 0;
+        int commandCount = 0;
+        int failureCount = 0;
+        long startTime = System.nanoTime();
+
+        String line;
+        while ((line = commands.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            commandCount++;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failureCount++;
+                out.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+            }
+        }
+
+        logger.info("Executed " + commandCount + " commands in " + (System.nanoTime() - startTime) / 1_000_000
+                + " ms, " + failureCount + " failed");
+        return failureCount;
+    }
+
+    /**
+     * Saves the data as of the last command executed, and blocks until it and every earlier save is written.
+     *
+     * @throws IOException if a save failed.
+     */
+    public void save() throws IOException {
+        addressBookSaver.save(logic.getAddressBook());
+        addressBookSaver.flush();
+    }
+
+    private static BufferedReader openCommands(Path scriptPath) throws IOException {
+        if (scriptPath == null) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        logger.info("Reading commands from " + scriptPath);
+        return Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+}
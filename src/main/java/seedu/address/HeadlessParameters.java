@@ -0,0 +1,135 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the parsed command-line parameters given to {@link HeadlessApp}, each as {@code --name=value}.
+ */
+public class HeadlessParameters {
+
+    public static final String MESSAGE_USAGE = "Parameters: [--config=CONFIG_FILE] [--script=SCRIPT_FILE] "
+            + "[--save-every=COMMAND_COUNT]\n"
+            + "Commands are read from SCRIPT_FILE, or from standard input if no script is given. "
+            + "The data is saved after every COMMAND_COUNT commands, and once more at the end.";
+    public static final String MESSAGE_UNKNOWN_PARAMETER = "Unknown parameter: %s";
+    public static final String MESSAGE_INVALID_SCRIPT_PATH = "Invalid script file path: %s";
+    public static final String MESSAGE_INVALID_SAVE_INTERVAL = "COMMAND_COUNT should be a non-negative integer: %s";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessParameters.class);
+
+    private Path configPath;
+    private Path scriptPath;
+    private int saveInterval;
+
+    public Path getConfigPath() {
+        return configPath;
+    }
+
+    public void setConfigPath(Path configPath) {
+        this.configPath = configPath;
+    }
+
+    /**
+     * Returns the file to read commands from, or null if they are read from standard input.
+     */
+    public Path getScriptPath() {
+        return scriptPath;
+    }
+
+    public void setScriptPath(Path scriptPath) {
+        this.scriptPath = scriptPath;
+    }
+
+    /**
+     * Returns the number of commands after which the data is saved, or 0 if it is only saved at the end.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Parses the command-line parameters of {@link HeadlessApp}.
+     * An invalid config path is ignored, as it is by {@link AppParameters}.
+     *
+     * @throws IllegalArgumentException if a parameter is unknown, or the script path or save interval is invalid.
+     */
+    public static HeadlessParameters parse(List<String> parameters) {
+        requireNonNull(parameters);
+        HeadlessParameters headlessParameters = new HeadlessParameters();
+        for (String parameter : parameters) {
+            String[] nameAndValue = parameter.split("=", 2);
+            String value = nameAndValue.length == 2 ? nameAndValue[1] : "";
+            switch (nameAndValue[0]) {
+            case "--config":
+                if (value.isEmpty() || !FileUtil.isValidPath(value)) {
+                    logger.warning("Invalid config path " + value + ". Using default config path.");
+                    headlessParameters.setConfigPath(null);
+                } else {
+                    headlessParameters.setConfigPath(Paths.get(value));
+                }
+                break;
+            case "--script":
+                if (value.isEmpty() || !FileUtil.isValidPath(value)) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_INVALID_SCRIPT_PATH, value));
+                }
+                headlessParameters.setScriptPath(Paths.get(value));
+                break;
+            case "--save-every":
+                if (!value.equals("0") && !StringUtil.isNonZeroUnsignedInteger(value)) {
+                    throw new IllegalArgumentException(String.format(MESSAGE_INVALID_SAVE_INTERVAL, value));
+                }
+                headlessParameters.setSaveInterval(Integer.parseInt(value));
+                break;
+            default:
+                throw new IllegalArgumentException(String.format(MESSAGE_UNKNOWN_PARAMETER, parameter));
+            }
+        }
+        return headlessParameters;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HeadlessParameters)) {
+            return false;
+        }
+
+        HeadlessParameters otherHeadlessParameters = (HeadlessParameters) other;
+        return Objects.equals(configPath, otherHeadlessParameters.configPath)
+                && Objects.equals(scriptPath, otherHeadlessParameters.scriptPath)
+                && saveInterval == otherHeadlessParameters.saveInterval;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(configPath, scriptPath, saveInterval);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("configPath", configPath)
+                .add("scriptPath", scriptPath)
+                .add("saveInterval", saveInterval)
+                .toString();
+    }
+}
@@ -22,8 +22,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookSaver;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -33,6 +33,7 @@ import seedu.address.ui.UiManager;
 
 /**
  * Runs the application.
+ * The steps of initialization that need no JavaFX are shared with {@link HeadlessApp}.
  */
 public class MainApp extends Application {
 
@@ -43,6 +44,7 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AddressBookSaver addressBookSaver;
     protected Model model;
     protected Config config;
 
@@ -57,12 +59,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        addressBookSaver = new AddressBookSaver(storage);
+        logic = new LogicManager(model, storage, addressBookSaver);
 
         ui = new UiManager(logic);
     }
@@ -72,7 +75,7 @@ public class MainApp extends Application {
      * The data from the sample ConnectS will be used instead if {@code storage}'s ConnectS is not found,
      * or an empty ConnectS will be used instead if errors occur when reading {@code storage}'s ConnectS.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -93,7 +96,7 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
-    private void initLogging(Config config) {
+    static void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
@@ -102,7 +105,7 @@ public class MainApp extends Application {
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
      * if {@code configFilePath} is null.
      */
-    protected Config initConfig(Path configFilePath) {
+    static Config initConfig(Path configFilePath) {
         Config initializedConfig;
         Path configFilePathUsed;
 
@@ -136,12 +139,21 @@ public class MainApp extends Application {
         return initializedConfig;
     }
 
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     */
+    static AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        logger.info("Using " + userPrefs.getAddressBookFormat() + " data file : " + addressBookFilePath);
+        return AddressBookStorage.forFormat(userPrefs.getAddressBookFormat(), addressBookFilePath);
+    }
+
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
      * or a new {@code UserPrefs} with default configuration if errors occur when
      * reading from the file.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+    static UserPrefs initPrefs(UserPrefsStorage storage) {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using preference file : " + prefsFilePath);
 
@@ -177,6 +189,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        try {
+            addressBookSaver.save(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Failed to save address book earlier " + StringUtil.getDetails(e));
+        }
+        try {
+            addressBookSaver.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
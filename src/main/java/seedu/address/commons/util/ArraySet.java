@@ -0,0 +1,140 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set backed by an array, meant for sets of a few elements.
+ * It takes far less memory than a {@code HashSet}, at the cost of lookups that scan every element.
+ * Any attempt to modify it throws {@code UnsupportedOperationException}.
+ *
+ * @param <E> the type of the elements.
+ */
+public final class ArraySet<E> extends AbstractSet<E> {
+
+    private static final ArraySet<?> EMPTY = new ArraySet<>(new Object[0]);
+
+    private final E[] elements;
+
+    private ArraySet(E[] elements) {
+        this.elements = elements;
+    }
+
+    /**
+     * Returns an {@code ArraySet} with the elements of {@code elements}, ordered by {@code comparator}.
+     * {@code elements} is returned as it is if it already is an {@code ArraySet}.
+     *
+     * @param elements distinct, non-null elements, such as the elements of another set.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ArraySet<E> copyOf(Collection<? extends E> elements, Comparator<? super E> comparator) {
+        requireNonNull(elements);
+        requireNonNull(comparator);
+        if (elements instanceof ArraySet) {
+            return (ArraySet<E>) elements;
+        }
+        if (elements.isEmpty()) {
+            return (ArraySet<E>) EMPTY;
+        }
+
+        E[] array = (E[]) elements.toArray();
+        for (E element : array) {
+            requireNonNull(element);
+        }
+        Arrays.sort(array, comparator);
+        return new ArraySet<>(array);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < elements.length;
+            }
+
+            @Override
+            public E next() {
+                if (next >= elements.length) {
+                    throw new NoSuchElementException();
+                }
+                return elements[next++];
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (E element : elements) {
+            if (element == o || element.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof ArraySet && ((ArraySet<?>) other).elements.length == elements.length) {
+            Object[] otherElements = ((ArraySet<?>) other).elements;
+            // Sets built by the same comparator are usually in the same order
+            boolean isSameOrder = true;
+            for (int i = 0; i < elements.length && isSameOrder; i++) {
+                isSameOrder = Objects.equals(elements[i], otherElements[i]);
+            }
+            if (isSameOrder) {
+                return true;
+            }
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * A BK-tree of distinct terms under the Levenshtein (edit) distance.
+ * Every child of a node is filed under its distance to the node, so by the triangle inequality a search for the terms
+ * within some distance of a query only has to descend into the children filed under distances close to that of the
+ * node, instead of comparing the query against every term.
+ *
+ * Terms cannot be removed; callers that need removal should keep track of the terms still in use themselves.
+ */
+public class BkTree {
+
+    private Node root;
+    private int size;
+
+    /**
+     * Adds {@code term} to the tree.
+     *
+     * @return true if {@code term} was not in the tree before.
+     */
+    public boolean add(String term) {
+        requireNonNull(term);
+        if (root == null) {
+            root = new Node(term);
+            size++;
+            return true;
+        }
+
+        Node node = root;
+        while (true) {
+            int distance = distance(term, node.term);
+            if (distance == 0) {
+                return false;
+            }
+            Node child = node.getChild(distance);
+            if (child == null) {
+                node.setChild(distance, new Node(term));
+                size++;
+                return true;
+            }
+            node = child;
+        }
+    }
+
+    /**
+     * Passes every term within {@code maxDistance} of {@code query}, and its distance to {@code query}, to
+     * {@code consumer}.
+     */
+    public void search(String query, int maxDistance, ObjIntConsumer<String> consumer) {
+        requireNonNull(query);
+        requireNonNull(consumer);
+        if (root == null) {
+            return;
+        }
+
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Node node = pending.pop();
+            int distance = distance(query, node.term);
+            if (distance <= maxDistance) {
+                consumer.accept(node.term, distance);
+            }
+            int from = Math.max(1, distance - maxDistance);
+            int to = Math.min(node.children.length - 1, distance + maxDistance);
+            for (int childDistance = from; childDistance <= to; childDistance++) {
+                if (node.children[childDistance] != null) {
+                    pending.push(node.children[childDistance]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of terms in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}: the least number of single
+     * character insertions, deletions and substitutions that turn one into the other.
+     */
+    public static int distance(String first, String second) {
+        if (first.length() < second.length()) {
+            return distance(second, first);
+        }
+
+        // Two rows of the usual dynamic programming table, over the shorter string
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            char firstChar = first.charAt(i - 1);
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (firstChar == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+
+    /**
+     * A node of the tree, holding its children at the index of their distance to its term.
+     */
+    private static class Node {
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private final String term;
+        private Node[] children = NO_CHILDREN;
+
+        Node(String term) {
+            this.term = term;
+        }
+
+        Node getChild(int distance) {
+            return distance < children.length ? children[distance] : null;
+        }
+
+        void setChild(int distance, Node child) {
+            if (distance >= children.length) {
+                children = Arrays.copyOf(children, distance + 1);
+            }
+            children[distance] = child;
+        }
+    }
+}
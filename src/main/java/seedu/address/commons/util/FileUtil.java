@@ -1,10 +1,14 @@
 package seedu.address.commons.util;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
@@ -65,6 +69,43 @@ public class FileUtil {
         }
     }
 
+    /**
+     * Creates an empty temporary file in the same directory as {@code file}, creating the directory if it is missing.
+     * Keeping the temporary file on the same file system as {@code file} allows it to be atomically moved over
+     * {@code file} with {@link #moveAtomically(Path, Path)}.
+     */
+    public static Path createTempFileBeside(Path file) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        createParentDirsOfFile(absoluteFile);
+        return Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+    }
+
+    /**
+     * Moves {@code source} to {@code target}, replacing {@code target} if it exists.
+     * The move is atomic where the file system supports it, so {@code target} is never seen partially written, and
+     * the directory of {@code target} is synced afterwards, so that the move survives a crash.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(target.toAbsolutePath().getParent());
+    }
+
+    /**
+     * Syncs the entries of {@code directory} to disk, including those of files just moved into or within it.
+     * Does nothing on platforms where directories cannot be opened, such as Windows.
+     */
+    public static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // The directory entries are written out by the file system in its own time
+        }
+    }
+
     /**
      * Assumes file exists
      */
@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value class, looked up by the string they are created from.
+ * Instances are only weakly held, so an instance that is no longer used anywhere else is dropped from the pool.
+ *
+ * @param <T> the type of the pooled instances.
+ */
+public class InternPool<T> {
+
+    private final Map<String, KeyedReference<T>> pool = new HashMap<>();
+    private final ReferenceQueue<T> staleReferences = new ReferenceQueue<>();
+
+    /**
+     * Returns the pooled instance for {@code key}, creating it with {@code factory} if there is none.
+     * Nothing is pooled if {@code factory} throws.
+     */
+    public synchronized T intern(String key, Function<String, ? extends T> factory) {
+        requireAllNonNull(key, factory);
+        removeStaleEntries();
+
+        KeyedReference<T> reference = pool.get(key);
+        T instance = reference == null ? null : reference.get();
+        if (instance == null) {
+            instance = factory.apply(key);
+            pool.put(key, new KeyedReference<>(key, instance, staleReferences));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the number of instances currently in the pool.
+     */
+    public synchronized int size() {
+        removeStaleEntries();
+        return pool.size();
+    }
+
+    private void removeStaleEntries() {
+        Reference<? extends T> reference;
+        while ((reference = staleReferences.poll()) != null) {
+            KeyedReference<?> staleReference = (KeyedReference<?>) reference;
+            pool.remove(staleReference.key, staleReference);
+        }
+    }
+
+    /**
+     * A weak reference to a pooled instance, which remembers the key it is pooled under.
+     */
+    private static class KeyedReference<T> extends WeakReference<T> {
+        private final String key;
+
+        KeyedReference(String key, T instance, ReferenceQueue<? super T> queue) {
+            super(instance, queue);
+            this.key = key;
+        }
+    }
+}
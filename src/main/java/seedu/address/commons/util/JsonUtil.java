@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -11,6 +12,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -39,8 +43,25 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    /**
+     * Streams {@code objectToSerialize} as JSON into a temporary file beside {@code jsonFile}, syncs it to disk and
+     * then moves it over {@code jsonFile}, so that a crash while writing never leaves {@code jsonFile} corrupted.
+     */
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        Path tempFile = FileUtil.createTempFileBeside(jsonFile);
+        try {
+            try (FileOutputStream outputStream = new FileOutputStream(tempFile.toFile());
+                    JsonGenerator generator = objectMapper.getFactory()
+                            .createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.useDefaultPrettyPrinter();
+                objectMapper.writeValue(generator, objectToSerialize);
+                generator.flush();
+                outputStream.getFD().sync();
+            }
+            FileUtil.moveAtomically(tempFile, jsonFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
@@ -79,7 +100,7 @@ public class JsonUtil {
 
     /**
      * Saves the Json object to the specified file.
-     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * Atomically replaces the existing file if it exists, creates a new file if it doesn't.
      * @param jsonFile cannot be null
      * @param filePath cannot be null
      * @throws IOException if there was an error during writing to the file
@@ -92,6 +113,19 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Returns a streaming parser over the JSON file at {@code filePath}.
+     * Values read from it with {@link JsonParser#readValueAs(Class)} are converted the same way as in
+     * {@link #readJsonFile(Path, Class)}.
+     *
+     * @param filePath cannot be null.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        return objectMapper.createParser(filePath.toFile());
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +145,16 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation, on a single line
+     * @param instance The T object to be converted into the JSON string
+     * @param <T> The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in string, without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
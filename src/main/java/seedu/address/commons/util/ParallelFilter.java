@@ -0,0 +1,97 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Tests every element of a list with a predicate in parallel, in fork/join chunks of consecutive elements, and
+ * collects the results in a bitmap of the positions of the elements that pass.
+ *
+ * The list must support fast random access and must not be modified while it is being tested, and the predicate
+ * must be safe to call from several threads at once.
+ */
+public class ParallelFilter {
+
+    /** The default number of consecutive elements tested by one task. */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private static final int BITS_PER_WORD = Long.SIZE;
+
+    /**
+     * Returns true if there is more than one thread to test in parallel with.
+     */
+    public static boolean isParallelismAvailable() {
+        return ForkJoinPool.getCommonPoolParallelism() > 1;
+    }
+
+    /**
+     * Returns the positions of the elements of {@code elements} that pass {@code predicate}, tested in chunks of
+     * {@link #DEFAULT_CHUNK_SIZE} elements in the common fork/join pool.
+     */
+    public static <T> BitSet filter(List<? extends T> elements, Predicate<? super T> predicate) {
+        return filter(elements, predicate, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Returns the positions of the elements of {@code elements} that pass {@code predicate}, tested in chunks of
+     * about {@code chunkSize} elements in the common fork/join pool.
+     */
+    public static <T> BitSet filter(List<? extends T> elements, Predicate<? super T> predicate, int chunkSize) {
+        requireNonNull(elements);
+        requireNonNull(predicate);
+        checkArgument(chunkSize > 0, "Chunk size must be positive");
+
+        // Chunks are whole words of the bitmap, so that no two tasks ever write to the same word
+        int wordsPerChunk = Math.max(1, chunkSize / BITS_PER_WORD);
+        long[] words = new long[(elements.size() + BITS_PER_WORD - 1) / BITS_PER_WORD];
+        ForkJoinPool.commonPool().invoke(new FilterTask<>(elements, predicate, words, 0, words.length,
+                wordsPerChunk));
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Tests the elements covered by the words {@code [fromWord, toWord)} of the bitmap, splitting them in halves
+     * until they are at most one chunk long.
+     */
+    private static class FilterTask<T> extends RecursiveAction {
+        private final List<? extends T> elements;
+        private final Predicate<? super T> predicate;
+        private final long[] words;
+        private final int fromWord;
+        private final int toWord;
+        private final int wordsPerChunk;
+
+        FilterTask(List<? extends T> elements, Predicate<? super T> predicate, long[] words, int fromWord,
+                   int toWord, int wordsPerChunk) {
+            this.elements = elements;
+            this.predicate = predicate;
+            this.words = words;
+            this.fromWord = fromWord;
+            this.toWord = toWord;
+            this.wordsPerChunk = wordsPerChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (toWord - fromWord > wordsPerChunk) {
+                int middleWord = (fromWord + toWord) >>> 1;
+                invokeAll(new FilterTask<>(elements, predicate, words, fromWord, middleWord, wordsPerChunk),
+                        new FilterTask<>(elements, predicate, words, middleWord, toWord, wordsPerChunk));
+                return;
+            }
+
+            int end = Math.min(elements.size(), toWord * BITS_PER_WORD);
+            for (int i = fromWord * BITS_PER_WORD; i < end; i++) {
+                if (predicate.test(elements.get(i))) {
+                    words[i / BITS_PER_WORD] |= 1L << i;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A compressed prefix trie of terms that completes a prefix to the terms starting with it, ignoring case.
+ * Terms are counted, so a term added several times stays in the trie until it has been removed as many times.
+ * Completions are returned in the order of their keys as prepared by {@link StringUtil#toSearchKey(String)}, and
+ * only the nodes on the path to the prefix and the returned terms are visited, however many terms the trie holds.
+ *
+ * Not thread-safe: all access must come from one thread at a time.
+ */
+public class PrefixTrie {
+
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final String[] NO_TERMS = new String[0];
+
+    private final Node root = new Node("");
+    private int size;
+
+    /**
+     * Adds one count of {@code term}.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        String key = StringUtil.toSearchKey(term);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            int childIndex = node.indexOfChild(key.charAt(position));
+            if (childIndex < 0) {
+                Node leaf = new Node(key.substring(position));
+                node.insertChild(-childIndex - 1, leaf);
+                node = leaf;
+                break;
+            }
+
+            Node child = node.children[childIndex];
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length()) {
+                child = splitChild(node, childIndex, common);
+            }
+            node = child;
+            position += common;
+        }
+
+        if (node.addTerm(term)) {
+            size++;
+        }
+    }
+
+    /**
+     * Removes one count of {@code term}. Does nothing if {@code term} is not in the trie.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        if (remove(root, StringUtil.toSearchKey(term), 0, term)) {
+            size--;
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} distinct terms that start with {@code prefix}, ignoring case.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        List<String> completions = new ArrayList<>();
+        if (limit <= 0) {
+            return completions;
+        }
+
+        String key = StringUtil.toSearchKey(prefix);
+        Node node = root;
+        int position = 0;
+        while (position < key.length()) {
+            int childIndex = node.indexOfChild(key.charAt(position));
+            if (childIndex < 0) {
+                return completions;
+            }
+            Node child = node.children[childIndex];
+            int common = commonPrefixLength(child.label, key, position);
+            if (common < child.label.length() && position + common < key.length()) {
+                return completions;
+            }
+            node = child;
+            position += common;
+        }
+
+        collect(node, limit, completions);
+        return completions;
+    }
+
+    /**
+     * Returns the number of distinct terms in the trie.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static void collect(Node node, int limit, List<String> completions) {
+        for (String term : node.terms) {
+            if (completions.size() == limit) {
+                return;
+            }
+            completions.add(term);
+        }
+        for (Node child : node.children) {
+            if (completions.size() == limit) {
+                return;
+            }
+            collect(child, limit, completions);
+        }
+    }
+
+    /**
+     * Removes {@code term} from the subtree of {@code node}, which is reached after {@code position} characters of
+     * {@code key}, and prunes the nodes left without terms.
+     *
+     * @return true if the last count of {@code term} was removed.
+     */
+    private static boolean remove(Node node, String key, int position, String term) {
+        if (position == key.length()) {
+            return node.removeTerm(term);
+        }
+
+        int childIndex = node.indexOfChild(key.charAt(position));
+        if (childIndex < 0) {
+            return false;
+        }
+        Node child = node.children[childIndex];
+        if (!key.startsWith(child.label, position)) {
+            return false;
+        }
+
+        boolean isRemoved = remove(child, key, position + child.label.length(), term);
+        if (child.terms.length == 0 && child.children.length == 0) {
+            node.removeChild(childIndex);
+        } else if (child.terms.length == 0 && child.children.length == 1) {
+            // Merge the child into its only child, so that every node without terms keeps branching
+            Node grandchild = child.children[0];
+            grandchild.label = child.label + grandchild.label;
+            node.children[childIndex] = grandchild;
+        }
+        return isRemoved;
+    }
+
+    /**
+     * Splits the child of {@code parent} at {@code childIndex} after the first {@code length} characters of its
+     * label, and returns the new node holding those characters.
+     */
+    private static Node splitChild(Node parent, int childIndex, int length) {
+        Node child = parent.children[childIndex];
+        Node middle = new Node(child.label.substring(0, length));
+        child.label = child.label.substring(length);
+        middle.children = new Node[] {child};
+        parent.children[childIndex] = middle;
+        return middle;
+    }
+
+    private static int commonPrefixLength(String label, String key, int position) {
+        int length = Math.min(label.length(), key.length() - position);
+        int common = 0;
+        while (common < length && label.charAt(common) == key.charAt(position + common)) {
+            common++;
+        }
+        return common;
+    }
+
+    /**
+     * A node of the trie, reached through an edge labelled with one or more characters of the keys below it.
+     * Children are kept sorted by the first character of their labels, which are all different.
+     */
+    private static class Node {
+        private String label;
+        private Node[] children = NO_CHILDREN;
+
+        // The terms whose key ends at this node, and how many times each was added
+        private String[] terms = NO_TERMS;
+        private int[] counts;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        int indexOfChild(char firstChar) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                char middleChar = children[middle].label.charAt(0);
+                if (middleChar < firstChar) {
+                    low = middle + 1;
+                } else if (middleChar > firstChar) {
+                    high = middle - 1;
+                } else {
+                    return middle;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insertChild(int index, Node child) {
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            newChildren[index] = child;
+            System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+            children = newChildren;
+        }
+
+        void removeChild(int index) {
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            children = newChildren;
+        }
+
+        /**
+         * Returns true if {@code term} was not in this node before.
+         */
+        boolean addTerm(String term) {
+            for (int i = 0; i < terms.length; i++) {
+                if (terms[i].equals(term)) {
+                    counts[i]++;
+                    return false;
+                }
+            }
+            terms = Arrays.copyOf(terms, terms.length + 1);
+            terms[terms.length - 1] = term;
+            counts = counts == null ? new int[1] : Arrays.copyOf(counts, counts.length + 1);
+            counts[counts.length - 1] = 1;
+            return true;
+        }
+
+        /**
+         * Returns true if the last count of {@code term} was removed from this node.
+         */
+        boolean removeTerm(String term) {
+            for (int i = 0; i < terms.length; i++) {
+                if (!terms[i].equals(term)) {
+                    continue;
+                }
+                if (--counts[i] > 0) {
+                    return false;
+                }
+                terms = removeAt(terms, i);
+                int[] newCounts = new int[counts.length - 1];
+                System.arraycopy(counts, 0, newCounts, 0, i);
+                System.arraycopy(counts, i + 1, newCounts, i, counts.length - i - 1);
+                counts = newCounts;
+                return true;
+            }
+            return false;
+        }
+
+        private static String[] removeAt(String[] array, int index) {
+            String[] result = new String[array.length - 1];
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
-import java.util.Arrays;
 
 /**
  * Helper functions for handling strings.
@@ -27,15 +26,32 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
+        String preppedWord = toSearchKeyword(word);
+        return toSearchKey(sentence).contains(preppedWord);
+    }
+
+    /**
+     * Returns the form of {@code sentence} that search keywords prepared by {@link #toSearchKeyword(String)} are
+     * matched against.
+     * A keyword is contained in a word of {@code sentence}, ignoring case, if and only if it is contained in the
+     * returned search key, since a keyword never spans the whitespace between words.
+     */
+    public static String toSearchKey(String sentence) {
+        requireNonNull(sentence);
+        return sentence.toUpperCase();
+    }
+
+    /**
+     * Returns the form of {@code word} that is matched against search keys prepared by {@link #toSearchKey(String)}.
+     *
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static String toSearchKeyword(String word) {
+        requireNonNull(word);
         String preppedWord = word.trim().toUpperCase();
         checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
         checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
-
-        String preppedSentence = sentence.toUpperCase();
-        String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
-
-        return Arrays.stream(wordsInPreppedSentence)
-                .anyMatch(element -> element.contains(preppedWord));
+        return preppedWord;
     }
 
     /**
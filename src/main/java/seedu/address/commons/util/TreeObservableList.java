@@ -0,0 +1,423 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An observable list that keeps its elements in the order of a comparator, backed by a balanced binary tree in which
+ * every node knows the size of its subtree.
+ * Getting the element at an index, finding the index of an element, and adding, removing or replacing an element each
+ * take time logarithmic in the size of the list, and each is reported to listeners as a single change. No two
+ * elements of the list may be equal by the comparator.
+ *
+ * The comparator may only change how it orders the elements of the list while the list is replaced, by
+ * {@link #setAll(Collection)} or {@link #rearrange(int, List)}, which take the elements in their new order.
+ *
+ * The nodes of the tree are never modified: a change builds the nodes on the path it changes anew, and shares the
+ * other nodes with the tree before it. So a snapshot of the elements is taken in constant time, and never changes,
+ * so it can be handed to readers on other threads while the list keeps being modified, but it must be taken on the
+ * thread that modifies the list.
+ *
+ * @param <E> the type of the elements.
+ */
+public class TreeObservableList<E> extends ObservableListBase<E> {
+
+    private final Comparator<? super E> comparator;
+    private Node<E> root;
+    // The snapshot last taken, which is reused until the list is next modified
+    private Snapshot<E> snapshot;
+
+    /**
+     * Creates an empty list that keeps its elements in the order of {@code comparator}.
+     */
+    public TreeObservableList(Comparator<? super E> comparator) {
+        this.comparator = requireNonNull(comparator);
+    }
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        return Node.get(root, index);
+    }
+
+    @Override
+    public int size() {
+        return Node.size(root);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new NodeIterator<>(root);
+    }
+
+    /**
+     * Returns the index of {@code element} in the list, found by identity rather than by equality, or -1 if the
+     * element is not in the list.
+     * {@code element} must be comparable with the elements of the list.
+     */
+    public int positionOf(E element) {
+        int index = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(element, node.element);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                index += Node.size(node.left) + 1;
+                node = node.right;
+            } else {
+                return node.element == element ? index + Node.size(node.left) : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Adds {@code element} at its place in the order of the list.
+     *
+     * @return the index of {@code element}.
+     */
+    public int insert(E element) {
+        requireNonNull(element);
+        int index = countBefore(root, element);
+        beginChange();
+        try {
+            root = Node.insertAt(root, index, element);
+            nextAdd(index, index + 1);
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return index;
+    }
+
+    /**
+     * Removes {@code element}, found by identity, from the list.
+     *
+     * @throws NoSuchElementException if {@code element} is not in the list.
+     */
+    public void delete(E element) {
+        int index = positionOf(element);
+        if (index == -1) {
+            throw new NoSuchElementException();
+        }
+        beginChange();
+        try {
+            root = Node.removeAt(root, index);
+            nextRemove(index, element);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces {@code target}, found by identity, with {@code replacement}, which takes the position of
+     * {@code target} if it belongs there in the order of the list, and is moved to its place otherwise, as a single
+     * change.
+     *
+     * @return the index of {@code replacement}.
+     * @throws NoSuchElementException if {@code target} is not in the list.
+     */
+    public int replace(E target, E replacement) {
+        requireNonNull(replacement);
+        int index = positionOf(target);
+        if (index == -1) {
+            throw new NoSuchElementException();
+        }
+        Node<E> remaining = Node.removeAt(root, index);
+        int newIndex = countBefore(remaining, replacement);
+        beginChange();
+        try {
+            if (newIndex == index) {
+                root = Node.setAt(root, index, replacement);
+                nextSet(index, target);
+            } else {
+                root = Node.insertAt(remaining, newIndex, replacement);
+                nextRemove(index, target);
+                nextAdd(newIndex, newIndex + 1);
+            }
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return newIndex;
+    }
+
+    /**
+     * Replaces the elements from {@code from} on with {@code elements}, which are the same elements in their new
+     * order, as a single permutation. Listeners are only notified if an element moved.
+     */
+    public void rearrange(int from, List<E> elements) {
+        requireNonNull(elements);
+        List<E> allElements = new ArrayList<>(this);
+        Objects.checkFromIndexSize(from, elements.size(), allElements.size());
+        Map<E, Integer> oldIndexes = new IdentityHashMap<>(elements.size());
+        for (int i = from; i < from + elements.size(); i++) {
+            oldIndexes.put(allElements.get(i), i);
+        }
+
+        int[] permutation = new int[elements.size()];
+        boolean isMoved = false;
+        for (int i = 0; i < elements.size(); i++) {
+            Integer oldIndex = oldIndexes.remove(elements.get(i));
+            if (oldIndex == null) {
+                throw new IllegalArgumentException("Elements are not a rearrangement of the list");
+            }
+            permutation[oldIndex - from] = from + i;
+            allElements.set(from + i, elements.get(i));
+            isMoved |= oldIndex != from + i;
+        }
+        if (!isMoved) {
+            return;
+        }
+
+        beginChange();
+        try {
+            root = Node.build(allElements, 0, allElements.size());
+            nextPermutation(from, from + elements.size(), permutation);
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Replaces the elements of the list with {@code elements}, which must be in the order of the list, as a single
+     * change.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        List<E> newElements = new ArrayList<>(elements);
+        beginChange();
+        try {
+            if (root != null) {
+                nextRemove(0, getSnapshot());
+            }
+            root = Node.build(newElements, 0, newElements.size());
+            nextAdd(0, newElements.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        setAll(List.of());
+    }
+
+    /**
+     * Returns an unmodifiable list of the current elements, which does not change when this list is modified.
+     */
+    public List<E> getSnapshot() {
+        if (snapshot == null || snapshot.root != root) {
+            snapshot = new Snapshot<>(root);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the number of elements of the tree at {@code node} that come before {@code element} in the order of
+     * the list, which is the index {@code element} is added at.
+     */
+    private int countBefore(Node<E> node, E element) {
+        int count = 0;
+        while (node != null) {
+            if (comparator.compare(element, node.element) < 0) {
+                node = node.left;
+            } else {
+                count += Node.size(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A node of a balanced binary tree, which is never modified once it is built.
+     * The heights of the subtrees of a node differ by at most one.
+     */
+    private static class Node<E> {
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        private static <E> E get(Node<E> node, int index) {
+            while (true) {
+                int leftSize = size(node.left);
+                if (index < leftSize) {
+                    node = node.left;
+                } else if (index > leftSize) {
+                    index -= leftSize + 1;
+                    node = node.right;
+                } else {
+                    return node.element;
+                }
+            }
+        }
+
+        private static <E> Node<E> setAt(Node<E> node, int index, E element) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return new Node<>(node.element, setAt(node.left, index, element), node.right);
+            } else if (index > leftSize) {
+                return new Node<>(node.element, node.left, setAt(node.right, index - leftSize - 1, element));
+            }
+            return new Node<>(element, node.left, node.right);
+        }
+
+        private static <E> Node<E> insertAt(Node<E> node, int index, E element) {
+            if (node == null) {
+                return new Node<>(element, null, null);
+            }
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                return balance(node.element, insertAt(node.left, index, element), node.right);
+            }
+            return balance(node.element, node.left, insertAt(node.right, index - leftSize - 1, element));
+        }
+
+        private static <E> Node<E> removeAt(Node<E> node, int index) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return balance(node.element, removeAt(node.left, index), node.right);
+            } else if (index > leftSize) {
+                return balance(node.element, node.left, removeAt(node.right, index - leftSize - 1));
+            } else if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            return balance(get(node.right, 0), node.left, removeAt(node.right, 0));
+        }
+
+        /**
+         * Returns a tree of {@code elements} from {@code from}, inclusive, to {@code to}, exclusive, in their order.
+         */
+        private static <E> Node<E> build(List<E> elements, int from, int to) {
+            if (from == to) {
+                return null;
+            }
+            int middle = (from + to) >>> 1;
+            return new Node<>(elements.get(middle), build(elements, from, middle), build(elements, middle + 1, to));
+        }
+
+        /**
+         * Returns a node of {@code element} between {@code left} and {@code right}, whose heights differ by at most
+         * two, rotated so that the heights of its subtrees differ by at most one.
+         */
+        private static <E> Node<E> balance(E element, Node<E> left, Node<E> right) {
+            if (height(left) > height(right) + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+                }
+                return new Node<>(left.right.element, new Node<>(left.element, left.left, left.right.left),
+                        new Node<>(element, left.right.right, right));
+            }
+            if (height(right) > height(left) + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+                }
+                return new Node<>(right.left.element, new Node<>(element, left, right.left.left),
+                        new Node<>(right.element, right.left.right, right.right));
+            }
+            return new Node<>(element, left, right);
+        }
+    }
+
+    /**
+     * An iterator over the elements of a tree in order.
+     */
+    private static class NodeIterator<E> implements Iterator<E> {
+        // The nodes whose elements and right subtrees are still to be visited, with the next node on top
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        private NodeIterator(Node<E> root) {
+            pushLeftmostPath(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.element;
+        }
+
+        private void pushLeftmostPath(Node<E> node) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+        }
+    }
+
+    /**
+     * An unmodifiable list of the elements of a tree.
+     */
+    private static class Snapshot<E> extends AbstractList<E> {
+        private final Node<E> root;
+
+        private Snapshot(Node<E> root) {
+            this.root = root;
+        }
+
+        @Override
+        public E get(int index) {
+            Objects.checkIndex(index, size());
+            return Node.get(root, index);
+        }
+
+        @Override
+        public int size() {
+            return Node.size(root);
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return new NodeIterator<>(root);
+        }
+    }
+}
@@ -2,6 +2,9 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +27,20 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the completions of the word or value being typed at the end of {@code commandText}, computed off the
+     * calling thread.
+     *
+     * @see seedu.address.logic.completion.CompletionEngine#getCompletions(String, int)
+     */
+    CompletableFuture<List<String>> getCompletions(String commandText);
+
+    /**
+     * Sets {@code handler} to receive a message for the user as soon as the changes made by a command fail to be
+     * saved, naming that command. The handler may be called on any thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -34,6 +51,25 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the filtered persons in the module - tutorial group identified by {@code moduleName} and
+     * {@code tutorialName}.
+     *
+     * @see seedu.address.model.Model#getFilteredModTutGroupPersonList(String, String)
+     */
+    List<Person> getFilteredModTutGroupPersonList(String moduleName, String tutorialName);
+
+    /**
+     * Returns an unmodifiable view of the names of the modules that have at least one person.
+     */
+    Set<String> getModuleNames();
+
+    /**
+     * Returns an unmodifiable view of the names of the tutorial groups of {@code moduleName} that have at least one
+     * person.
+     */
+    Set<String> getTutorialNames(String moduleName);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -1,9 +1,14 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,11 +17,13 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.completion.CompletionEngine;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.storage.AddressBookSaver;
 import seedu.address.storage.Storage;
 
 /**
@@ -28,18 +35,43 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String SAVE_FAILURE_FORMAT = "The changes up to command \"%1$s\" were not saved. %2$s";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final AddressBookSaver addressBookSaver;
     private final AddressBookParser addressBookParser;
+    private final CompletionEngine completionEngine;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Changes to the address book are saved to {@code storage} before each command returns.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new AddressBookSaver(storage, Runnable::run),
+                new CompletionEngine(model.getAddressBook().getPersonList(), Runnable::run));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves changes to the
+     * address book using {@code addressBookSaver}.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookSaver addressBookSaver) {
+        this(model, storage, addressBookSaver, new CompletionEngine(model.getAddressBook().getPersonList()));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage} that saves changes to the
+     * address book using {@code addressBookSaver} and completes commands using {@code completionEngine}.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookSaver addressBookSaver,
+            CompletionEngine completionEngine) {
         this.model = model;
         this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
+        this.completionEngine = completionEngine;
         addressBookParser = new AddressBookParser();
     }
 
@@ -47,21 +79,38 @@ public class LogicManager implements Logic {
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        CommandResult commandResult = command.execute(model, storage);
+        model.commitAddressBook();
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            addressBookSaver.save(model.getAddressBook(), commandText);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
 
         return commandResult;
     }
 
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        addressBookSaver.setFailureListener((commandText, failure) ->
+                handler.accept(String.format(SAVE_FAILURE_FORMAT, commandText, getSaveErrorMessage(failure))));
+    }
+
+    @Override
+    public CompletableFuture<List<String>> getCompletions(String commandText) {
+        return completionEngine.getCompletions(commandText, CompletionEngine.DEFAULT_LIMIT);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -72,6 +121,21 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public List<Person> getFilteredModTutGroupPersonList(String moduleName, String tutorialName) {
+        return model.getFilteredModTutGroupPersonList(moduleName, tutorialName);
+    }
+
+    @Override
+    public Set<String> getModuleNames() {
+        return model.getModuleNames();
+    }
+
+    @Override
+    public Set<String> getTutorialNames(String moduleName) {
+        return model.getTutorialNames(moduleName);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
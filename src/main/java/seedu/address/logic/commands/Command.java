@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.storage.Storage;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +18,17 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Executes the command with access to data files through {@code storage}, and returns the result message.
+     * Commands that only operate on the model need not override this, as it executes them on the model alone.
+     *
+     * @param model {@code Model} which the command should operate on.
+     * @param storage {@code Storage} through which the command may read or write data files.
+     * @return feedback message of the operation result for display
+     * @throws CommandException If an error occurs during command execution.
+     */
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        return execute(model);
+    }
+
 }
@@ -14,7 +14,6 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.CollectionUtil;
@@ -24,11 +23,9 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ModTutGroup;
-import seedu.address.model.person.Module;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.TelegramHandle;
-import seedu.address.model.person.Tutorial;
 import seedu.address.model.tag.Tag;
 
 
@@ -82,18 +79,7 @@ public class EditCommand extends Command {
             String moduleName = selectedTabs.get(0);
             String tutorialName = selectedTabs.get(1);
 
-            List<Person> personList = model.getAddressBook().getPersonList();
-            filteredList = personList.stream()
-                    .filter(p -> {
-                        Set<ModTutGroup> modTutGroups = p.getModTutGroups();
-                        Stream<Module> moduleStream = modTutGroups.stream().map(ModTutGroup::getModule);
-                        return moduleStream.anyMatch(m -> m.getName().equals(moduleName));
-                    })
-                    .filter(p -> {
-                        Set<ModTutGroup> modTutGroups = p.getModTutGroups();
-                        Stream<Tutorial> tutorialStream = modTutGroups.stream().map(ModTutGroup::getTutorial);
-                        return tutorialStream.anyMatch(m -> m.getName().equals(tutorialName));
-                    }).toList();
+            filteredList = model.getFilteredModTutGroupPersonList(moduleName, tutorialName);
         }
 
         if (index.getZeroBased() >= filteredList.size()) {
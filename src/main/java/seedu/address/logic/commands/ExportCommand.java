@@ -0,0 +1,94 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Exports all persons in ConnectS to a json or binary data file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Exports all persons in ConnectS to a data file. "
+            + "The file is written in json if its name ends in .json, or in binary if it ends in .bin.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.bin";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s in %3$d ms";
+    public static final String MESSAGE_FAILURE = "Could not export to %1$s: %2$s";
+
+    private final Path filePath;
+    private final AddressBookFormat format;
+
+    /**
+     * Creates an ExportCommand to export to the data file at {@code filePath} in the given {@code format}.
+     */
+    public ExportCommand(Path filePath, AddressBookFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Throws {@code CommandException}, as the command reads or writes a data file, which needs a {@code Storage}.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(Messages.MESSAGE_STORAGE_UNAVAILABLE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+
+        long startTime = System.nanoTime();
+        try {
+            storage.exportAddressBook(addressBook, filePath, format);
+        } catch (IOException | SecurityException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, e.getMessage()), e);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.getPersonList().size(), filePath,
+                elapsedMillis));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
@@ -2,37 +2,53 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MOD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM_FUZZY;
+
+import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.ModTutGroup;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.predicates.FieldContainsKeywordsPredicate;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all persons in address book who match a query of keyword searches over their fields.
+ * Keyword matching is case insensitive, and for fuzzy keywords also tolerates typos.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names/telegram handle/email "
-            + "contain any of the specified keywords (case-insensitive) "
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names/telegram handle/email/"
+            + "module - tutorial groups/tags contain any of the specified keywords (case-insensitive) "
             + "and displays them as a list with index numbers.\n"
+            + "Searches can be combined with AND, OR, NOT and parentheses; searches with nothing between them must "
+            + "all match.\n"
             + "[" + PREFIX_NAME + "NAME KEYWORD]... "
             + "[" + PREFIX_TELEGRAM + "TELEGRAM HANDLE KEYWORD]... "
             + "[" + PREFIX_EMAIL + "EMAIL KEYWORD]... "
-            + "Example: " + COMMAND_WORD + " n/alice t/@alicewu e/al1999@example.com";
+            + "[" + PREFIX_MOD + "MODULE OR MODULE-TUTORIAL KEYWORD]... "
+            + "[" + PREFIX_TAG + "TAG KEYWORD]... "
+            + "[" + PREFIX_NAME_FUZZY + "FUZZY NAME KEYWORD]... "
+            + "[" + PREFIX_TELEGRAM_FUZZY + "FUZZY TELEGRAM HANDLE KEYWORD]... "
+            + "Example: " + COMMAND_WORD + " n/alice t/@alicewu e/al1999@example.com n~/alcie\n"
+            + "Example: " + COMMAND_WORD + " n/tan AND m/CS2103T AND NOT (tag/TA OR m/CS2103T-T10)";
     public static final String MESSAGE_EMPTY_NAME = "The name that you gave was empty.";
     public static final String MESSAGE_EMPTY_TELEGRAMHANDLE = "The telegram handle that you gave was empty.";
     public static final String MESSAGE_EMPTY_EMAIL = "The email that you gave was empty.";
-    private FieldContainsKeywordsPredicate predicate;
+    public static final String MESSAGE_EMPTY_MODULE = "The module that you gave was empty.";
+    public static final String MESSAGE_EMPTY_TAG = "The tag that you gave was empty.";
+    public static final String MESSAGE_FUZZY_NOT_COMBINED = "A search that allows for typos ("
+            + PREFIX_NAME_FUZZY + ", " + PREFIX_TELEGRAM_FUZZY + ") cannot be combined with other searches.";
+    private Predicate<Person> predicate;
 
-    public FindCommand(FieldContainsKeywordsPredicate predicate) {
+    public FindCommand(Predicate<Person> predicate) {
         this.predicate = predicate;
     }
 
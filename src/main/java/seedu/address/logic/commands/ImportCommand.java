@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Replaces all persons in ConnectS with the persons in a json or binary data file.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Replaces all persons in ConnectS with the persons "
+            + "in a data file. The file is read as json if its name ends in .json, or as binary if it ends in .bin.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/backup.bin";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s in %3$d ms";
+    public static final String MESSAGE_FILE_NOT_FOUND = "No data file found at %1$s";
+    public static final String MESSAGE_FAILURE = "Could not import from %1$s: %2$s";
+
+    private final Path filePath;
+    private final AddressBookFormat format;
+
+    /**
+     * Creates an ImportCommand to import from the data file at {@code filePath} in the given {@code format}.
+     */
+    public ImportCommand(Path filePath, AddressBookFormat format) {
+        requireNonNull(filePath);
+        requireNonNull(format);
+        this.filePath = filePath;
+        this.format = format;
+    }
+
+    /**
+     * Throws {@code CommandException}, as the command reads or writes a data file, which needs a {@code Storage}.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        throw new CommandException(Messages.MESSAGE_STORAGE_UNAVAILABLE);
+    }
+
+    @Override
+    public CommandResult execute(Model model, Storage storage) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(storage);
+
+        long startTime = System.nanoTime();
+        Optional<ReadOnlyAddressBook> addressBook;
+        try {
+            addressBook = storage.importAddressBook(filePath, format);
+        } catch (DataLoadingException | SecurityException e) {
+            Throwable cause = e.getCause() == null ? e : e.getCause();
+            throw new CommandException(String.format(MESSAGE_FAILURE, filePath, cause.getMessage()), e);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        if (!addressBook.isPresent()) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        }
+        model.setAddressBook(addressBook.get());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, addressBook.get().getPersonList().size(), filePath,
+                elapsedMillis));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath)
+                && format == otherImportCommand.format;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .toString();
+    }
+}
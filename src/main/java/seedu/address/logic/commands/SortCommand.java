@@ -2,31 +2,61 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Comparator;
-
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 
 /**
- * Sorts the list of persons in the address book.
+ * Sorts the list of persons in the address book, and keeps it sorted as persons are added and edited.
  */
 public class SortCommand extends Command {
     public static final String COMMAND_WORD = "sort";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Sorts the list of persons in the address book in alphabetical order.\n"
-            + "Parameters: None";
+            + ": Sorts the list of persons in the address book in alphabetical order of the given fields, "
+            + "and keeps it sorted as persons are added and edited. "
+            + "Later fields are only compared for persons whose earlier fields are the same.\n"
+            + "Parameters: [FIELD]... (each one of name, handle, email, mod, tag; by name if none are given)\n"
+            + "Example: " + COMMAND_WORD + " mod name";
 
     public static final String MESSAGE_SUCCESS = "Sorted all persons";
 
-    // Comparator to compare the names of two persons in lexicographical order
-    public static final Comparator<Person> COMPARATOR = (person1, person2)
-            -> person1.getName().fullName.compareTo(person2.getName().fullName);
+    private final PersonOrder order;
+
+    /**
+     * Creates a SortCommand to sort the persons in {@code order}.
+     */
+    public SortCommand(PersonOrder order) {
+        requireNonNull(order);
+        this.order = order;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.sortAddressBook(COMPARATOR);
+        model.sortAddressBook(order);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof SortCommand)) {
+            return false;
+        }
+
+        SortCommand otherSortCommand = (SortCommand) other;
+        return order.equals(otherSortCommand.order);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("order", order)
+                .toString();
+    }
 }
@@ -3,12 +3,9 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MOD;
 
-import java.util.Map;
-
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.ModTutGroup;
 
 /**
  * Changes the tab view of the GUI to the specified Module-Tutorial Group.
@@ -22,8 +19,6 @@ public class ViewCommand extends Command {
 
     public static final String MESSAGE_SUCCESS = "Viewing Tab: %1$s";
 
-    private static final Map<String, Map<String, Integer>> moduleMap = ModTutGroup.getModuleMap();
-
     public final String moduleName;
     public final String tutorialName;
     public final String modTutGroup;
@@ -50,12 +45,8 @@ public class ViewCommand extends Command {
         requireNonNull(model);
         model.setViewAll(false);
 
-        if (!moduleMap.containsKey(moduleName)) {
+        if (!model.getTutorialNames(moduleName).contains(tutorialName)) {
             throw new CommandException(String.format(Messages.MESSAGE_INVALID_MODULE_TUTORIAL_GROUP, modTutGroup));
-        } else {
-            if (!moduleMap.get(moduleName).containsKey(tutorialName)) {
-                throw new CommandException(String.format(Messages.MESSAGE_INVALID_MODULE_TUTORIAL_GROUP, modTutGroup));
-            }
         }
 
         model.setSelectedTabs(moduleName, tutorialName);
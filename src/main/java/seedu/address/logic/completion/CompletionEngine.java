@@ -0,0 +1,195 @@
+package seedu.address.logic.completion;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MOD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.person.ModTutGroup;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Completes partially typed commands from prefix tries over the command words and the values of the persons in a
+ * person list: names, telegram handles, emails, modules, module - tutorial groups and tags.
+ *
+ * The tries are updated from the changes to the person list, and both the updates and the completions run one at a
+ * time on the executor of the engine, so completions never hold up the thread that modifies the list.
+ */
+public class CompletionEngine {
+
+    public static final int DEFAULT_LIMIT = 8;
+
+    private static final Prefix[] COMPLETED_PREFIXES = {
+        PREFIX_NAME, PREFIX_TELEGRAM, PREFIX_EMAIL, PREFIX_MOD, PREFIX_TAG
+    };
+
+    private static final char MOD_TUT_SEPARATOR = '-';
+
+    private final Executor executor;
+
+    // Only accessed by the executor
+    private final PrefixTrie commandWords = new PrefixTrie();
+    private final PrefixTrie names = new PrefixTrie();
+    private final PrefixTrie telegramHandles = new PrefixTrie();
+    private final PrefixTrie emails = new PrefixTrie();
+    private final PrefixTrie modules = new PrefixTrie();
+    private final PrefixTrie modTutGroups = new PrefixTrie();
+    private final PrefixTrie tags = new PrefixTrie();
+
+    /**
+     * Creates a {@code CompletionEngine} for {@code persons} that runs on its own background thread.
+     */
+    public CompletionEngine(ObservableList<Person> persons) {
+        this(persons, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CompletionEngine");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code CompletionEngine} for {@code persons} that runs using {@code executor}.
+     * {@code executor} must run its tasks one at a time, in the order they are submitted.
+     */
+    public CompletionEngine(ObservableList<Person> persons, Executor executor) {
+        requireNonNull(persons);
+        requireNonNull(executor);
+        this.executor = executor;
+
+        List<Person> initialPersons = new ArrayList<>(persons);
+        executor.execute(() -> {
+            AddressBookParser.COMMAND_WORDS.forEach(commandWords::add);
+            initialPersons.forEach(this::addPerson);
+        });
+        persons.addListener((ListChangeListener<Person>) this::handlePersonsChanged);
+    }
+
+    /**
+     * Returns, on the executor of the engine, up to {@code limit} completions of the word or value being typed at the
+     * end of {@code commandText}. Each completion is the whole command text with that word or value completed.
+     */
+    public CompletableFuture<List<String>> getCompletions(String commandText, int limit) {
+        requireNonNull(commandText);
+        return CompletableFuture.supplyAsync(() -> complete(commandText, limit), executor);
+    }
+
+    private List<String> complete(String commandText, int limit) {
+        String strippedText = commandText.stripLeading();
+        if (strippedText.isEmpty()) {
+            return List.of();
+        }
+        if (strippedText.chars().noneMatch(Character::isWhitespace)) {
+            String leadingSpace = commandText.substring(0, commandText.length() - strippedText.length());
+            return withoutCommandText(commandText,
+                    completeValue(commandWords, leadingSpace, strippedText, " ", limit), limit);
+        }
+
+        int valueStart = -1;
+        Prefix prefix = null;
+        for (Prefix candidate : COMPLETED_PREFIXES) {
+            int prefixStart = commandText.lastIndexOf(" " + candidate.getPrefix());
+            int candidateValueStart = prefixStart + 1 + candidate.getPrefix().length();
+            if (prefixStart >= 0 && candidateValueStart > valueStart) {
+                valueStart = candidateValueStart;
+                prefix = candidate;
+            }
+        }
+        if (prefix == null) {
+            return List.of();
+        }
+
+        String head = commandText.substring(0, valueStart);
+        String value = commandText.substring(valueStart);
+        List<String> completions;
+        if (prefix.equals(PREFIX_NAME)) {
+            completions = completeValue(names, head, value, "", limit);
+        } else if (prefix.equals(PREFIX_TELEGRAM)) {
+            completions = completeValue(telegramHandles, head, value, "", limit);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            completions = completeValue(emails, head, value, "", limit);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            completions = completeValue(tags, head, value, "", limit);
+        } else if (value.indexOf(MOD_TUT_SEPARATOR) < 0) {
+            completions = completeValue(modules, head, value, String.valueOf(MOD_TUT_SEPARATOR), limit);
+        } else {
+            completions = completeValue(modTutGroups, head, value, "", limit);
+        }
+        return withoutCommandText(commandText, completions, limit);
+    }
+
+    private static List<String> completeValue(PrefixTrie trie, String head, String value, String tail, int limit) {
+        // One extra, in case the value is already complete and its completion is dropped
+        List<String> terms = trie.complete(value, limit + 1);
+        List<String> completions = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            completions.add(head + term + tail);
+        }
+        return completions;
+    }
+
+    private static List<String> withoutCommandText(String commandText, List<String> completions, int limit) {
+        return completions.stream()
+                .filter(completion -> !completion.equals(commandText))
+                .limit(limit)
+                .toList();
+    }
+
+    private void handlePersonsChanged(ListChangeListener.Change<? extends Person> change) {
+        List<Person> removedPersons = new ArrayList<>();
+        List<Person> addedPersons = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            removedPersons.addAll(change.getRemoved());
+            addedPersons.addAll(change.getAddedSubList());
+        }
+        if (removedPersons.isEmpty() && addedPersons.isEmpty()) {
+            return;
+        }
+        executor.execute(() -> {
+            removedPersons.forEach(this::removePerson);
+            addedPersons.forEach(this::addPerson);
+        });
+    }
+
+    private void addPerson(Person person) {
+        names.add(person.getName().fullName);
+        telegramHandles.add(person.getTelegramHandle().value);
+        emails.add(person.getEmail().value);
+        for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+            modules.add(modTutGroup.getModule().getName());
+            modTutGroups.add(modTutGroup.value);
+        }
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    private void removePerson(Person person) {
+        names.remove(person.getName().fullName);
+        telegramHandles.remove(person.getTelegramHandle().value);
+        emails.remove(person.getEmail().value);
+        for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+            modules.remove(modTutGroup.getModule().getName());
+            modTutGroups.remove(modTutGroup.value);
+        }
+        for (Tag tag : person.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+}
@@ -11,4 +11,6 @@ public class CliSyntax {
     public static final Prefix PREFIX_TELEGRAM = new Prefix("t/");
     public static final Prefix PREFIX_MOD = new Prefix("m/");
     public static final Prefix PREFIX_TAG = new Prefix("tag/");
+    public static final Prefix PREFIX_NAME_FUZZY = new Prefix("n~/");
+    public static final Prefix PREFIX_TELEGRAM_FUZZY = new Prefix("t~/");
 }
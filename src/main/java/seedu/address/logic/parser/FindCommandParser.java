@@ -3,25 +3,52 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MOD;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM_FUZZY;
 
-import java.util.Arrays;
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.predicates.AlwaysTrueKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.predicates.AndPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FuzzyMatchPredicate;
+import seedu.address.model.person.predicates.ModTutGroupContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.OrPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.TelegramHandleContainsKeywordsPredicate;
 
 /**
  * Parses input arguments and creates a new FindCommand object
+ *
+ * The arguments are a query of clauses, each a prefix followed by one or more keywords, combined with the operators
+ * {@code AND}, {@code OR} and {@code NOT} and grouped with parentheses. {@code NOT} binds tightest and {@code OR}
+ * loosest, and clauses with no operator between them are combined with {@code AND}.
+ * A clause that allows for typos cannot be combined with other clauses.
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+
+    private static final Prefix[] CLAUSE_PREFIXES = {
+        PREFIX_NAME, PREFIX_TELEGRAM, PREFIX_EMAIL, PREFIX_MOD, PREFIX_TAG, PREFIX_NAME_FUZZY, PREFIX_TELEGRAM_FUZZY
+    };
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
@@ -29,55 +56,177 @@ public class FindCommandParser implements Parser<FindCommand> {
      */
     public FindCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_TELEGRAM, PREFIX_EMAIL);
+        QueryReader reader = new QueryReader(args);
+        if (!reader.hasNext()) {
+            throw invalidFormat();
+        }
 
-        argMultimap.verifyOnlyOnePrefixFor(PREFIX_NAME, PREFIX_TELEGRAM, PREFIX_EMAIL);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_TELEGRAM, PREFIX_EMAIL);
+        Predicate<Person> predicate = reader.readOr();
+        if (reader.hasNext()) {
+            throw invalidFormat();
+        }
+        if (reader.hasFuzzyClause && !(predicate instanceof FuzzyMatchPredicate)) {
+            throw new ParseException(FindCommand.MESSAGE_FUZZY_NOT_COMBINED);
+        }
+        return new FindCommand(predicate);
+    }
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_TELEGRAM, PREFIX_EMAIL)
-                || !argMultimap.getPreamble().isEmpty()) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * Returns the prefix that {@code token} starts with, or null if it does not start with a clause prefix.
+     */
+    private static Prefix getClausePrefix(String token) {
+        for (Prefix prefix : CLAUSE_PREFIXES) {
+            if (token.startsWith(prefix.getPrefix())) {
+                return prefix;
+            }
         }
+        return null;
+    }
 
-        FieldContainsKeywordsPredicate predicate = new AlwaysTrueKeywordsPredicate();
+    /**
+     * Returns the predicate of a clause of {@code prefix} with {@code keywords}.
+     */
+    private static Predicate<Person> createClause(Prefix prefix, List<String> keywords) throws ParseException {
+        if (prefix.equals(PREFIX_NAME)) {
+            requireKeywords(keywords, FindCommand.MESSAGE_EMPTY_NAME);
+            return new NameContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_TELEGRAM)) {
+            requireKeywords(keywords, FindCommand.MESSAGE_EMPTY_TELEGRAMHANDLE);
+            return new TelegramHandleContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            requireKeywords(keywords, FindCommand.MESSAGE_EMPTY_EMAIL);
+            return new EmailContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_MOD)) {
+            requireKeywords(keywords, FindCommand.MESSAGE_EMPTY_MODULE);
+            return new ModTutGroupContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            requireKeywords(keywords, FindCommand.MESSAGE_EMPTY_TAG);
+            return new TagContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_NAME_FUZZY)) {
+            requireKeywords(keywords, FindCommand.MESSAGE_EMPTY_NAME);
+            return new FuzzyMatchPredicate(keywords, SearchField.NAME);
+        } else {
+            requireKeywords(keywords, FindCommand.MESSAGE_EMPTY_TELEGRAMHANDLE);
+            return new FuzzyMatchPredicate(keywords, SearchField.TELEGRAM_HANDLE);
+        }
+    }
 
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
+    private static void requireKeywords(List<String> keywords, String message) throws ParseException {
+        if (keywords.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, message));
+        }
+    }
 
-            if (argMultimap.getValue(PREFIX_NAME).get().isEmpty()) {
-                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_EMPTY_NAME));
+    /**
+     * Reads a query from its tokens: words, with the parentheses at their start and end split off.
+     */
+    private static class QueryReader {
+        private final List<String> tokens = new ArrayList<>();
+        private int position;
+        private boolean hasFuzzyClause;
+
+        QueryReader(String args) {
+            for (String word : args.trim().split("\\s+")) {
+                int start = 0;
+                int end = word.length();
+                while (start < end && word.startsWith(OPEN_PARENTHESIS, start)) {
+                    tokens.add(OPEN_PARENTHESIS);
+                    start++;
+                }
+                int closing = 0;
+                while (end > start && word.startsWith(CLOSE_PARENTHESIS, end - 1)) {
+                    closing++;
+                    end--;
+                }
+                if (start < end) {
+                    tokens.add(word.substring(start, end));
+                }
+                for (int i = 0; i < closing; i++) {
+                    tokens.add(CLOSE_PARENTHESIS);
+                }
             }
-            String[] nameKeywords = argMultimap.getValue(PREFIX_NAME).get().split("\\s+");
-            predicate = new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords));
+        }
 
-        } else if (argMultimap.getValue(PREFIX_TELEGRAM).isPresent()) {
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        private boolean isNext(String token) {
+            return hasNext() && tokens.get(position).equals(token);
+        }
 
-            if (argMultimap.getValue(PREFIX_TELEGRAM).get().isEmpty()) {
-                throw new ParseException(String.format(
-                        MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_EMPTY_TELEGRAMHANDLE));
+        private boolean isNextKeyword() {
+            if (!hasNext()) {
+                return false;
             }
-            String[] telegramKeywords = argMultimap.getValue(PREFIX_TELEGRAM).get().split("\\s+");
-            predicate = (new TelegramHandleContainsKeywordsPredicate(Arrays.asList(telegramKeywords)));
+            String token = tokens.get(position);
+            return !token.equals(OPERATOR_AND) && !token.equals(OPERATOR_OR) && !token.equals(OPERATOR_NOT)
+                    && !token.equals(OPEN_PARENTHESIS) && !token.equals(CLOSE_PARENTHESIS)
+                    && getClausePrefix(token) == null;
+        }
 
-        } else if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
+        Predicate<Person> readOr() throws ParseException {
+            List<Predicate<Person>> operands = new ArrayList<>();
+            operands.add(readAnd());
+            while (isNext(OPERATOR_OR)) {
+                position++;
+                operands.add(readAnd());
+            }
+            return operands.size() == 1 ? operands.get(0) : new OrPredicate(operands);
+        }
 
-            if (argMultimap.getValue(PREFIX_EMAIL).get().isEmpty()) {
-                throw new ParseException(String.format(
-                        MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_EMPTY_EMAIL));
+        private Predicate<Person> readAnd() throws ParseException {
+            List<Predicate<Person>> operands = new ArrayList<>();
+            operands.add(readNot());
+            while (hasNext() && !isNext(OPERATOR_OR) && !isNext(CLOSE_PARENTHESIS)) {
+                if (isNext(OPERATOR_AND)) {
+                    position++;
+                }
+                operands.add(readNot());
             }
-            String[] emailKeywords = argMultimap.getValue(PREFIX_EMAIL).get().split("\\s+");
-            predicate = new EmailContainsKeywordsPredicate(Arrays.asList(emailKeywords));
+            return operands.size() == 1 ? operands.get(0) : new AndPredicate(operands);
+        }
 
+        private Predicate<Person> readNot() throws ParseException {
+            if (isNext(OPERATOR_NOT)) {
+                position++;
+                return new NotPredicate(readNot());
+            }
+            if (isNext(OPEN_PARENTHESIS)) {
+                position++;
+                Predicate<Person> predicate = readOr();
+                if (!isNext(CLOSE_PARENTHESIS)) {
+                    throw invalidFormat();
+                }
+                position++;
+                return predicate;
+            }
+            return readClause();
         }
 
-        return new FindCommand(predicate);
-    }
+        private Predicate<Person> readClause() throws ParseException {
+            Prefix prefix = hasNext() ? getClausePrefix(tokens.get(position)) : null;
+            if (prefix == null) {
+                throw invalidFormat();
+            }
 
-    /**
-     * Returns true if at least of the prefixes contains non-empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
-     */
-    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        return Stream.of(prefixes).anyMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+            List<String> keywords = new ArrayList<>();
+            String firstKeyword = tokens.get(position).substring(prefix.getPrefix().length());
+            if (!firstKeyword.isEmpty()) {
+                keywords.add(firstKeyword);
+            }
+            position++;
+            while (isNextKeyword()) {
+                keywords.add(tokens.get(position));
+                position++;
+            }
+
+            hasFuzzyClause |= prefix.equals(PREFIX_NAME_FUZZY) || prefix.equals(PREFIX_TELEGRAM_FUZZY);
+            return createClause(prefix, keywords);
+        }
     }
 }
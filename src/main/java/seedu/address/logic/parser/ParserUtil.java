@@ -2,13 +2,17 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ModTutGroup;
 import seedu.address.model.person.Name;
@@ -20,7 +24,12 @@ import seedu.address.model.tag.Tag;
  */
 public class ParserUtil {
 
+    public static final String JSON_FILE_EXTENSION = ".json";
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_DATA_FILE = "Data file should be a valid file path ending in "
+            + JSON_FILE_EXTENSION + " or " + BINARY_FILE_EXTENSION;
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -103,7 +112,7 @@ public class ParserUtil {
         if (!ModTutGroup.isValidModTutGroup(trimmedModTutGroup)) {
             throw new ParseException(ModTutGroup.MESSAGE_CONSTRAINTS);
         }
-        return new ModTutGroup(trimmedModTutGroup);
+        return ModTutGroup.of(trimmedModTutGroup);
     }
 
     /**
@@ -135,7 +144,7 @@ public class ParserUtil {
         if (!Tag.isValidTagName(trimmedTag)) {
             throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(trimmedTag);
+        return Tag.of(trimmedTag);
     }
 
     /**
@@ -149,4 +158,36 @@ public class ParserUtil {
         }
         return tagSet;
     }
+
+    /**
+     * Parses a {@code String dataFilePath} into a {@code Path} to a json or binary data file.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code dataFilePath} is not a valid path, or does not end in a data file
+     *     extension.
+     */
+    public static Path parseDataFilePath(String dataFilePath) throws ParseException {
+        requireNonNull(dataFilePath);
+        String trimmedDataFilePath = dataFilePath.trim();
+        String lowerCaseDataFilePath = trimmedDataFilePath.toLowerCase();
+        if (!FileUtil.isValidPath(trimmedDataFilePath)
+                || !(lowerCaseDataFilePath.endsWith(JSON_FILE_EXTENSION)
+                        || lowerCaseDataFilePath.endsWith(BINARY_FILE_EXTENSION))
+                || lowerCaseDataFilePath.equals(JSON_FILE_EXTENSION)
+                || lowerCaseDataFilePath.equals(BINARY_FILE_EXTENSION)) {
+            throw new ParseException(MESSAGE_INVALID_DATA_FILE);
+        }
+        return Paths.get(trimmedDataFilePath);
+    }
+
+    /**
+     * Returns the format of the data file at {@code dataFilePath}, as given by its extension.
+     * {@code dataFilePath} must have been parsed by {@link #parseDataFilePath(String)}.
+     */
+    public static AddressBookFormat parseDataFileFormat(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.toString().toLowerCase().endsWith(BINARY_FILE_EXTENSION)
+                ? AddressBookFormat.BINARY
+                : AddressBookFormat.JSON;
+    }
 }
@@ -3,12 +3,25 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Function;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FuzzyIndex;
+import seedu.address.model.person.ModTutGroupIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.TrigramIndex;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -18,6 +31,18 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ModTutGroupIndex modTutGroupIndex;
+    private final TrigramIndex trigramIndex;
+    private final FuzzyIndex fuzzyIndex;
+
+    // Incremented by every change to the person list, before any other listener of the list is notified of it
+    private long personListVersion;
+    // Incremented by every change of the person order, which may or may not change the person list as well
+    private long personOrderVersion;
+    // The last entry of the log of changes to the person list, from which the changes between snapshots are taken
+    private ChangeLogEntry lastChangeLogEntry = new ChangeLogEntry();
+    // The snapshot last taken, which is reused until the version changes
+    private AddressBookSnapshot snapshot;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -28,6 +53,17 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        modTutGroupIndex = new ModTutGroupIndex(persons::positionOf);
+        trigramIndex = new TrigramIndex(persons.asUnmodifiableObservableList());
+        fuzzyIndex = new FuzzyIndex(persons.asUnmodifiableObservableList());
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> {
+            personListVersion++;
+            // The snapshot would keep the changes since it was taken from being forgotten until the next snapshot
+            snapshot = null;
+            for (PersonListChange personListChange : PersonListChange.of(change)) {
+                lastChangeLogEntry = lastChangeLogEntry.append(personListChange);
+            }
+        });
     }
 
     public AddressBook() {
@@ -44,11 +80,14 @@ public class AddressBook implements ReadOnlyAddressBook {
     //// list overwrite operations
 
     /**
-     * Replaces the contents of the person list with {@code persons}.
+     * Replaces the contents of the person list with {@code persons}, sorted in the person order if there is one.
      * {@code persons} must not contain duplicate persons.
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        modTutGroupIndex.setPersons(this.persons.asUnmodifiableObservableList());
+        trigramIndex.invalidate();
+        fuzzyIndex.invalidate();
     }
 
     /**
@@ -57,7 +96,67 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        // The persons of newData are already in its order, so they are not sorted until its order is set
+        setPersonOrder(null);
         setPersons(newData.getPersonList());
+        setPersonOrder(newData.getPersonOrder().orElse(null));
+    }
+
+    /**
+     * Replaces the persons with {@code persons} and the person order with {@code order}, where {@code persons} are
+     * already in that order, such as the persons of an earlier state of this address book.
+     * Unlike {@link #resetData(ReadOnlyAddressBook)}, the search indexes are only updated for the persons that are
+     * not in both the old and the new persons, unless most of the persons differ, and the persons in both keep the
+     * keys prepared for the person order if the order stays the same.
+     */
+    protected void restore(List<Person> persons, PersonOrder order) {
+        requireAllNonNull(persons);
+        // The persons left in the map after the new persons are taken out of it are the removed persons
+        Map<Person, Boolean> removedPersonMap = new IdentityHashMap<>(getPersonList().size());
+        getPersonList().forEach(person -> removedPersonMap.put(person, true));
+        List<Person> addedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            if (removedPersonMap.remove(person) == null) {
+                addedPersons.add(person);
+            }
+        }
+        Set<Person> removedPersons = removedPersonMap.keySet();
+
+        if (!Objects.equals(order, getPersonOrder().orElse(null))) {
+            setPersonOrder(null);
+        }
+        this.persons.restorePersons(persons, removedPersons, addedPersons);
+        modTutGroupIndex.setPersons(this.persons.asUnmodifiableObservableList());
+        setPersonOrder(order);
+
+        if (removedPersons.size() + addedPersons.size() > persons.size() / 2) {
+            trigramIndex.invalidate();
+            fuzzyIndex.invalidate();
+            return;
+        }
+        for (Person person : removedPersons) {
+            trigramIndex.remove(person);
+            fuzzyIndex.remove(person);
+        }
+        for (Person person : addedPersons) {
+            trigramIndex.add(person);
+            fuzzyIndex.add(person);
+        }
+    }
+
+    /**
+     * Sorts the persons in {@code order}, and keeps them in that order as they are added and edited.
+     * If {@code order} is null, the persons keep their positions, and are added to the end of the list from now on.
+     * Pinned persons stay at the top of the list either way.
+     */
+    public void setPersonOrder(PersonOrder order) {
+        if (Objects.equals(order, persons.getOrder().orElse(null))) {
+            return;
+        }
+        persons.setOrder(order);
+        modTutGroupIndex.setPersons(persons.asUnmodifiableObservableList());
+        // The order is part of the data even if the persons were already in it
+        personOrderVersion++;
     }
 
     //// person-level operations
@@ -84,6 +183,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        modTutGroupIndex.add(p);
+        trigramIndex.add(p);
+        fuzzyIndex.add(p);
     }
 
     /**
@@ -95,6 +197,9 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        modTutGroupIndex.setPerson(target, editedPerson);
+        trigramIndex.setPerson(target, editedPerson);
+        fuzzyIndex.setPerson(target, editedPerson);
     }
 
     /**
@@ -103,14 +208,39 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        modTutGroupIndex.remove(key);
+        trigramIndex.remove(key);
+        fuzzyIndex.remove(key);
     }
 
     /**
-     * Sorts the persons in the address book using the given {@code comparator}.
+     * Replaces every person in ConnectS with the result of applying {@code mapper} to it, or removes the person if
+     * the result is null, in a single pass. Only the persons that were replaced or removed are updated in the search
+     * indexes, unless most of the persons changed.
+     * The person identities of the replacements must be unique.
      */
-    public void sort(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        persons.sort(comparator);
+    public void replaceOrRemovePersons(Function<? super Person, Person> mapper) {
+        requireNonNull(mapper);
+        Map<Person, Person> changes = persons.replaceOrRemoveAll(mapper);
+        if (changes.isEmpty()) {
+            return;
+        }
+        modTutGroupIndex.replaceAll(changes);
+
+        if (changes.size() > getPersonList().size() / 2) {
+            trigramIndex.invalidate();
+            fuzzyIndex.invalidate();
+            return;
+        }
+        changes.forEach((person, replacement) -> {
+            if (replacement == null) {
+                trigramIndex.remove(person);
+                fuzzyIndex.remove(person);
+            } else {
+                trigramIndex.setPerson(person, replacement);
+                fuzzyIndex.setPerson(person, replacement);
+            }
+        });
     }
 
     /**
@@ -121,6 +251,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void pin(Person target, Person pinnedPerson) {
         requireAllNonNull(target, pinnedPerson);
         persons.pin(target, pinnedPerson);
+        modTutGroupIndex.setPerson(target, pinnedPerson);
+        trigramIndex.setPerson(target, pinnedPerson);
+        fuzzyIndex.setPerson(target, pinnedPerson);
     }
 
     /**
@@ -131,6 +264,67 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void unpin(Person target, Person unpinnedPerson) {
         requireAllNonNull(target, unpinnedPerson);
         persons.unpin(target, unpinnedPerson);
+        modTutGroupIndex.setPerson(target, unpinnedPerson);
+        trigramIndex.setPerson(target, unpinnedPerson);
+        fuzzyIndex.setPerson(target, unpinnedPerson);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the module - tutorial group identified by {@code moduleName}
+     * and {@code tutorialName}, in the same order as the person list.
+     */
+    public List<Person> getModTutGroupPersonList(String moduleName, String tutorialName) {
+        requireAllNonNull(moduleName, tutorialName);
+        return modTutGroupIndex.getPersons(moduleName, tutorialName);
+    }
+
+    /**
+     * Returns an unmodifiable view of the names of the modules that at least one person belongs to.
+     */
+    public Set<String> getModuleNames() {
+        return modTutGroupIndex.getModuleNames();
+    }
+
+    /**
+     * Returns an unmodifiable view of the names of the tutorial groups of {@code moduleName} that at least one
+     * person belongs to.
+     */
+    public Set<String> getTutorialNames(String moduleName) {
+        requireNonNull(moduleName);
+        return modTutGroupIndex.getTutorialNames(moduleName);
+    }
+
+    /**
+     * Returns the persons whose {@code searchField} contains any of {@code searchKeywords}, looked up in the trigram
+     * index, or an empty {@code Optional} if the keywords are too short to be looked up.
+     *
+     * @see TrigramIndex#findPersons(SearchField, List)
+     */
+    public Optional<Set<Person>> findPersons(SearchField searchField, List<String> searchKeywords) {
+        requireAllNonNull(searchField, searchKeywords);
+        return trigramIndex.findPersons(searchField, searchKeywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons {@link #findPersons(SearchField, List)} returns for
+     * {@code searchKeywords}, found without searching for them.
+     *
+     * @see TrigramIndex#countCandidates(SearchField, List)
+     */
+    public OptionalInt countFindCandidates(SearchField searchField, List<String> searchKeywords) {
+        requireAllNonNull(searchField, searchKeywords);
+        return trigramIndex.countCandidates(searchField, searchKeywords);
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a token of {@code searchField} within a small edit distance of any of
+     * {@code searchKeywords}, closest first, looked up in the fuzzy index.
+     *
+     * @see FuzzyIndex#findPersons(SearchField, List, int)
+     */
+    public List<Person> findPersonsFuzzy(SearchField searchField, List<String> searchKeywords, int limit) {
+        requireAllNonNull(searchField, searchKeywords);
+        return fuzzyIndex.findPersons(searchField, searchKeywords, limit);
     }
 
     /// / util methods
@@ -147,6 +341,40 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    @Override
+    public Optional<PersonOrder> getPersonOrder() {
+        return persons.getOrder();
+    }
+
+    @Override
+    public long getVersion() {
+        return personListVersion + personOrderVersion;
+    }
+
+    /**
+     * Returns the version of the person list, which changes every time the person list is modified, before any other
+     * listener of the list is notified of the change, but not when only the person order changes.
+     */
+    public long getPersonListVersion() {
+        return personListVersion;
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        long version = getVersion();
+        if (snapshot == null || snapshot.getVersion() != version) {
+            snapshot = new AddressBookSnapshot(persons.getSnapshot(), getPersonOrder(), version, lastChangeLogEntry);
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the last entry of the log of changes to the person list.
+     */
+    ChangeLogEntry getLastChangeLogEntry() {
+        return lastChangeLogEntry;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -159,7 +387,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         }
 
         AddressBook otherAddressBook = (AddressBook) other;
-        return persons.equals(otherAddressBook.persons);
+        return persons.equals(otherAddressBook.persons)
+                && getPersonOrder().equals(otherAddressBook.getPersonOrder());
     }
 
     @Override
@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * Represents the ways the address book can be stored in its data file.
+ */
+public enum AddressBookFormat {
+    /** A single json file, rewritten in full on every save. */
+    JSON,
+    /** A json snapshot, plus a journal of the changes made since the snapshot was written. */
+    JOURNAL,
+    /** A compact binary file, rewritten in full on every save. */
+    BINARY
+}
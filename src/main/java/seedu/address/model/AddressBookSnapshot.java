@@ -0,0 +1,93 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * An immutable view of the data of an address book at one version.
+ *
+ * A snapshot shares the persons, and the array that lists them, with the address book it is taken from, until the
+ * address book is next modified. Nothing in a snapshot changes afterwards, so it can be read on any thread, such as
+ * by a background save, while commands keep modifying the address book.
+ *
+ * A snapshot taken from an address book also knows the changes made to the person list between it and an earlier
+ * snapshot of the same address book, for as long as both are referred to.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final Optional<PersonOrder> order;
+    private final long version;
+    // The last change to the person list in the log of the address book it is taken from, or null if unknown
+    private final ChangeLogEntry lastChangeLogEntry;
+
+    /**
+     * Creates a snapshot of {@code persons}, which must never change, kept in {@code order} at {@code version}.
+     */
+    public AddressBookSnapshot(List<Person> persons, Optional<PersonOrder> order, long version) {
+        this(persons, order, version, null);
+    }
+
+    /**
+     * Creates a snapshot of {@code persons}, which must never change, kept in {@code order} at {@code version}, of an
+     * address book whose last change to the person list is logged in {@code lastChangeLogEntry}.
+     */
+    AddressBookSnapshot(List<Person> persons, Optional<PersonOrder> order, long version,
+            ChangeLogEntry lastChangeLogEntry) {
+        requireNonNull(persons);
+        requireNonNull(order);
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        this.order = order;
+        this.version = version;
+        this.lastChangeLogEntry = lastChangeLogEntry;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public Optional<PersonOrder> getPersonOrder() {
+        return order;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public AddressBookSnapshot getSnapshot() {
+        return this;
+    }
+
+    /**
+     * Returns the changes made to the person list from {@code earlier}, a snapshot taken before this one, to this
+     * snapshot, or an empty Optional if they are not known, such as if the snapshots are of different address books.
+     * Changes of the person order alone are not included, but the persons it moves are.
+     */
+    public Optional<PersonListDelta> getChangesSince(AddressBookSnapshot earlier) {
+        requireNonNull(earlier);
+        if (earlier.lastChangeLogEntry == null || lastChangeLogEntry == null) {
+            return Optional.empty();
+        }
+        return earlier.lastChangeLogEntry.getChangesUpTo(lastChangeLogEntry).map(PersonListDelta::new);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("version", version)
+                .toString();
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An entry in the log of the changes made to the person list of an address book, linked to the entry of the change
+ * made after it.
+ *
+ * The address book only refers to its last entry, so the entries before the oldest entry still referred to, such as
+ * by a snapshot, are forgotten. Entries are only appended by the thread that modifies the address book, but the
+ * entries up to one that another thread was handed can be read on that thread.
+ */
+class ChangeLogEntry {
+
+    // The change of this entry, or null for the entry that starts the log
+    private final PersonListChange change;
+    private volatile ChangeLogEntry next;
+
+    /**
+     * Creates the entry that starts a log.
+     */
+    ChangeLogEntry() {
+        this(null);
+    }
+
+    private ChangeLogEntry(PersonListChange change) {
+        this.change = change;
+    }
+
+    /**
+     * Appends {@code change}, made after the change of this entry, which must be the last entry of its log.
+     *
+     * @return the entry of {@code change}, which is the new last entry.
+     */
+    ChangeLogEntry append(PersonListChange change) {
+        assert next == null;
+        ChangeLogEntry entry = new ChangeLogEntry(change);
+        next = entry;
+        return entry;
+    }
+
+    /**
+     * Returns the changes after this entry up to and including the change of {@code last}, or an empty Optional if
+     * {@code last} is not this entry or one after it.
+     */
+    Optional<List<PersonListChange>> getChangesUpTo(ChangeLogEntry last) {
+        List<PersonListChange> changes = new ArrayList<>();
+        for (ChangeLogEntry entry = this; entry != last; ) {
+            entry = entry.next;
+            if (entry == null) {
+                return Optional.empty();
+            }
+            changes.add(entry.change);
+        }
+        return Optional.of(changes);
+    }
+}
@@ -0,0 +1,178 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.AndPredicate;
+import seedu.address.model.person.predicates.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.OrPredicate;
+
+/**
+ * The persons of an address book that pass a find predicate, kept up to date as the person list changes by testing
+ * only the persons added to it, rather than every person.
+ *
+ * The matches are kept in an identity set for lookups, and in a list in roughly the order of the person list, so that
+ * they are refined in about the order they lie in memory. Persons are only dropped from the set when they are
+ * removed from the address book, and the list is rebuilt once it holds more such persons than matches.
+ *
+ * As a predicate, it looks the persons up in its matches. Between a change to the address book and the time the
+ * change is passed to {@link #onChanged(ListChangeListener.Change)}, it tests persons with the find predicate itself
+ * instead, so that it gives the right answer to any listener of the person list that is notified before it.
+ */
+public class IncrementalFilter implements Predicate<Person> {
+
+    // The number of removed persons the list of matches may hold before it is rebuilt, however few the matches
+    private static final int MIN_REBUILD_REMOVED = 1024;
+
+    private final Predicate<Person> predicate;
+    private final Set<Person> matches;
+    private final List<Person> orderedMatches;
+    private final AddressBook addressBook;
+    private long syncedVersion;
+
+    /**
+     * Creates a filter of the persons of {@code addressBook} that pass {@code predicate}, which are currently
+     * {@code matches}, preferably in the order of the person list.
+     */
+    public IncrementalFilter(Predicate<Person> predicate, Collection<Person> matches,
+                             AddressBook addressBook) {
+        this(predicate, newMatchSet(matches.size()), new ArrayList<>(matches), addressBook);
+        this.matches.addAll(matches);
+    }
+
+    private IncrementalFilter(Predicate<Person> predicate, Set<Person> matches, List<Person> orderedMatches,
+                              AddressBook addressBook) {
+        requireAllNonNull(predicate, addressBook);
+        this.predicate = predicate;
+        this.matches = matches;
+        this.orderedMatches = orderedMatches;
+        this.addressBook = addressBook;
+        this.syncedVersion = addressBook.getPersonListVersion();
+    }
+
+    private static Set<Person> newMatchSet(int expectedSize) {
+        return Collections.newSetFromMap(new IdentityHashMap<>(expectedSize));
+    }
+
+    /**
+     * Returns true if every person that passes {@code next} is known to pass {@code current} as well, judging by the
+     * structure and keywords of the two predicates alone.
+     */
+    public static boolean isNarrower(Predicate<Person> next, Predicate<Person> current) {
+        requireAllNonNull(next, current);
+        if (next.equals(current)) {
+            return true;
+        }
+        if (next instanceof AndPredicate) {
+            for (Predicate<Person> operand : ((AndPredicate) next).getOperands()) {
+                if (isNarrower(operand, current)) {
+                    return true;
+                }
+            }
+        }
+        if (current instanceof OrPredicate) {
+            for (Predicate<Person> operand : ((OrPredicate) current).getOperands()) {
+                if (isNarrower(next, operand)) {
+                    return true;
+                }
+            }
+        }
+        return next instanceof FieldContainsKeywordsPredicate && current instanceof FieldContainsKeywordsPredicate
+                && ((FieldContainsKeywordsPredicate) next).isNarrowerThan((FieldContainsKeywordsPredicate) current);
+    }
+
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons that pass the find predicate.
+     */
+    public Set<Person> getMatches() {
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns true if every change to the person list of the address book has been passed to the filter, so that its
+     * matches are those of the address book as it is. Changes of the person order alone do not change the matches.
+     */
+    public boolean isSynced() {
+        return syncedVersion == addressBook.getPersonListVersion();
+    }
+
+    /**
+     * Returns true if the matches of {@code next} can be found by testing only the matches of this filter.
+     */
+    public boolean canRefine(Predicate<Person> next) {
+        requireNonNull(next);
+        return isSynced() && isNarrower(next, predicate);
+    }
+
+    /**
+     * Returns the filter of the persons that pass {@code next}, found by testing only the matches of this filter.
+     * {@link #canRefine(Predicate)} must hold for {@code next}.
+     */
+    public IncrementalFilter refine(Predicate<Person> next) {
+        requireNonNull(next);
+        assert canRefine(next);
+        List<Person> refined = new ArrayList<>();
+        if (orderedMatches.size() == matches.size()) {
+            for (Person person : orderedMatches) {
+                if (next.test(person)) {
+                    refined.add(person);
+                }
+            }
+            return new IncrementalFilter(next, refined, addressBook);
+        }
+
+        // The list holds removed persons, and may hold persons that were removed and added again more than once
+        Set<Person> seen = newMatchSet(matches.size());
+        for (Person person : orderedMatches) {
+            if (matches.contains(person) && seen.add(person) && next.test(person)) {
+                refined.add(person);
+            }
+        }
+        return new IncrementalFilter(next, refined, addressBook);
+    }
+
+    /**
+     * Brings the matches up to date with {@code change}, a change to the person list of the address book, testing
+     * only the persons it adds.
+     */
+    public void onChanged(ListChangeListener.Change<? extends Person> change) {
+        requireNonNull(change);
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            for (Person removed : change.getRemoved()) {
+                matches.remove(removed);
+            }
+            for (Person added : change.getAddedSubList()) {
+                if (predicate.test(added) && matches.add(added)) {
+                    orderedMatches.add(added);
+                }
+            }
+        }
+        if (orderedMatches.size() - matches.size() > Math.max(MIN_REBUILD_REMOVED, matches.size())) {
+            orderedMatches.clear();
+            addressBook.getPersonList().stream().filter(matches::contains).forEach(orderedMatches::add);
+        }
+        syncedVersion = addressBook.getPersonListVersion();
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return isSynced() ? matches.contains(person) : predicate.test(person);
+    }
+}
@@ -1,8 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -10,6 +10,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.ModTutGroup;
 import seedu.address.model.person.Module;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 
 /**
  * The API of the Model component.
@@ -56,6 +57,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook, which can be read on any thread while the model is modified.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in ConnectS.
      */
@@ -101,6 +107,23 @@ public interface Model {
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns the persons in the module - tutorial group identified by {@code moduleName} and {@code tutorialName}
+     * that satisfy the current filter of the filtered person list, in the order they are displayed.
+     */
+    List<Person> getFilteredModTutGroupPersonList(String moduleName, String tutorialName);
+
+    /**
+     * Returns an unmodifiable view of the names of the modules that at least one person in ConnectS belongs to.
+     */
+    Set<String> getModuleNames();
+
+    /**
+     * Returns an unmodifiable view of the names of the tutorial groups of {@code moduleName} that at least one
+     * person in ConnectS belongs to.
+     */
+    Set<String> getTutorialNames(String moduleName);
+
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
@@ -108,10 +131,10 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Sorts the address book by the given {@code comparator}.
-     * @throws NullPointerException if {@code comparator} is null.
+     * Sorts the address book in the given {@code order}, and keeps it in that order as persons are added and edited.
+     * @throws NullPointerException if {@code order} is null.
      */
-    void sortAddressBook(Comparator<Person> comparator);
+    void sortAddressBook(PersonOrder order);
 
     /**
      * Replaces the given person {@code target} with {@code pinnedPerson},
@@ -133,6 +156,34 @@ public interface Model {
      */
     void unpinPerson(Person target, Person unpinnedPerson);
 
+    /**
+     * Remembers the current state of the address book, if it changed since it was last remembered, so that the change
+     * can be undone.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a change to the address book that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone change to the address book that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the address book to its state before the last change that is not undone.
+     * There must be a change that can be undone.
+     */
+    void undoAddressBook();
+
+    /**
+     * Restores the address book to its state after the last undone change.
+     * There must be a change that can be redone.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if view all option is set to "All"
      */
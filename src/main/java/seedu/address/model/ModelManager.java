@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
@@ -12,13 +14,18 @@ import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.ParallelFilter;
 import seedu.address.model.person.ModTutGroup;
 import seedu.address.model.person.Module;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.predicates.FuzzyMatchPredicate;
 
 /**
  * Represents the in-memory model of ConnectS data.
@@ -26,13 +33,21 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
+    // The estimated cost of filtering the person list, in the relative costs of the query planner, from which the
+    // filter is evaluated in parallel; below it, the overhead of splitting up the work is not worth it
+    private static final double MIN_PARALLEL_FILTER_COST = 20_000;
+
     private boolean isViewAll;
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedFilteredPersons;
     private final List<String> selectedTabs;
 
+    // The persons passing the current find predicate, or null if every person is shown
+    private IncrementalFilter activeFilter;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -42,9 +57,17 @@ public class ModelManager implements Model {
         logger.fine("Initializing with ConnectS: " + addressBook + " and user prefs " + userPrefs);
 
         this.isViewAll = false;
-        this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook = new VersionedAddressBook(addressBook, this.userPrefs.getUndoHistoryDepth(),
+                getUndoHistoryBudget(this.userPrefs));
+        // Only the persons a change adds to the address book need to be tested against the current find predicate
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            if (activeFilter != null) {
+                activeFilter.onChanged(change);
+            }
+        });
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedFilteredPersons = new SortedList<>(filteredPersons);
         selectedTabs = new ArrayList<>();
     }
 
@@ -58,6 +81,11 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        addressBook.setHistoryLimits(this.userPrefs.getUndoHistoryDepth(), getUndoHistoryBudget(this.userPrefs));
+    }
+
+    private static long getUndoHistoryBudget(ReadOnlyUserPrefs userPrefs) {
+        return userPrefs.getUndoHistoryBudgetMegabytes() * 1024L * 1024L;
     }
 
     @Override
@@ -99,6 +127,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return addressBook.getSnapshot();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -109,89 +142,30 @@ public class ModelManager implements Model {
     @Override
     public void deleteMod(Module module) {
         requireNonNull(module);
-
-        List<Person> personsToRemove = new ArrayList<>();
-        List<Person> personsToUpdate = new ArrayList<>();
-
-        for (Person person : addressBook.getPersonList()) {
-            Set<ModTutGroup> originalGroups = person.getModTutGroups();
-
-            // Find all groups belonging to the specified module
-            Set<ModTutGroup> groupsToKeep = originalGroups.stream()
-                    .filter(group -> !group.getModule().equals(module))
-                    .collect(Collectors.toSet());
-
-            if (groupsToKeep.isEmpty() && !originalGroups.isEmpty()) {
-                // All groups were from the target module → delete person
-                personsToRemove.add(person);
-            } else if (groupsToKeep.size() < originalGroups.size()) {
-                // Person had a mix of target + other modules → update person
-                Person updatedPerson = person.withUpdatedModTutGroups(groupsToKeep);
-                personsToUpdate.add(updatedPerson);
-            }
-        }
-
-        // Perform deletion
-        for (Person person : personsToRemove) {
-            addressBook.removePerson(person);
-        }
-
-        // Perform updates
-        for (Person updatedPerson : personsToUpdate) {
-            // Find the original person
-            Person originalPerson = addressBook.getPersonList().stream()
-                    .filter(p -> p.isSamePerson(updatedPerson))
-                    .findFirst()
-                    .orElseThrow(); // Should never happen
-
-            addressBook.setPerson(originalPerson, updatedPerson);
-        }
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        deleteModTutGroups(group -> group.getModule().equals(module));
     }
 
-
     @Override
     public void deleteModTut(ModTutGroup modTutGroup) {
         requireNonNull(modTutGroup);
+        deleteModTutGroups(group -> group.equals(modTutGroup));
+    }
 
-        List<Person> personsToRemove = new ArrayList<>();
-        List<Person> personsToUpdate = new ArrayList<>();
-
-        for (Person person : addressBook.getPersonList()) {
-            Set<ModTutGroup> originalGroups = person.getModTutGroups();
-
-            if (!originalGroups.contains(modTutGroup)) {
-                continue; // Person doesn't have this group, skip
-            }
-
-            Set<ModTutGroup> groupsToKeep = originalGroups.stream()
-                    .filter(group -> !group.equals(modTutGroup))
+    /**
+     * Removes the module - tutorial groups matching {@code isDeleted} from every person, and deletes the persons
+     * who are left without any group, in a single pass over the person list.
+     */
+    private void deleteModTutGroups(Predicate<ModTutGroup> isDeleted) {
+        addressBook.replaceOrRemovePersons(person -> {
+            Set<ModTutGroup> groupsToKeep = person.getModTutGroups().stream()
+                    .filter(isDeleted.negate())
                     .collect(Collectors.toSet());
-
-            if (groupsToKeep.isEmpty()) {
-                // This was their only group → delete
-                personsToRemove.add(person);
-            } else {
-                // Person had other groups too → update
-                Person updatedPerson = person.withUpdatedModTutGroups(groupsToKeep);
-                personsToUpdate.add(updatedPerson);
+            if (groupsToKeep.size() == person.getModTutGroups().size()) {
+                return person;
             }
-        }
-
-        // Delete persons
-        for (Person person : personsToRemove) {
-            addressBook.removePerson(person);
-        }
-
-        // Update persons
-        for (Person updatedPerson : personsToUpdate) {
-            Person originalPerson = addressBook.getPersonList().stream()
-                    .filter(p -> p.isSamePerson(updatedPerson))
-                    .findFirst()
-                    .orElseThrow(); // Should never happen
-
-            addressBook.setPerson(originalPerson, updatedPerson);
-        }
+            // Persons who only take the deleted groups are removed entirely
+            return groupsToKeep.isEmpty() ? null : person.withUpdatedModTutGroups(groupsToKeep);
+        });
 
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
@@ -221,9 +195,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void sortAddressBook(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        addressBook.sort(comparator);
+    public void sortAddressBook(PersonOrder order) {
+        requireNonNull(order);
+        addressBook.setPersonOrder(order);
     }
 
     @Override
@@ -238,6 +212,33 @@ public class ModelManager implements Model {
         addressBook.unpin(target, unpinnedPerson);
     }
 
+    @Override
+    public void commitAddressBook() {
+        addressBook.commit();
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        addressBook.undo();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        addressBook.redo();
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public boolean isViewAll() {
         return isViewAll;
@@ -268,13 +269,108 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return sortedFilteredPersons;
+    }
+
+    @Override
+    public List<Person> getFilteredModTutGroupPersonList(String moduleName, String tutorialName) {
+        requireAllNonNull(moduleName, tutorialName);
+        List<Person> groupPersons = addressBook.getModTutGroupPersonList(moduleName, tutorialName);
+        Predicate<? super Person> predicate = filteredPersons.getPredicate();
+        Comparator<? super Person> comparator = sortedFilteredPersons.getComparator();
+        if (predicate == null && comparator == null) {
+            return groupPersons;
+        }
+        return groupPersons.stream()
+                .filter(predicate == null ? PREDICATE_SHOW_ALL_PERSONS : predicate)
+                .sorted(comparator == null ? (first, second) -> 0 : comparator)
+                .toList();
+    }
+
+    @Override
+    public Set<String> getModuleNames() {
+        return addressBook.getModuleNames();
+    }
+
+    @Override
+    public Set<String> getTutorialNames(String moduleName) {
+        requireNonNull(moduleName);
+        return addressBook.getTutorialNames(moduleName);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            activeFilter = null;
+            sortedFilteredPersons.setComparator(null);
+            filteredPersons.setPredicate(predicate);
+            return;
+        }
+
+        // Fuzzy matches are the closest persons up to a limit, so they are always looked up afresh
+        if (predicate instanceof FuzzyMatchPredicate) {
+            FuzzyMatchPredicate fuzzyPredicate = (FuzzyMatchPredicate) predicate;
+            activeFilter = new IncrementalFilter(predicate, findFuzzyMatches(fuzzyPredicate), addressBook);
+            sortedFilteredPersons.setComparator(Comparator.comparingInt(fuzzyPredicate::getDistance)
+                    .thenComparing(fuzzyPredicate.getSearchField()::getSearchKey));
+        } else if (activeFilter != null && !(activeFilter.getPredicate() instanceof FuzzyMatchPredicate)
+                && activeFilter.canRefine(predicate)) {
+            activeFilter = activeFilter.refine(predicate);
+            sortedFilteredPersons.setComparator(null);
+        } else {
+            activeFilter = new IncrementalFilter(predicate, findMatches(predicate), addressBook);
+            sortedFilteredPersons.setComparator(null);
+        }
+        filteredPersons.setPredicate(activeFilter);
+    }
+
+    /**
+     * Returns the persons closest to the keywords of {@code predicate}, up to the fuzzy find limit of the user prefs,
+     * looked up in the fuzzy index of the address book.
+     */
+    private List<Person> findFuzzyMatches(FuzzyMatchPredicate predicate) {
+        return addressBook.findPersonsFuzzy(predicate.getSearchField(), predicate.getSearchKeywords(),
+                userPrefs.getFuzzyFindLimit());
+    }
+
+    /**
+     * Returns the persons that pass {@code predicate}, evaluated as planned by a {@link QueryPlanner} for the address
+     * book, so that the parts of {@code predicate} the indexes of the address book can answer are answered from them.
+     * If the rest of the plan is expected to be costly to test on every person, it is tested on all of them in
+     * parallel. Persons that are tested are returned in the order of the person list.
+     */
+    private Collection<Person> findMatches(Predicate<Person> predicate) {
+        QueryPlanner.Plan plan = new QueryPlanner(addressBook).plan(predicate);
+        List<Person> persons = addressBook.getPersonList();
+        if (plan.getMatches().isPresent()) {
+            return plan.getMatches().get();
+        }
+        if (persons.size() * plan.getCost() >= MIN_PARALLEL_FILTER_COST && ParallelFilter.isParallelismAvailable()) {
+            return filterInParallel(persons, plan.getPredicate());
+        }
+
+        Predicate<Person> plannedPredicate = plan.getPredicate();
+        List<Person> matches = new ArrayList<>();
+        for (Person person : persons) {
+            if (plannedPredicate.test(person)) {
+                matches.add(person);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons in {@code persons} that pass {@code predicate}, tested in parallel.
+     */
+    private static List<Person> filterInParallel(List<Person> persons, Predicate<Person> predicate) {
+        BitSet matchPositions = ParallelFilter.filter(persons, predicate);
+        List<Person> matches = new ArrayList<>(matchPositions.cardinality());
+        for (int i = matchPositions.nextSetBit(0); i >= 0; i = matchPositions.nextSetBit(i + 1)) {
+            matches.add(persons.get(i));
+        }
+        logger.fine("Filtered " + persons.size() + " persons in parallel, " + matches.size() + " matched");
+        return matches;
     }
 
     @Override
@@ -291,7 +387,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && sortedFilteredPersons.equals(otherModelManager.sortedFilteredPersons);
     }
 
 }
@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change to a list of persons: either the persons removed at a position replaced with the persons added
+ * there, or the persons from a position on moved to other positions by a permutation.
+ * A change is immutable, so it can be read on any thread.
+ */
+public class PersonListChange {
+
+    private final int from;
+    private final List<Person> removed;
+    private final List<Person> added;
+    // The position each person from {@code from} on is moved to, or null if the change does not move persons
+    private final int[] permutation;
+
+    private PersonListChange(int from, List<Person> removed, List<Person> added, int[] permutation) {
+        this.from = from;
+        this.removed = removed;
+        this.added = added;
+        this.permutation = permutation;
+    }
+
+    /**
+     * Returns the changes {@code change} is made of, in the order they are made, leaving out the persons that were
+     * only updated, which are the same persons at the same positions.
+     */
+    public static List<PersonListChange> of(ListChangeListener.Change<? extends Person> change) {
+        requireNonNull(change);
+        List<PersonListChange> changes = new ArrayList<>();
+        change.reset();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = 0; i < permutation.length; i++) {
+                    permutation[i] = change.getPermutation(change.getFrom() + i);
+                }
+                changes.add(new PersonListChange(change.getFrom(), List.of(), List.of(), permutation));
+            } else if (!change.wasUpdated()) {
+                changes.add(new PersonListChange(change.getFrom(),
+                        Collections.unmodifiableList(new ArrayList<>(change.getRemoved())),
+                        Collections.unmodifiableList(new ArrayList<>(change.getAddedSubList())), null));
+            }
+        }
+        change.reset();
+        return changes;
+    }
+
+    /**
+     * Returns the position of the first person changed.
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the persons removed from {@code getFrom()} on, which is empty if the change is a permutation.
+     */
+    public List<Person> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * Returns the persons added from {@code getFrom()} on in place of the persons removed, which is empty if the
+     * change is a permutation.
+     */
+    public List<Person> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns true if the change moves persons to other positions instead of replacing them.
+     */
+    public boolean isPermutation() {
+        return permutation != null;
+    }
+
+    /**
+     * Returns the position each person from {@code getFrom()} on is moved to, which is empty if the change is not a
+     * permutation.
+     */
+    public int[] getPermutation() {
+        return permutation == null ? new int[0] : permutation.clone();
+    }
+
+    /**
+     * Returns the number of references to persons and positions the change holds.
+     */
+    long countReferences() {
+        return removed.size() + added.size() + (permutation == null ? 0 : permutation.length);
+    }
+
+    /**
+     * Makes the change to {@code persons}, which must be the list as it was before it.
+     */
+    void apply(List<Person> persons) {
+        if (permutation != null) {
+            List<Person> permuted = new ArrayList<>(persons.subList(from, from + permutation.length));
+            for (int i = 0; i < permutation.length; i++) {
+                persons.set(permutation[i], permuted.get(i));
+            }
+        } else {
+            persons.subList(from, from + removed.size()).clear();
+            persons.addAll(from, added);
+        }
+    }
+
+    /**
+     * Undoes the change on {@code persons}, which must be the list as it is after it.
+     */
+    void revert(List<Person> persons) {
+        if (permutation != null) {
+            List<Person> permuted = new ArrayList<>(persons.subList(from, from + permutation.length));
+            for (int i = 0; i < permutation.length; i++) {
+                persons.set(from + i, permuted.get(permutation[i] - from));
+            }
+        } else {
+            persons.subList(from, from + added.size()).clear();
+            persons.addAll(from, removed);
+        }
+    }
+}
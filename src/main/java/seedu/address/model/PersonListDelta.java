@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * The changes made to a list of persons over some time, taken from the log of changes of an address book.
+ * The changes can be applied to a copy of the list as it was before them, and reverted on a copy of the list as it is
+ * after them, in time proportional to the size of the list and the changes, without keeping a copy of the list.
+ */
+public class PersonListDelta {
+
+    private final List<PersonListChange> changes;
+
+    /**
+     * Creates a delta of {@code changes}, in the order they were made.
+     */
+    PersonListDelta(List<PersonListChange> changes) {
+        requireNonNull(changes);
+        this.changes = List.copyOf(changes);
+    }
+
+    /**
+     * Returns the changes, in the order they were made.
+     */
+    public List<PersonListChange> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns true if there are no changes.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns the number of references to persons and positions the changes hold.
+     */
+    public long countReferences() {
+        return changes.stream().mapToLong(PersonListChange::countReferences).sum();
+    }
+
+    /**
+     * Returns the number of persons removed by the changes and not added back by them, compared by identity,
+     * which are in the list before the changes but not after.
+     */
+    public long countRemovedPersons() {
+        return getNetPersons(true).size();
+    }
+
+    /**
+     * Returns the number of persons added by the changes and not removed again by them, compared by identity,
+     * which are in the list after the changes but not before.
+     */
+    public long countAddedPersons() {
+        return getNetPersons(false).size();
+    }
+
+    private Set<Person> getNetPersons(boolean isRemoved) {
+        Set<Person> removedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<Person> addedPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (PersonListChange change : changes) {
+            for (Person person : change.getRemoved()) {
+                if (!addedPersons.remove(person)) {
+                    removedPersons.add(person);
+                }
+            }
+            for (Person person : change.getAdded()) {
+                if (!removedPersons.remove(person)) {
+                    addedPersons.add(person);
+                }
+            }
+        }
+        return isRemoved ? removedPersons : addedPersons;
+    }
+
+    /**
+     * Makes the changes to {@code persons}, which must be the list as it was before them.
+     */
+    public void apply(List<Person> persons) {
+        requireNonNull(persons);
+        changes.forEach(change -> change.apply(persons));
+    }
+
+    /**
+     * Undoes the changes on {@code persons}, which must be the list as it is after them.
+     */
+    public void revert(List<Person> persons) {
+        requireNonNull(persons);
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(persons);
+        }
+    }
+}
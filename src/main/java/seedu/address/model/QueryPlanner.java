@@ -0,0 +1,276 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.predicates.AndPredicate;
+import seedu.address.model.person.predicates.FieldContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.ModTutGroupContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.OrPredicate;
+
+/**
+ * Plans how a find query over the persons of an address book is evaluated.
+ * A query is a tree of keyword clauses combined with {@link AndPredicate}, {@link OrPredicate} and
+ * {@link NotPredicate}, and each node of the tree is compiled to a {@link Plan}: a predicate with an estimate of the
+ * cost of testing one person and of its selectivity, the fraction of persons expected to pass it.
+ *
+ * Clauses that an index of the address book can answer, and that are expected to match few enough persons for the
+ * lookup to be cheaper than testing every person, are looked up in the index, which gives their exact matching
+ * persons. The other clauses are tested, with their selectivity counted from the index if they have one.
+ * An AND intersects the matches of such operands, starting from the smallest, and only tests the remaining operands
+ * on the persons left; an OR of operands that all have matches is their union. Operands that have to be tested are
+ * tested in the order that is expected to be decided soonest for the least cost, stopping as soon as the answer is
+ * known.
+ *
+ * A plan holds matches of the address book as it was planned, so it must not be used after the address book changes.
+ */
+public class QueryPlanner {
+
+    /** The assumed selectivity of a clause that cannot be looked up in an index. */
+    public static final double UNKNOWN_SELECTIVITY = 0.25;
+
+    // Relative costs of testing one person: against one keyword, and for membership in a set of matches
+    private static final double KEYWORD_COST = 1;
+    private static final double LOOKUP_COST = 0.25;
+
+    // Collecting a match from an index costs several times as much as testing a person, so clauses are only looked
+    // up if they are expected to match at most this fraction of the persons, or at most a few persons in any case
+    private static final double MAX_LOOKUP_SELECTIVITY = 0.1;
+    private static final int MIN_LOOKUP_CANDIDATES = 1000;
+
+    private static final String MOD_TUT_SEPARATOR = "-";
+
+    private final AddressBook addressBook;
+
+    /**
+     * Creates a planner for queries over the persons of {@code addressBook}.
+     */
+    public QueryPlanner(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        this.addressBook = addressBook;
+    }
+
+    /**
+     * Returns the plan of {@code query}.
+     * The plan of a query that can neither be looked up in an index nor reordered tests with {@code query} itself.
+     */
+    public Plan plan(Predicate<Person> query) {
+        requireNonNull(query);
+        if (query instanceof AndPredicate) {
+            return planAnd(((AndPredicate) query).getOperands());
+        } else if (query instanceof OrPredicate) {
+            return planOr(((OrPredicate) query).getOperands());
+        } else if (query instanceof NotPredicate) {
+            return planNot(((NotPredicate) query).getOperand());
+        } else if (query instanceof ModTutGroupContainsKeywordsPredicate) {
+            return planModTutGroups((ModTutGroupContainsKeywordsPredicate) query);
+        } else if (query instanceof FieldContainsKeywordsPredicate) {
+            return planKeywords((FieldContainsKeywordsPredicate) query);
+        }
+        return new Plan(query, KEYWORD_COST, UNKNOWN_SELECTIVITY, null);
+    }
+
+    private Plan planKeywords(FieldContainsKeywordsPredicate query) {
+        double cost = KEYWORD_COST * Math.max(1, query.getSearchKeywords().size());
+        Optional<SearchField> searchField = query.getSearchField();
+        OptionalInt candidates = searchField.isPresent()
+                ? addressBook.countFindCandidates(searchField.get(), query.getSearchKeywords())
+                : OptionalInt.empty();
+        if (candidates.isEmpty()) {
+            return new Plan(query, cost, UNKNOWN_SELECTIVITY, null);
+        }
+        if (!isWorthLookingUp(candidates.getAsInt())) {
+            return new Plan(query, cost, getSelectivity(candidates.getAsInt()), null);
+        }
+        return planMatches(addressBook.findPersons(searchField.get(), query.getSearchKeywords()).get());
+    }
+
+    /**
+     * Plans {@code query} from the module - tutorial groups of the address book, which are read instead of testing
+     * every person.
+     */
+    private Plan planModTutGroups(ModTutGroupContainsKeywordsPredicate query) {
+        List<List<Person>> groups = new ArrayList<>();
+        int candidates = 0;
+        for (String moduleName : addressBook.getModuleNames()) {
+            for (String tutorialName : addressBook.getTutorialNames(moduleName)) {
+                if (query.matches(StringUtil.toSearchKey(moduleName + MOD_TUT_SEPARATOR + tutorialName))) {
+                    List<Person> group = addressBook.getModTutGroupPersonList(moduleName, tutorialName);
+                    groups.add(group);
+                    candidates += group.size();
+                }
+            }
+        }
+        if (!isWorthLookingUp(candidates)) {
+            return new Plan(query, KEYWORD_COST * query.getSearchKeywords().size(), getSelectivity(candidates), null);
+        }
+
+        Set<Person> matches = newMatchSet();
+        groups.forEach(matches::addAll);
+        return planMatches(matches);
+    }
+
+    private Plan planAnd(List<Predicate<Person>> operands) {
+        List<Plan> lookups = new ArrayList<>();
+        List<Plan> tests = new ArrayList<>();
+        for (Predicate<Person> operand : operands) {
+            Plan plan = plan(operand);
+            (plan.matches != null ? lookups : tests).add(plan);
+        }
+        // Cheap operands that fail most persons go first
+        tests.sort(Comparator.comparingDouble(plan -> plan.cost / Math.max(Double.MIN_VALUE, 1 - plan.selectivity)));
+
+        if (lookups.isEmpty()) {
+            double cost = 0;
+            double selectivity = 1;
+            for (Plan plan : tests) {
+                cost += selectivity * plan.cost;
+                selectivity *= plan.selectivity;
+            }
+            return new Plan(allOf(tests), cost, selectivity, null);
+        }
+
+        lookups.sort(Comparator.comparingInt(plan -> plan.matches.size()));
+        Set<Person> matches = newMatchSet();
+        Predicate<Person> rest = allOf(lookups.subList(1, lookups.size())).and(allOf(tests));
+        for (Person person : lookups.get(0).matches) {
+            if (rest.test(person)) {
+                matches.add(person);
+            }
+        }
+        return planMatches(matches);
+    }
+
+    private Plan planOr(List<Predicate<Person>> operands) {
+        List<Plan> plans = new ArrayList<>();
+        boolean haveAllMatches = true;
+        for (Predicate<Person> operand : operands) {
+            Plan plan = plan(operand);
+            plans.add(plan);
+            haveAllMatches &= plan.matches != null;
+        }
+
+        if (haveAllMatches) {
+            Set<Person> matches = newMatchSet();
+            plans.forEach(plan -> matches.addAll(plan.matches));
+            return planMatches(matches);
+        }
+
+        // Cheap operands that pass most persons go first
+        plans.sort(Comparator.comparingDouble(plan -> plan.cost / Math.max(Double.MIN_VALUE, plan.selectivity)));
+        double cost = 0;
+        double failing = 1;
+        List<Predicate<Person>> predicates = new ArrayList<>();
+        for (Plan plan : plans) {
+            cost += failing * plan.cost;
+            failing *= 1 - plan.selectivity;
+            predicates.add(plan.predicate);
+        }
+        Predicate<Person> anyOf = person -> {
+            for (Predicate<Person> predicate : predicates) {
+                if (predicate.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+        return new Plan(anyOf, cost, 1 - failing, null);
+    }
+
+    private Plan planNot(Predicate<Person> operand) {
+        Plan plan = plan(operand);
+        return new Plan(plan.predicate.negate(), plan.cost, 1 - plan.selectivity, null);
+    }
+
+    private int countPersons() {
+        return addressBook.getPersonList().size();
+    }
+
+    private Plan planMatches(Set<Person> matches) {
+        return new Plan(matches::contains, LOOKUP_COST, getSelectivity(matches.size()), matches);
+    }
+
+    private double getSelectivity(int matchCount) {
+        int personCount = countPersons();
+        return personCount == 0 ? 0 : Math.min(1, (double) matchCount / personCount);
+    }
+
+    private boolean isWorthLookingUp(int candidateCount) {
+        return candidateCount <= Math.max(MIN_LOOKUP_CANDIDATES, MAX_LOOKUP_SELECTIVITY * countPersons());
+    }
+
+    private static Set<Person> newMatchSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static Predicate<Person> allOf(List<Plan> plans) {
+        List<Predicate<Person>> predicates = new ArrayList<>(plans.size());
+        plans.forEach(plan -> predicates.add(plan.predicate));
+        return person -> {
+            for (Predicate<Person> predicate : predicates) {
+                if (!predicate.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        };
+    }
+
+    /**
+     * A compiled find query, or a part of one.
+     */
+    public static class Plan {
+        private final Predicate<Person> predicate;
+        private final double cost;
+        private final double selectivity;
+        private final Set<Person> matches;
+
+        private Plan(Predicate<Person> predicate, double cost, double selectivity, Set<Person> matches) {
+            this.predicate = predicate;
+            this.cost = cost;
+            this.selectivity = selectivity;
+            this.matches = matches;
+        }
+
+        /**
+         * Returns the predicate that evaluates the query as planned.
+         */
+        public Predicate<Person> getPredicate() {
+            return predicate;
+        }
+
+        /**
+         * Returns the estimated relative cost of testing one person with {@link #getPredicate()}.
+         */
+        public double getCost() {
+            return cost;
+        }
+
+        /**
+         * Returns the estimated fraction of persons that pass the query.
+         */
+        public double getSelectivity() {
+            return selectivity;
+        }
+
+        /**
+         * Returns the persons that pass the query, if they were found without testing every person.
+         */
+        public Optional<Set<Person>> getMatches() {
+            return Optional.ofNullable(matches);
+        }
+    }
+}
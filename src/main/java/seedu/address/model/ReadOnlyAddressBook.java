@@ -1,7 +1,10 @@
 package seedu.address.model;
 
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
 
 /**
  * Unmodifiable view of ConnectS
@@ -14,4 +17,21 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Person> getPersonList();
 
+    /**
+     * Returns the order the persons are kept in, if they are kept in one.
+     */
+    Optional<PersonOrder> getPersonOrder();
+
+    /**
+     * Returns the version of the data, which changes every time the data is modified.
+     * Two reads that return the same version are guaranteed to have seen the same data.
+     */
+    long getVersion();
+
+    /**
+     * Returns an immutable snapshot of the current data, which stays the same while the data is modified and can be
+     * read on any thread. Taking a snapshot takes constant time, but must be done on the thread that modifies the data.
+     */
+    AddressBookSnapshot getSnapshot();
+
 }
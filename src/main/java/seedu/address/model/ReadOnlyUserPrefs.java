@@ -13,4 +13,12 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    int getFuzzyFindLimit();
+
+    int getUndoHistoryDepth();
+
+    int getUndoHistoryBudgetMegabytes();
+
 }
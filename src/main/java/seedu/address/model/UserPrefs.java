@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,20 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final int DEFAULT_FUZZY_FIND_LIMIT = 10;
+    public static final String MESSAGE_INVALID_FUZZY_FIND_LIMIT = "Fuzzy find limit should be a positive number.";
+    public static final int DEFAULT_UNDO_HISTORY_DEPTH = 20;
+    public static final String MESSAGE_INVALID_UNDO_HISTORY_DEPTH = "Undo history depth should not be negative.";
+    public static final int DEFAULT_UNDO_HISTORY_BUDGET_MEGABYTES = 64;
+    public static final String MESSAGE_INVALID_UNDO_HISTORY_BUDGET =
+            "Undo history budget in megabytes should not be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private int fuzzyFindLimit = DEFAULT_FUZZY_FIND_LIMIT;
+    private int undoHistoryDepth = DEFAULT_UNDO_HISTORY_DEPTH;
+    private int undoHistoryBudgetMegabytes = DEFAULT_UNDO_HISTORY_BUDGET_MEGABYTES;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +49,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setFuzzyFindLimit(newUserPrefs.getFuzzyFindLimit());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
+        setUndoHistoryBudgetMegabytes(newUserPrefs.getUndoHistoryBudgetMegabytes());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +73,53 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public int getFuzzyFindLimit() {
+        return fuzzyFindLimit;
+    }
+
+    /**
+     * Sets the largest number of persons listed by a fuzzy find to {@code fuzzyFindLimit}, which must be positive.
+     */
+    public void setFuzzyFindLimit(int fuzzyFindLimit) {
+        checkArgument(fuzzyFindLimit > 0, MESSAGE_INVALID_FUZZY_FIND_LIMIT);
+        this.fuzzyFindLimit = fuzzyFindLimit;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    /**
+     * Sets the largest number of changes that can be undone to {@code undoHistoryDepth}, which must not be negative.
+     * Undo is turned off if it is 0.
+     */
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, MESSAGE_INVALID_UNDO_HISTORY_DEPTH);
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
+    public int getUndoHistoryBudgetMegabytes() {
+        return undoHistoryBudgetMegabytes;
+    }
+
+    /**
+     * Sets the memory that the changes that can be undone may take up to {@code undoHistoryBudgetMegabytes}, which
+     * must not be negative.
+     */
+    public void setUndoHistoryBudgetMegabytes(int undoHistoryBudgetMegabytes) {
+        checkArgument(undoHistoryBudgetMegabytes >= 0, MESSAGE_INVALID_UNDO_HISTORY_BUDGET);
+        this.undoHistoryBudgetMegabytes = undoHistoryBudgetMegabytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +133,17 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && fuzzyFindLimit == otherUserPrefs.fuzzyFindLimit
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth
+                && undoHistoryBudgetMegabytes == otherUserPrefs.undoHistoryBudgetMegabytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, fuzzyFindLimit, undoHistoryDepth,
+                undoHistoryBudgetMegabytes);
     }
 
     @Override
@@ -82,6 +151,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nFuzzy find limit : " + fuzzyFindLimit);
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
+        sb.append("\nUndo history budget in megabytes : " + undoHistoryBudgetMegabytes);
         return sb.toString();
     }
 
@@ -0,0 +1,214 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * An {@code AddressBook} that remembers the changes committed to it, so that they can be undone and redone.
+ *
+ * Each committed change is remembered as the changes made to the list of persons since the commit before, taken
+ * from the log of changes of the address book, together with the person order before and after it. A commit
+ * costs time and memory in proportion to the change alone, rather than to the number of persons. Undoing or redoing a
+ * change rebuilds the list of persons it returns to from the current one, and restores only the persons that differ
+ * in the search indexes.
+ *
+ * The number of changes that can be undone is limited by a history depth, and the memory the remembered changes are
+ * estimated to take by a budget. The oldest changes are forgotten first.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final String MESSAGE_INVALID_HISTORY_LIMITS = "History depth and budget should not be negative";
+
+    // Estimates of the memory taken by a reference to a person, and by a person that only the history refers to
+    static final long REFERENCE_BYTES = 8;
+    static final long PERSON_BYTES = 512;
+
+    // The change to undo next is last in undoChanges, and the change to redo next is first in redoChanges
+    private final Deque<CommittedChange> undoChanges = new ArrayDeque<>();
+    private final Deque<CommittedChange> redoChanges = new ArrayDeque<>();
+    // The last change to the person list when it was last committed, undone or redone
+    private ChangeLogEntry committedChangeLogEntry;
+    private PersonOrder committedOrder;
+    private long committedVersion;
+    private long historyBytes;
+
+    private int historyDepth;
+    private long historyBudget;
+
+    /**
+     * Creates a {@code VersionedAddressBook} with the data of {@code initialState}, which remembers up to
+     * {@code historyDepth} changes that are estimated to take up to {@code historyBudget} bytes.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int historyDepth, long historyBudget) {
+        super(initialState);
+        setHistoryLimits(historyDepth, historyBudget);
+        committedOrder = getPersonOrder().orElse(null);
+        committedVersion = getVersion();
+        committedChangeLogEntry = getLastChangeLogEntry();
+    }
+
+    /**
+     * Sets the largest number of changes remembered to {@code historyDepth}, and the memory they are estimated to take
+     * to {@code historyBudget} bytes, forgetting the oldest changes if there are too many.
+     */
+    public void setHistoryLimits(int historyDepth, long historyBudget) {
+        checkArgument(historyDepth >= 0 && historyBudget >= 0, MESSAGE_INVALID_HISTORY_LIMITS);
+        this.historyDepth = historyDepth;
+        this.historyBudget = historyBudget;
+        trimHistory();
+    }
+
+    /**
+     * Remembers the changes since the last commit, if there are any, as the change the next undo undoes.
+     * The changes that were undone can no longer be redone afterwards.
+     *
+     * @return true if the data changed since the last commit.
+     */
+    public boolean commit() {
+        if (getVersion() == committedVersion) {
+            return false;
+        }
+
+        redoChanges.forEach(change -> historyBytes -= change.bytes);
+        redoChanges.clear();
+        PersonOrder order = getPersonOrder().orElse(null);
+        if (historyDepth > 0) {
+            CommittedChange change = new CommittedChange(getUncommittedDelta(), committedOrder, order);
+            change.estimateBytes(true);
+            undoChanges.addLast(change);
+            historyBytes += change.bytes;
+        }
+        committedChangeLogEntry = getLastChangeLogEntry();
+        committedOrder = order;
+        committedVersion = getVersion();
+        trimHistory();
+        return true;
+    }
+
+    /**
+     * Returns true if there is a committed change to undo.
+     */
+    public boolean canUndo() {
+        return !undoChanges.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone change to redo.
+     */
+    public boolean canRedo() {
+        return !redoChanges.isEmpty();
+    }
+
+    /**
+     * Undoes the last committed change that is not undone.
+     * There must be a change to undo, and changes since the last commit are discarded.
+     */
+    public void undo() {
+        if (!canUndo()) {
+            throw new IllegalStateException("There is no change to undo");
+        }
+        CommittedChange change = undoChanges.removeLast();
+        historyBytes -= change.bytes;
+        List<Person> persons = getCommittedPersons();
+        change.delta.revert(persons);
+        change.estimateBytes(false);
+        redoChanges.addFirst(change);
+        historyBytes += change.bytes;
+        restoreCommitted(persons, change.orderBefore);
+    }
+
+    /**
+     * Redoes the last undone change.
+     * There must be a change to redo, and changes since the last commit are discarded.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new IllegalStateException("There is no change to redo");
+        }
+        CommittedChange change = redoChanges.removeFirst();
+        historyBytes -= change.bytes;
+        List<Person> persons = getCommittedPersons();
+        change.delta.apply(persons);
+        change.estimateBytes(true);
+        undoChanges.addLast(change);
+        historyBytes += change.bytes;
+        restoreCommitted(persons, change.orderAfter);
+    }
+
+    /**
+     * Returns the estimated memory taken by the remembered changes, in bytes.
+     */
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    /**
+     * Returns a copy of the persons as of the last commit.
+     */
+    private List<Person> getCommittedPersons() {
+        List<Person> persons = new ArrayList<>(getPersonList());
+        getUncommittedDelta().revert(persons);
+        return persons;
+    }
+
+    /**
+     * Returns the changes to the person list since it was last committed, undone or redone.
+     */
+    private PersonListDelta getUncommittedDelta() {
+        return new PersonListDelta(committedChangeLogEntry.getChangesUpTo(getLastChangeLogEntry()).orElseThrow());
+    }
+
+    private void restoreCommitted(List<Person> persons, PersonOrder order) {
+        restore(persons, order);
+        committedChangeLogEntry = getLastChangeLogEntry();
+        committedOrder = order;
+        committedVersion = getVersion();
+        trimHistory();
+    }
+
+    /**
+     * Forgets the oldest changes to undo until the history is within its depth and budget, and then, if the changes
+     * to redo are still over budget, the changes furthest from the current data to redo.
+     */
+    private void trimHistory() {
+        while (!undoChanges.isEmpty() && (undoChanges.size() > historyDepth || historyBytes > historyBudget)) {
+            historyBytes -= undoChanges.removeFirst().bytes;
+        }
+        while (!redoChanges.isEmpty() && historyBytes > historyBudget) {
+            historyBytes -= redoChanges.removeLast().bytes;
+        }
+    }
+
+    /**
+     * A committed change: the changes made to the person list, and the person order before and after them.
+     */
+    private static class CommittedChange {
+        private final PersonListDelta delta;
+        private final PersonOrder orderBefore;
+        private final PersonOrder orderAfter;
+        private long bytes;
+
+        private CommittedChange(PersonListDelta delta, PersonOrder orderBefore, PersonOrder orderAfter) {
+            this.delta = delta;
+            this.orderBefore = orderBefore;
+            this.orderAfter = orderAfter;
+        }
+
+        /**
+         * Estimates the memory taken by the change: a reference per person it holds, and the persons that nothing but
+         * the change refers to, which are the persons it removed while it is done, such as the persons edited or
+         * deleted by it, and the persons it added while it is undone.
+         */
+        private void estimateBytes(boolean isDone) {
+            long personCount = isDone ? delta.countRemovedPersons() : delta.countAddedPersons();
+            bytes = REFERENCE_BYTES * delta.countReferences() + PERSON_BYTES * personCount;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.BkTree;
+
+/**
+ * An index of the tokens of the names and telegram handles of persons that finds the persons with a token within a
+ * small edit distance of a keyword, using a {@link BkTree} of the distinct tokens of each field.
+ * A name is split into its words, and a telegram handle is a single token without its leading {@code @}.
+ *
+ * Like {@link TrigramIndex}, the index is built from the person list it is kept for the first time it is searched,
+ * is kept in sync afterwards by the mutating operations, and is rebuilt after {@link #invalidate()}.
+ */
+public class FuzzyIndex {
+
+    public static final List<SearchField> FUZZY_FIELDS = List.of(SearchField.NAME, SearchField.TELEGRAM_HANDLE);
+
+    /** The largest edit distance at which a token is still considered to match a keyword. */
+    public static final int MAX_DISTANCE = 2;
+
+    // Tokens no person holds any more stay in the trees; the index is rebuilt once they outnumber the other tokens
+    private static final int MIN_REBUILD_UNUSED_TOKENS = 1024;
+
+    private static final String TELEGRAM_HANDLE_START = "@";
+
+    private final List<Person> source;
+    private final Map<SearchField, FieldIndex> fieldIndexes = new EnumMap<>(SearchField.class);
+    private boolean isBuilt;
+
+    /**
+     * Creates an index for the persons in {@code source}, which the index reads when it needs to be rebuilt.
+     */
+    public FuzzyIndex(List<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Returns the largest edit distance at which a token matches {@code keyword}, which shrinks for short keywords
+     * so that they are not matched by most other short tokens.
+     */
+    public static int getMaxDistance(String keyword) {
+        return Math.min(MAX_DISTANCE, keyword.length() / 2);
+    }
+
+    /**
+     * Returns the distinct tokens of {@code searchKey}, a search key of {@code searchField}, or of a keyword to be
+     * matched against that field.
+     */
+    public static Set<String> getTokens(SearchField searchField, String searchKey) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (searchField == SearchField.TELEGRAM_HANDLE) {
+            String token = searchKey.startsWith(TELEGRAM_HANDLE_START)
+                    ? searchKey.substring(TELEGRAM_HANDLE_START.length())
+                    : searchKey;
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+            return tokens;
+        }
+
+        for (String token : searchKey.split("\\s+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns the distance between the closest pair of a token of {@code keywordTokens} and a token of
+     * {@code tokens} that is within the maximum distance of that keyword token, or {@link Integer#MAX_VALUE} if
+     * there is no such pair.
+     */
+    public static int getDistance(Set<String> keywordTokens, Set<String> tokens) {
+        int bestDistance = Integer.MAX_VALUE;
+        for (String keywordToken : keywordTokens) {
+            int maxDistance = getMaxDistance(keywordToken);
+            for (String token : tokens) {
+                // The distance is at least the difference in length, which is much cheaper to check
+                if (Math.abs(token.length() - keywordToken.length()) > maxDistance) {
+                    continue;
+                }
+                int distance = BkTree.distance(keywordToken, token);
+                if (distance <= maxDistance && distance < bestDistance) {
+                    bestDistance = distance;
+                }
+            }
+        }
+        return bestDistance;
+    }
+
+    /**
+     * Returns up to {@code limit} persons with a token of {@code searchField} within the maximum distance of a token
+     * of {@code searchKeywords}, each prepared as by
+     * {@link seedu.address.commons.util.StringUtil#toSearchKeyword(String)}.
+     * Persons are ordered by their closest distance to a keyword, and then by their search key.
+     */
+    public List<Person> findPersons(SearchField searchField, List<String> searchKeywords, int limit) {
+        requireAllNonNull(searchField, searchKeywords);
+        if (!FUZZY_FIELDS.contains(searchField)) {
+            throw new IllegalArgumentException("Field cannot be searched fuzzily: " + searchField);
+        }
+        build();
+
+        FieldIndex fieldIndex = fieldIndexes.get(searchField);
+        Map<Person, Integer> distances = new IdentityHashMap<>();
+        for (String searchKeyword : searchKeywords) {
+            for (String keywordToken : getTokens(searchField, searchKeyword)) {
+                fieldIndex.tokens.search(keywordToken, getMaxDistance(keywordToken), (token, distance) -> {
+                    for (Person person : fieldIndex.tokenPersons.getOrDefault(token, List.of())) {
+                        distances.merge(person, distance, Math::min);
+                    }
+                });
+            }
+        }
+
+        Comparator<Map.Entry<Person, Integer>> ranking = Map.Entry.<Person, Integer>comparingByValue()
+                .thenComparing(entry -> searchField.getSearchKey(entry.getKey()));
+        return distances.entrySet().stream()
+                .sorted(ranking)
+                .limit(Math.max(0, limit))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        for (SearchField searchField : FUZZY_FIELDS) {
+            fieldIndexes.get(searchField).add(person, getTokens(searchField, searchField.getSearchKey(person)));
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        boolean shouldRebuild = false;
+        for (SearchField searchField : FUZZY_FIELDS) {
+            FieldIndex fieldIndex = fieldIndexes.get(searchField);
+            fieldIndex.remove(person, getTokens(searchField, searchField.getSearchKey(person)));
+            shouldRebuild |= fieldIndex.unusedTokens
+                    > Math.max(MIN_REBUILD_UNUSED_TOKENS, fieldIndex.tokenPersons.size());
+        }
+        if (shouldRebuild) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Discards the index, so that it is rebuilt from the person list the next time it is searched.
+     */
+    public void invalidate() {
+        isBuilt = false;
+        fieldIndexes.clear();
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        for (SearchField searchField : FUZZY_FIELDS) {
+            fieldIndexes.put(searchField, new FieldIndex());
+        }
+        isBuilt = true;
+        source.forEach(this::add);
+    }
+
+    /**
+     * The tokens of one field, and the persons holding each of them.
+     */
+    private static class FieldIndex {
+        private final BkTree tokens = new BkTree();
+        private final Map<String, List<Person>> tokenPersons = new HashMap<>();
+        private int unusedTokens;
+
+        void add(Person person, Set<String> personTokens) {
+            for (String token : personTokens) {
+                List<Person> persons = tokenPersons.get(token);
+                if (persons == null) {
+                    persons = new ArrayList<>(1);
+                    tokenPersons.put(token, persons);
+                    if (!tokens.add(token)) {
+                        unusedTokens--;
+                    }
+                }
+                persons.add(person);
+            }
+        }
+
+        void remove(Person person, Set<String> personTokens) {
+            for (String token : personTokens) {
+                List<Person> persons = tokenPersons.get(token);
+                if (persons == null) {
+                    continue;
+                }
+                persons.removeIf(indexed -> indexed == person);
+                if (persons.isEmpty()) {
+                    tokenPersons.remove(token);
+                    unusedTokens++;
+                }
+            }
+        }
+    }
+}
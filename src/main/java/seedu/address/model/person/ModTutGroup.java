@@ -3,9 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.HashMap;
-import java.util.Map;
-
+import seedu.address.commons.util.InternPool;
+import seedu.address.commons.util.StringUtil;
 
 /**
  * Represents a Person's module - tutorial group in ConnectS.
@@ -17,13 +16,16 @@ public class ModTutGroup {
             + "alphanumeric characters with a dash in between";
     private static final String VALIDATION_REGEX = "^[A-Za-z0-9]+-[A-Za-z0-9]+$";
 
-    private static final Map<String, Map<String, Integer>> moduleMap = new HashMap<>();
+    private static final InternPool<ModTutGroup> POOL = new InternPool<>();
 
     public final String value;
 
     private final Module module;
     private final Tutorial tutorialGroup;
 
+    // The value as prepared by StringUtil#toSearchKey
+    private final String searchKey;
+
     /**
      * Constructs a module - tutorial group.
      *
@@ -33,31 +35,23 @@ public class ModTutGroup {
         requireNonNull(modTutGroup);
         checkArgument(isValidModTutGroup(modTutGroup), MESSAGE_CONSTRAINTS);
         value = modTutGroup;
+        searchKey = StringUtil.toSearchKey(modTutGroup);
 
-        String moduleString = modTutGroup.split("-")[0];
-        String tutorialString = modTutGroup.split("-")[1];
-
-        module = new Module(moduleString);
-        tutorialGroup = new Tutorial(tutorialString);
-
-        Map<String, Integer> tutorialMap;
-        if (!moduleMap.containsKey(moduleString)) {
-            tutorialMap = new HashMap<>();
-            tutorialMap.put(tutorialString, 1);
-        } else {
-            tutorialMap = moduleMap.get(moduleString);
-            if (moduleMap.get(moduleString).containsKey(tutorialString)) {
-                int count = moduleMap.get(moduleString).get(tutorialString);
-                tutorialMap.put(tutorialString, count + 1);
-            } else {
-                tutorialMap.put(tutorialString, 1);
-            }
-        }
-        moduleMap.put(moduleString, tutorialMap);
+        int separatorIndex = modTutGroup.indexOf('-');
+        module = Module.of(modTutGroup.substring(0, separatorIndex));
+        tutorialGroup = Tutorial.of(modTutGroup.substring(separatorIndex + 1));
     }
 
-    public static Map<String, Map<String, Integer>> getModuleMap() {
-        return moduleMap;
+    /**
+     * Returns the shared module - tutorial group with the given {@code modTutGroup} value.
+     * Equal groups created through this method are the same instance, and a value that has been validated before
+     * is not validated again.
+     *
+     * @param modTutGroup valid module - tutorial group.
+     */
+    public static ModTutGroup of(String modTutGroup) {
+        requireNonNull(modTutGroup);
+        return POOL.intern(modTutGroup, ModTutGroup::new);
     }
 
     public Module getModule() {
@@ -68,6 +62,10 @@ public class ModTutGroup {
         return tutorialGroup;
     }
 
+    public String getSearchKey() {
+        return searchKey;
+    }
+
     /**
      * Returns if a given string is a valid module - tutorial group.
      */
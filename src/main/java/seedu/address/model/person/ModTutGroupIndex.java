@@ -0,0 +1,235 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.ToIntFunction;
+
+/**
+ * An inverted index from each module - tutorial group to the persons in it, keyed by module name and then by
+ * tutorial name.
+ * The persons of a group are kept in the same relative order as in the person list the index is maintained for,
+ * so that a group can be read directly instead of filtering the whole person list. The index looks up the position
+ * of each person in that list to place them in their groups, so every change to the persons has to be made to the
+ * list before it is made to the index.
+ * Groups that no longer have any persons are removed from the index, so the module and tutorial names in it are
+ * always those of the current persons. Names are kept in sorted order.
+ */
+public class ModTutGroupIndex {
+
+    private final Map<String, Map<String, List<Person>>> moduleMap = new TreeMap<>();
+
+    // Returns the index of a person in the person list the index is maintained for
+    private final ToIntFunction<Person> positionOf;
+
+    /**
+     * Creates an empty index for a person list in which the index of each person is given by {@code positionOf}.
+     */
+    public ModTutGroupIndex(ToIntFunction<Person> positionOf) {
+        this.positionOf = requireNonNull(positionOf);
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons in the group identified by {@code moduleName} and
+     * {@code tutorialName}, or an empty list if there is no such group.
+     */
+    public List<Person> getPersons(String moduleName, String tutorialName) {
+        requireAllNonNull(moduleName, tutorialName);
+        Map<String, List<Person>> tutorialMap = moduleMap.get(moduleName);
+        if (tutorialMap == null || !tutorialMap.containsKey(tutorialName)) {
+            return Collections.emptyList();
+        }
+        return Collections.unmodifiableList(tutorialMap.get(tutorialName));
+    }
+
+    /**
+     * Returns an unmodifiable view of the names of the modules that have at least one person.
+     */
+    public Set<String> getModuleNames() {
+        return Collections.unmodifiableSet(moduleMap.keySet());
+    }
+
+    /**
+     * Returns an unmodifiable view of the names of the tutorial groups of {@code moduleName} that have at least one
+     * person, or an empty set if there is no such module.
+     */
+    public Set<String> getTutorialNames(String moduleName) {
+        requireNonNull(moduleName);
+        Map<String, List<Person>> tutorialMap = moduleMap.get(moduleName);
+        if (tutorialMap == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(tutorialMap.keySet());
+    }
+
+    /**
+     * Adds {@code person} to each of its groups, at its place in the person list.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+            insert(getOrCreateGroup(modTutGroup), person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from each of its groups.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+            removeFromGroup(modTutGroup, person);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, which is placed in each of its groups at its place in the
+     * person list.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        Set<ModTutGroup> targetGroups = target.getModTutGroups();
+        Set<ModTutGroup> editedGroups = editedPerson.getModTutGroups();
+
+        for (ModTutGroup modTutGroup : targetGroups) {
+            if (!editedGroups.contains(modTutGroup)) {
+                removeFromGroup(modTutGroup, target);
+            }
+        }
+        for (ModTutGroup modTutGroup : editedGroups) {
+            List<Person> group = getOrCreateGroup(modTutGroup);
+            int index = targetGroups.contains(modTutGroup) ? group.indexOf(target) : -1;
+            if (index != -1) {
+                group.remove(index);
+            }
+            insert(group, editedPerson);
+        }
+    }
+
+    /**
+     * Replaces each person that is a key of {@code replacements} with the person it is mapped to, or removes it if
+     * it is mapped to null. Only the groups of those persons are updated, each in a single pass, with the
+     * replacements placed in their groups at their places in the person list.
+     * Two persons compared by {@code replacements} are the same only if they are the same object.
+     */
+    public void replaceAll(Map<Person, Person> replacements) {
+        requireNonNull(replacements);
+        Set<ModTutGroup> changedGroups = new HashSet<>();
+        Map<ModTutGroup, List<Person>> joiningPersons = new HashMap<>();
+        replacements.forEach((person, replacement) -> {
+            changedGroups.addAll(person.getModTutGroups());
+            if (replacement != null) {
+                for (ModTutGroup modTutGroup : replacement.getModTutGroups()) {
+                    changedGroups.add(modTutGroup);
+                    joiningPersons.computeIfAbsent(modTutGroup, unused -> new ArrayList<>()).add(replacement);
+                }
+            }
+        });
+
+        for (ModTutGroup modTutGroup : changedGroups) {
+            List<Person> group = getOrCreateGroup(modTutGroup);
+            List<Person> joining = joiningPersons.getOrDefault(modTutGroup, Collections.emptyList());
+            joining.sort(Comparator.comparingInt(positionOf));
+
+            // The persons that stay in the group are already in order, so the joining persons are merged into them
+            List<Person> mergedGroup = new ArrayList<>(group.size() + joining.size());
+            int joiningIndex = 0;
+            for (Person person : group) {
+                if (replacements.containsKey(person)) {
+                    continue;
+                }
+                int position = positionOf.applyAsInt(person);
+                while (joiningIndex < joining.size() && positionOf.applyAsInt(joining.get(joiningIndex)) < position) {
+                    mergedGroup.add(joining.get(joiningIndex++));
+                }
+                mergedGroup.add(person);
+            }
+            mergedGroup.addAll(joining.subList(joiningIndex, joining.size()));
+
+            group.clear();
+            group.addAll(mergedGroup);
+            if (group.isEmpty()) {
+                removeGroup(modTutGroup);
+            }
+        }
+    }
+
+    /**
+     * Rebuilds the index from {@code persons}, keeping their order within each group.
+     */
+    public void setPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        moduleMap.clear();
+        for (Person person : persons) {
+            for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+                getOrCreateGroup(modTutGroup).add(person);
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code person} into {@code group} after the persons that come before it in the person list.
+     */
+    private void insert(List<Person> group, Person person) {
+        int position = positionOf.applyAsInt(person);
+        int low = 0;
+        int high = group.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (positionOf.applyAsInt(group.get(middle)) < position) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        group.add(low, person);
+    }
+
+    private List<Person> getOrCreateGroup(ModTutGroup modTutGroup) {
+        return moduleMap.computeIfAbsent(modTutGroup.getModule().getName(), unused -> new TreeMap<>())
+                .computeIfAbsent(modTutGroup.getTutorial().getName(), unused -> new ArrayList<>());
+    }
+
+    private void removeFromGroup(ModTutGroup modTutGroup, Person person) {
+        Map<String, List<Person>> tutorialMap = moduleMap.get(modTutGroup.getModule().getName());
+        if (tutorialMap == null) {
+            return;
+        }
+
+        List<Person> group = tutorialMap.get(modTutGroup.getTutorial().getName());
+        if (group == null) {
+            return;
+        }
+
+        group.remove(person);
+        if (group.isEmpty()) {
+            removeGroup(modTutGroup);
+        }
+    }
+
+    /**
+     * Removes the group {@code modTutGroup}, and its module if it has no other group.
+     */
+    private void removeGroup(ModTutGroup modTutGroup) {
+        String moduleName = modTutGroup.getModule().getName();
+        Map<String, List<Person>> tutorialMap = moduleMap.get(moduleName);
+        tutorialMap.remove(modTutGroup.getTutorial().getName());
+        if (tutorialMap.isEmpty()) {
+            moduleMap.remove(moduleName);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return moduleMap.toString();
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.util.InternPool;
+
 /**
  * Represents a Person's module in ConnectS.
  * Guarantees: immutable; is valid as declared in {@link ModTutGroup#isValidModTutGroup(String)}
@@ -9,6 +11,9 @@ import static java.util.Objects.requireNonNull;
  */
 public class Module {
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+
+    private static final InternPool<Module> POOL = new InternPool<>();
+
     private final String name;
 
     /**
@@ -20,6 +25,15 @@ public class Module {
         this.name = name;
     }
 
+    /**
+     * Returns the shared {@code Module} with the given {@code name}.
+     * Equal modules created through this method are the same instance.
+     */
+    public static Module of(String name) {
+        requireNonNull(name);
+        return POOL.intern(name, Module::new);
+    }
+
     public String toString() {
         return name;
     }
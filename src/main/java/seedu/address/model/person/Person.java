@@ -2,11 +2,13 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.commons.util.ArraySet;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.tag.Tag;
 
@@ -16,16 +18,26 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    private static final Comparator<ModTutGroup> MOD_TUT_GROUP_ORDER = Comparator.comparing(group -> group.value);
+    private static final Comparator<Tag> TAG_ORDER = Comparator.comparing(tag -> tag.tagName);
+
     // Identity fields
     private final Name name;
     private final Email email;
 
     // Data fields
     private final TelegramHandle telegramHandle;
-    private final Set<ModTutGroup> modTutGroups = new HashSet<>();
-    private final Set<Tag> tags = new HashSet<>();
+    private final ArraySet<ModTutGroup> modTutGroups;
+    private final ArraySet<Tag> tags;
     private final boolean isPin;
 
+    private final int hash;
+
+    // Search keys of the name, telegram handle and email, prepared once for find
+    private final String nameSearchKey;
+    private final String telegramHandleSearchKey;
+    private final String emailSearchKey;
+
     /**
      * Every field must be present and not null.
      */
@@ -35,9 +47,14 @@ public class Person {
         this.name = name;
         this.telegramHandle = telegramHandle;
         this.email = email;
-        this.modTutGroups.addAll(modTutGroups);
-        this.tags.addAll(tags);
+        this.modTutGroups = ArraySet.copyOf(modTutGroups, MOD_TUT_GROUP_ORDER);
+        this.tags = ArraySet.copyOf(tags, TAG_ORDER);
         this.isPin = isPin;
+        // use this method for custom fields hashing instead of implementing your own
+        this.hash = Objects.hash(name, telegramHandle, email, this.modTutGroups, this.tags);
+        this.nameSearchKey = StringUtil.toSearchKey(name.fullName);
+        this.telegramHandleSearchKey = StringUtil.toSearchKey(telegramHandle.value);
+        this.emailSearchKey = StringUtil.toSearchKey(email.value);
     }
 
     public Name getName() {
@@ -52,12 +69,33 @@ public class Person {
         return email;
     }
 
+    /**
+     * Returns the name in the form prepared by {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getNameSearchKey() {
+        return nameSearchKey;
+    }
+
+    /**
+     * Returns the telegram handle in the form prepared by {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getTelegramHandleSearchKey() {
+        return telegramHandleSearchKey;
+    }
+
+    /**
+     * Returns the email in the form prepared by {@link StringUtil#toSearchKey(String)}.
+     */
+    public String getEmailSearchKey() {
+        return emailSearchKey;
+    }
+
     /**
      * Returns an immutable mod - tutorial group set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<ModTutGroup> getModTutGroups() {
-        return Collections.unmodifiableSet(modTutGroups);
+        return modTutGroups;
     }
 
     /**
@@ -65,7 +103,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -92,9 +130,14 @@ public class Person {
 
     /**
      * Returns a new Person with the same data except for updated ModTutGroups.
+     * The shared instance of each of {@code newModTutGroups} is used.
      */
     public Person withUpdatedModTutGroups(Set<ModTutGroup> newModTutGroups) {
-        return new Person(name, telegramHandle, email, newModTutGroups, tags, isPin);
+        Set<ModTutGroup> sharedModTutGroups = new HashSet<>();
+        for (ModTutGroup modTutGroup : newModTutGroups) {
+            sharedModTutGroups.add(ModTutGroup.of(modTutGroup.value));
+        }
+        return new Person(name, telegramHandle, email, sharedModTutGroups, tags, isPin);
     }
 
     /**
@@ -113,7 +156,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && telegramHandle.equals(otherPerson.telegramHandle)
                 && email.equals(otherPerson.email)
                 && modTutGroups.equals(otherPerson.modTutGroups)
@@ -123,8 +167,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, telegramHandle, email, modTutGroups, tags);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,155 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * An order of persons by one or more {@link SortKey}s, each compared only if the persons are equal in all the
+ * keys before it. Values are compared with a {@link Collator} for the default locale, so that case and accents
+ * are ordered the way the user expects, and persons without a value for a key come after the persons with one.
+ *
+ * Comparing two persons as a {@code Comparator} prepares their values from scratch; code that compares the same
+ * persons many times should keep the {@link Key} of each person from {@link #getKey(Person)} instead.
+ */
+public class PersonOrder implements Comparator<Person> {
+
+    public static final String MESSAGE_CONSTRAINTS = "A person order needs at least one sort key, each used once";
+
+    public static final PersonOrder BY_NAME = new PersonOrder(List.of(SortKey.NAME));
+
+    private final List<SortKey> sortKeys;
+    // Not thread-safe, and shared by every thread that uses the order, so it is only used while holding its lock
+    private final Collator collator = Collator.getInstance();
+
+    /**
+     * Creates an order by {@code sortKeys}, the most significant first.
+     * There must be at least one sort key, and no sort key may be repeated.
+     */
+    public PersonOrder(List<SortKey> sortKeys) {
+        requireAllNonNull(sortKeys);
+        checkArgument(isValidSortKeys(sortKeys), MESSAGE_CONSTRAINTS);
+        this.sortKeys = List.copyOf(sortKeys);
+    }
+
+    /**
+     * Returns true if {@code sortKeys} make a valid order.
+     */
+    public static boolean isValidSortKeys(List<SortKey> sortKeys) {
+        return !sortKeys.isEmpty() && new HashSet<>(sortKeys).size() == sortKeys.size();
+    }
+
+    public List<SortKey> getSortKeys() {
+        return sortKeys;
+    }
+
+    /**
+     * Returns the values of {@code person} for each sort key, prepared once for fast comparison.
+     */
+    public Key getKey(Person person) {
+        CollationKey[] collationKeys = new CollationKey[sortKeys.size()];
+        for (int i = 0; i < collationKeys.length; i++) {
+            String value = sortKeys.get(i).getValue(person);
+            collationKeys[i] = value == null ? null : getCollationKey(value);
+        }
+        return new Key(collationKeys);
+    }
+
+    /**
+     * Returns the keys of {@code persons}, in the same order as {@code persons}.
+     * Values shared by several persons, such as their modules, are only prepared once.
+     */
+    public List<Key> getKeys(List<Person> persons) {
+        Map<String, CollationKey> preparedValues = new HashMap<>();
+        List<Key> keys = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            CollationKey[] collationKeys = new CollationKey[sortKeys.size()];
+            for (int i = 0; i < collationKeys.length; i++) {
+                String value = sortKeys.get(i).getValue(person);
+                collationKeys[i] = value == null ? null : preparedValues.computeIfAbsent(value, this::getCollationKey);
+            }
+            keys.add(new Key(collationKeys));
+        }
+        return keys;
+    }
+
+    private CollationKey getCollationKey(String value) {
+        synchronized (collator) {
+            return collator.getCollationKey(value);
+        }
+    }
+
+    @Override
+    public int compare(Person person1, Person person2) {
+        return getKey(person1).compareTo(getKey(person2));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonOrder)) {
+            return false;
+        }
+
+        PersonOrder otherPersonOrder = (PersonOrder) other;
+        return sortKeys.equals(otherPersonOrder.sortKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return sortKeys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKeys", sortKeys.stream().map(SortKey::getKeyword).collect(Collectors.joining(" ")))
+                .toString();
+    }
+
+    /**
+     * The values of a person for each key of a {@code PersonOrder}, which compare in that order.
+     * Keys are only comparable with the other keys of the same order.
+     */
+    public static class Key implements Comparable<Key> {
+        private final CollationKey[] collationKeys;
+
+        private Key(CollationKey[] collationKeys) {
+            this.collationKeys = collationKeys;
+        }
+
+        @Override
+        public int compareTo(Key other) {
+            for (int i = 0; i < collationKeys.length; i++) {
+                CollationKey collationKey = collationKeys[i];
+                CollationKey otherCollationKey = other.collationKeys[i];
+                if (collationKey == null || otherCollationKey == null) {
+                    if (collationKey != otherCollationKey) {
+                        return collationKey == null ? 1 : -1;
+                    }
+                    continue;
+                }
+                int result = collationKey.compareTo(otherCollationKey);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.model.person;
+
+import java.util.function.Function;
+
+/**
+ * A field of a {@code Person} that can be searched with the find command.
+ */
+public enum SearchField {
+    NAME(Person::getNameSearchKey),
+    TELEGRAM_HANDLE(Person::getTelegramHandleSearchKey),
+    EMAIL(Person::getEmailSearchKey);
+
+    private final Function<Person, String> searchKeyGetter;
+
+    SearchField(Function<Person, String> searchKeyGetter) {
+        this.searchKeyGetter = searchKeyGetter;
+    }
+
+    /**
+     * Returns the search key of this field of {@code person}.
+     */
+    public String getSearchKey(Person person) {
+        return searchKeyGetter.apply(person);
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A field of a {@code Person} that the person list can be sorted by.
+ */
+public enum SortKey {
+    NAME("name", person -> person.getName().fullName),
+    TELEGRAM_HANDLE("handle", person -> person.getTelegramHandle().value),
+    EMAIL("email", person -> person.getEmail().value),
+    MODULE("mod", person -> first(person.getModTutGroups().stream().map(group -> group.value))),
+    TAG("tag", person -> first(person.getTags().stream().map(tag -> tag.tagName)));
+
+    private final String keyword;
+    private final Function<Person, String> valueGetter;
+
+    SortKey(String keyword, Function<Person, String> valueGetter) {
+        this.keyword = keyword;
+        this.valueGetter = valueGetter;
+    }
+
+    /**
+     * Returns the sort key that the sort command refers to by {@code keyword}, ignoring case.
+     */
+    public static Optional<SortKey> fromKeyword(String keyword) {
+        requireNonNull(keyword);
+        for (SortKey sortKey : values()) {
+            if (sortKey.keyword.equalsIgnoreCase(keyword)) {
+                return Optional.of(sortKey);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getKeyword() {
+        return keyword;
+    }
+
+    /**
+     * Returns the value of this field of {@code person} that it is sorted by, or null if the person has no value.
+     * A person with several module - tutorial groups or tags is sorted by the first of them in natural order.
+     */
+    public String getValue(Person person) {
+        return valueGetter.apply(person);
+    }
+
+    private static String first(Stream<String> values) {
+        return values.min(Comparator.naturalOrder()).orElse(null);
+    }
+}
@@ -0,0 +1,273 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * An inverted index from every trigram (substring of three characters) of the search keys of each
+ * {@link SearchField} to the persons whose key contains it.
+ * A substring search for a keyword of at least three characters only has to verify the persons that contain every
+ * trigram of the keyword, instead of every person.
+ *
+ * The index is built from the person list it is kept for the first time it is searched, and is kept in sync
+ * afterwards by the mutating operations. Operations that replace many persons at once should call
+ * {@link #invalidate()} instead, so that the index is rebuilt when it is next needed.
+ */
+public class TrigramIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    // Removed persons leave a gap in the ids; the index is rebuilt once there are more gaps than persons
+    private static final int MIN_REBUILD_GAPS = 1024;
+
+    private final List<Person> source;
+    private final Map<SearchField, Map<String, PostingList>> postings = new EnumMap<>(SearchField.class);
+    private final Map<Person, Integer> ids = new IdentityHashMap<>();
+    private Person[] persons = new Person[0];
+    private int nextId;
+    private boolean isBuilt;
+
+    /**
+     * Creates an index for the persons in {@code source}, which the index reads when it needs to be rebuilt.
+     */
+    public TrigramIndex(List<Person> source) {
+        requireNonNull(source);
+        this.source = source;
+    }
+
+    /**
+     * Returns the persons whose {@code searchField} contains any of {@code searchKeywords}, each prepared as by
+     * {@link seedu.address.commons.util.StringUtil#toSearchKeyword(String)}.
+     * Returns an empty {@code Optional} if a keyword is shorter than {@link #GRAM_LENGTH}, as such a keyword cannot
+     * be looked up in the index.
+     */
+    public Optional<Set<Person>> findPersons(SearchField searchField, List<String> searchKeywords) {
+        requireAllNonNull(searchField, searchKeywords);
+        if (searchKeywords.stream().anyMatch(keyword -> keyword.length() < GRAM_LENGTH)) {
+            return Optional.empty();
+        }
+        build();
+
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : searchKeywords) {
+            PostingList candidates = intersectPostings(postings.get(searchField), keyword);
+            for (int i = 0; i < candidates.size; i++) {
+                Person person = persons[candidates.ids[i]];
+                if (searchField.getSearchKey(person).contains(keyword)) {
+                    matches.add(person);
+                }
+            }
+        }
+        return Optional.of(matches);
+    }
+
+    /**
+     * Returns the number of persons {@link #findPersons(SearchField, List)} would have to verify for
+     * {@code searchKeywords}, which is at least the number of persons it would return, without verifying them.
+     * Returns an empty {@code OptionalInt} if a keyword cannot be looked up in the index.
+     */
+    public OptionalInt countCandidates(SearchField searchField, List<String> searchKeywords) {
+        requireAllNonNull(searchField, searchKeywords);
+        if (searchKeywords.stream().anyMatch(keyword -> keyword.length() < GRAM_LENGTH)) {
+            return OptionalInt.empty();
+        }
+        build();
+
+        int count = 0;
+        for (String keyword : searchKeywords) {
+            int keywordCount = Integer.MAX_VALUE;
+            for (String trigram : getTrigrams(keyword)) {
+                PostingList postingList = postings.get(searchField).get(trigram);
+                keywordCount = Math.min(keywordCount, postingList == null ? 0 : postingList.size);
+            }
+            count += keywordCount;
+        }
+        return OptionalInt.of(count);
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        if (nextId == persons.length) {
+            persons = Arrays.copyOf(persons, Math.max(16, persons.length * 2));
+        }
+        int id = nextId++;
+        persons[id] = person;
+        ids.put(person, id);
+        for (SearchField searchField : SearchField.values()) {
+            Map<String, PostingList> fieldPostings = postings.get(searchField);
+            String searchKey = searchField.getSearchKey(person);
+            for (int i = 0; i + GRAM_LENGTH <= searchKey.length(); i++) {
+                String trigram = searchKey.substring(i, i + GRAM_LENGTH);
+                fieldPostings.computeIfAbsent(trigram, unused -> new PostingList()).add(id);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        if (!isBuilt) {
+            return;
+        }
+        Integer id = ids.remove(person);
+        if (id == null) {
+            return;
+        }
+        persons[id] = null;
+        for (SearchField searchField : SearchField.values()) {
+            Map<String, PostingList> fieldPostings = postings.get(searchField);
+            for (String trigram : getTrigrams(searchField.getSearchKey(person))) {
+                PostingList postingList = fieldPostings.get(trigram);
+                postingList.remove(id);
+                if (postingList.size == 0) {
+                    fieldPostings.remove(trigram);
+                }
+            }
+        }
+        if (nextId - ids.size() > Math.max(MIN_REBUILD_GAPS, ids.size())) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Discards the index, so that it is rebuilt from the person list the next time it is searched.
+     */
+    public void invalidate() {
+        isBuilt = false;
+        postings.clear();
+        ids.clear();
+        persons = new Person[0];
+        nextId = 0;
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        for (SearchField searchField : SearchField.values()) {
+            postings.put(searchField, new HashMap<>());
+        }
+        persons = new Person[source.size()];
+        isBuilt = true;
+        source.forEach(this::add);
+    }
+
+    /**
+     * Returns the ids of the persons whose key contains every trigram of {@code keyword}.
+     */
+    private static PostingList intersectPostings(Map<String, PostingList> fieldPostings, String keyword) {
+        Set<String> trigrams = getTrigrams(keyword);
+        PostingList[] lists = new PostingList[trigrams.size()];
+        int count = 0;
+        for (String trigram : trigrams) {
+            PostingList postingList = fieldPostings.get(trigram);
+            if (postingList == null) {
+                return new PostingList();
+            }
+            lists[count++] = postingList;
+        }
+
+        // Start from the shortest list, so that every other list only has to be probed for its ids
+        Arrays.sort(lists, (first, second) -> Integer.compare(first.size, second.size));
+        PostingList result = lists[0].copy();
+        for (int i = 1; i < lists.length && result.size > 0; i++) {
+            result.retainAll(lists[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code searchKey}.
+     */
+    private static Set<String> getTrigrams(String searchKey) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= searchKey.length(); i++) {
+            trigrams.add(searchKey.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+
+    /**
+     * A growable list of person ids in increasing order.
+     * Ids are handed out in increasing order, so adding an id only ever appends it.
+     */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        /**
+         * Appends {@code id}, unless it is already the last id, as happens when a key repeats a trigram.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        void remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+                size--;
+            }
+        }
+
+        PostingList copy() {
+            PostingList copy = new PostingList();
+            copy.ids = Arrays.copyOf(ids, Math.max(1, size));
+            copy.size = size;
+            return copy;
+        }
+
+        /**
+         * Keeps only the ids that are also in {@code other}.
+         */
+        void retainAll(PostingList other) {
+            int retained = 0;
+            int from = 0;
+            for (int i = 0; i < size; i++) {
+                int index = Arrays.binarySearch(other.ids, from, other.size, ids[i]);
+                if (index >= 0) {
+                    ids[retained++] = ids[i];
+                    from = index + 1;
+                } else {
+                    from = -index - 1;
+                }
+            }
+            size = retained;
+        }
+    }
+}
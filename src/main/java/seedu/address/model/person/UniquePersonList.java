@@ -3,12 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.TreeObservableList;
+import seedu.address.model.person.exceptions.ConflictingPersonsException;
+import seedu.address.model.person.exceptions.ConflictingPersonsException.Conflict;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonMustBeSameException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -21,22 +34,53 @@ import seedu.address.model.person.exceptions.WrongPinStatusException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity checks are answered in constant time through hash indexes on each of the identity fields (name, telegram
+ * handle and email), which are kept in sync with the backing list by every mutating operation. The person to edit or
+ * remove is found through the name index, so that it does not scan the list.
+ *
+ * The list is made of two segments: the pinned persons at the top of the list, followed by the unpinned persons.
+ * The pinned persons are kept in the order they were pinned in, newest first, and the unpinned persons either in the
+ * order they were added, or in a {@link PersonOrder}, by the {@link PersonOrder.Key} of each person, which is prepared
+ * once and kept with the list. Each person is given a label that orders it within its segment where the order of the
+ * list does not, so the backing {@link TreeObservableList} places every person, and finds the position of every
+ * person, in time logarithmic in the size of the list. Adding, removing, editing, pinning and unpinning a person each
+ * take logarithmic time, and are each reported to observers of the list as a single change, as is sorting it.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final TreeObservableList<Person> internalList = new TreeObservableList<>(this::compareInList);
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity indexes, each mapping an identity field to the person in the list holding it
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final Map<TelegramHandle, Person> telegramHandleIndex = new HashMap<>();
+    private final Map<Email, Person> emailIndex = new HashMap<>();
+
+    // The number of pinned persons, which are the persons before this index of the backing list
+    private int pinnedCount = 0;
+    // The label of each person, which orders the persons of a segment where the order of the list does not. The
+    // labels of a segment increase down the list, and the next labels given out are above or below every label.
+    private final Map<Person, Long> labels = new IdentityHashMap<>();
+    private long nextTopLabel = -1;
+    private long nextBottomLabel = 0;
+
+    // The order the persons are kept in, or null if they are kept in the order they were added
+    private PersonOrder order;
+    private final Map<Person, PersonOrder.Key> orderKeys = new IdentityHashMap<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName())
+                || telegramHandleIndex.containsKey(toCheck.getTelegramHandle())
+                || emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -44,7 +88,9 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean containsExcluding(Person toCheck, Person exclusion) {
         requireAllNonNull(toCheck, exclusion);
-        return internalList.stream().filter(x -> !x.isSamePerson(exclusion)).anyMatch(toCheck::isSamePerson);
+        return isIndexedExcluding(nameIndex.get(toCheck.getName()), exclusion)
+                || isIndexedExcluding(telegramHandleIndex.get(toCheck.getTelegramHandle()), exclusion)
+                || isIndexedExcluding(emailIndex.get(toCheck.getEmail()), exclusion);
     }
 
     /**
@@ -56,27 +102,38 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        if (order != null) {
+            orderKeys.put(toAdd, order.getKey(toAdd));
+        }
+        // A pinned person is added below the other pinned persons
+        labels.put(toAdd, nextBottomLabel++);
+        if (toAdd.getPin()) {
+            pinnedCount++;
+        }
+        internalList.insert(toAdd);
+        indexPerson(toAdd);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * {@code editedPerson} takes the position of {@code target}, unless it is pinned or unpinned by the edit, or the
+     * list is kept in an order that it is out of there, in which case it is moved to its place in the list.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person person = find(target);
+        if (person == null) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (containsExcluding(editedPerson, target)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        replacePerson(person, editedPerson, order == null ? null : order.getKey(editedPerson));
     }
 
     /**
@@ -85,39 +142,171 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person removedPerson = find(toRemove);
+        if (removedPerson == null) {
             throw new PersonNotFoundException();
         }
+        internalList.delete(removedPerson);
+        if (removedPerson.getPin()) {
+            pinnedCount--;
+        }
+        unindexPerson(removedPerson);
+        orderKeys.remove(removedPerson);
+        labels.remove(removedPerson);
+    }
+
+    /**
+     * Replaces every person in the list with the result of applying {@code mapper} to it, or removes the person if
+     * the result is null, in a single pass over the list. The persons that are kept stay in their relative order,
+     * unless they are pinned or unpinned by {@code mapper}, or the list is kept in an order that they are out of.
+     * Observers of the list are notified of all the changes as one change, and only the persons that changed are
+     * updated in the identity indexes and the prepared keys.
+     *
+     * @return the persons that were replaced or removed, each mapped to its replacement, or to null if it was
+     *     removed.
+     * @throws DuplicatePersonException if a replacement has the same identity as another person in the list, in
+     *     which case the list is left unchanged.
+     */
+    public Map<Person, Person> replaceOrRemoveAll(Function<? super Person, Person> mapper) {
+        requireNonNull(mapper);
+        Map<Person, Person> changes = new IdentityHashMap<>();
+        List<Person> pinnedPersons = new ArrayList<>(pinnedCount);
+        List<Person> unpinnedPersons = new ArrayList<>(internalList.size());
+        for (Person person : internalList) {
+            Person replacement = mapper.apply(person);
+            if (replacement != person) {
+                changes.put(person, replacement);
+            }
+            if (replacement != null) {
+                (replacement.getPin() ? pinnedPersons : unpinnedPersons).add(replacement);
+            }
+        }
+
+        if (changes.isEmpty()) {
+            return changes;
+        }
+        List<Person> replacements = new ArrayList<>(changes.size());
+        changes.values().stream().filter(Objects::nonNull).forEach(replacements::add);
+        indexReplacements(changes.keySet(), replacements);
+
+        changes.keySet().forEach(orderKeys::remove);
+        if (order != null) {
+            List<PersonOrder.Key> keys = order.getKeys(replacements);
+            for (int i = 0; i < replacements.size(); i++) {
+                orderKeys.put(replacements.get(i), keys.get(i));
+            }
+            unpinnedPersons.sort(Comparator.comparing(orderKeys::get));
+        }
+
+        pinnedCount = pinnedPersons.size();
+        pinnedPersons.addAll(unpinnedPersons);
+        setLabels(pinnedPersons);
+        internalList.setAll(pinnedPersons);
+        return changes;
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}, and keeps them in the same order.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        order = replacement.order;
+        orderKeys.clear();
+        orderKeys.putAll(replacement.orderKeys);
+        pinnedCount = replacement.pinnedCount;
+        List<Person> persons = replacement.internalList.getSnapshot();
+        setLabels(persons);
+        internalList.setAll(persons);
+        rebuildIndexes();
     }
 
     /**
-     * Replaces the contents of this list with {@code persons}.
+     * Replaces the contents of this list with {@code persons}, with the pinned persons moved to the top of the list
+     * and the other persons sorted if the list is kept in an order.
+     * Persons that are already in the list keep the keys prepared for them.
      * {@code persons} must not contain duplicate persons.
+     *
+     * @throws ConflictingPersonsException listing every conflicting pair if {@code persons} contains duplicates.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<Conflict> conflicts = findConflicts(persons);
+        if (!conflicts.isEmpty()) {
+            throw new ConflictingPersonsException(conflicts);
+        }
+
+        List<Person> orderedPersons = pinnedFirst(persons);
+        setLabels(orderedPersons);
+        internalList.setAll(orderedPersons);
+        rebuildIndexes();
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are an earlier state of this list: unique persons
+     * with the pinned persons first, followed by the other persons in the order of the list if there is one.
+     * Unlike {@link #setPersons(List)}, {@code persons} are not checked for conflicts, and only the persons that
+     * differ between the list and {@code persons} are updated in the identity indexes and the prepared keys.
+     *
+     * @param removedPersons the persons in the list that are not in {@code persons}.
+     * @param addedPersons the persons in {@code persons} that are not in the list.
+     */
+    public void restorePersons(List<Person> persons, Collection<Person> removedPersons,
+            Collection<Person> addedPersons) {
+        requireAllNonNull(persons, removedPersons, addedPersons);
+        removedPersons.forEach(this::unindexPerson);
+        addedPersons.forEach(this::indexPerson);
+        if (order != null) {
+            removedPersons.forEach(orderKeys::remove);
+            List<Person> unpreparedPersons = new ArrayList<>(addedPersons);
+            List<PersonOrder.Key> keys = order.getKeys(unpreparedPersons);
+            for (int i = 0; i < unpreparedPersons.size(); i++) {
+                orderKeys.put(unpreparedPersons.get(i), keys.get(i));
+            }
         }
 
+        pinnedCount = 0;
+        while (pinnedCount < persons.size() && persons.get(pinnedCount).getPin()) {
+            pinnedCount++;
+        }
+        setLabels(persons);
         internalList.setAll(persons);
     }
 
     /**
-     * Sorts the list using the given {@code comparator}.
+     * Returns the index of {@code person} in the list, found by identity rather than by equality, or -1 if the
+     * person is not in the list.
+     */
+    public int positionOf(Person person) {
+        return labels.containsKey(person) ? internalList.positionOf(person) : -1;
+    }
+
+    /**
+     * Returns the order the list is kept in, if any.
      */
-    public void sort(Comparator<Person> comparator) {
-        requireNonNull(comparator);
-        // Remove pinned persons from the list before sorting, then add the temp list back to the front of the list
-        List<Person> temporaryList = internalList.stream().filter(Person::getPin).toList();
-        internalList.removeAll(temporaryList);
-        internalList.sort(comparator);
-        internalList.addAll(0, temporaryList);
+    public Optional<PersonOrder> getOrder() {
+        return Optional.ofNullable(order);
+    }
+
+    /**
+     * Sorts the unpinned persons in the list in {@code order}, and keeps them in that order from now on.
+     * If {@code order} is null, the persons keep their current positions, and are added to the end of the list from
+     * now on.
+     */
+    public void setOrder(PersonOrder order) {
+        List<Person> persons = internalList.getSnapshot();
+        this.order = order;
+        orderKeys.clear();
+        if (order == null) {
+            // The labels take over ordering the unpinned persons from the order
+            setLabels(persons);
+            return;
+        }
+
+        prepareKeys(persons);
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.subList(pinnedCount, sortedPersons.size()).sort(Comparator.comparing(orderKeys::get));
+        setLabels(sortedPersons);
+        internalList.rearrange(pinnedCount, sortedPersons.subList(pinnedCount, sortedPersons.size()));
     }
 
     /**
@@ -131,13 +320,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new WrongPinStatusException();
         }
         setPersonIfSamePersonWithDifferentPin(target, pinnedPerson);
-        internalList.remove(pinnedPerson);
-        internalList.add(0, pinnedPerson);
     }
 
     /**
      * Replaces the {@code target} in the list with {@code unpinnedPerson}, and unpins the person.
-     * The person is then put at the bottom of the list.
+     * The person is then put at the bottom of the list, or at its place in the order the list is kept in.
      * {@code target} and {@code unpinnedPerson} must be the same person with different pin status.
      */
     public void unpin(Person target, Person unpinnedPerson) {
@@ -146,8 +333,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new WrongPinStatusException();
         }
         setPersonIfSamePersonWithDifferentPin(target, unpinnedPerson);
-        internalList.remove(unpinnedPerson);
-        internalList.add(unpinnedPerson);
+    }
+
+    /**
+     * Returns an unmodifiable list of the current persons, which does not change when this list is modified.
+     */
+    public List<Person> getSnapshot() {
+        return internalList.getSnapshot();
     }
 
     /**
@@ -188,17 +380,29 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns every pair of persons in {@code persons} that have the same identity, in a single pass over the list.
+     * A pair that shares more than one identity field is only reported once.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
-            }
+    private static List<Conflict> findConflicts(List<Person> persons) {
+        Map<Name, Person> seenNames = new HashMap<>();
+        Map<TelegramHandle, Person> seenTelegramHandles = new HashMap<>();
+        Map<Email, Person> seenEmails = new HashMap<>();
+        List<Conflict> conflicts = new ArrayList<>();
+
+        for (Person person : persons) {
+            Set<Person> earlierPersons = new LinkedHashSet<>();
+            addIfPresent(earlierPersons, seenNames.putIfAbsent(person.getName(), person));
+            addIfPresent(earlierPersons, seenTelegramHandles.putIfAbsent(person.getTelegramHandle(), person));
+            addIfPresent(earlierPersons, seenEmails.putIfAbsent(person.getEmail(), person));
+            earlierPersons.forEach(earlierPerson -> conflicts.add(new Conflict(earlierPerson, person)));
+        }
+        return conflicts;
+    }
+
+    private static void addIfPresent(Set<Person> persons, Person person) {
+        if (person != null) {
+            persons.add(person);
         }
-        return true;
     }
 
     /**
@@ -208,8 +412,8 @@ public class UniquePersonList implements Iterable<Person> {
     private void setPersonIfSamePersonWithDifferentPin(Person target, Person otherPerson) {
         requireAllNonNull(target, otherPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person person = find(target);
+        if (person == null) {
             throw new PersonNotFoundException();
         }
         if (!target.isSamePerson(otherPerson)) {
@@ -219,6 +423,173 @@ public class UniquePersonList implements Iterable<Person> {
             throw new WrongPinStatusException();
         }
 
-        internalList.set(index, otherPerson);
+        // The pin status is not part of the order, so the key stays the same
+        replacePerson(person, otherPerson, orderKeys.get(person));
+    }
+
+    /**
+     * Returns the person in the list that is equal to {@code person}, or null if there is none.
+     */
+    private Person find(Person person) {
+        Person indexed = nameIndex.get(person.getName());
+        return indexed != null && indexed.equals(person) ? indexed : null;
+    }
+
+    /**
+     * Replaces {@code target} in the list with {@code replacement}, whose key in the order of the list is {@code key},
+     * as a single change to the list.
+     * A person pinned by the replacement is moved to the top of the list, and a person unpinned by it to the bottom
+     * of the list or to its place in the order; otherwise, the replacement keeps the label of the person it replaces,
+     * and so its position, unless it is out of order there.
+     */
+    private void replacePerson(Person target, Person replacement, PersonOrder.Key key) {
+        if (replacement.getPin() && !target.getPin()) {
+            labels.put(replacement, nextTopLabel--);
+            pinnedCount++;
+        } else if (!replacement.getPin() && target.getPin()) {
+            labels.put(replacement, nextBottomLabel++);
+            pinnedCount--;
+        } else {
+            labels.put(replacement, labels.get(target));
+        }
+        if (key != null) {
+            orderKeys.put(replacement, key);
+        }
+
+        internalList.replace(target, replacement);
+        if (target != replacement) {
+            labels.remove(target);
+            orderKeys.remove(target);
+        }
+        unindexPerson(target);
+        indexPerson(replacement);
+    }
+
+    /**
+     * Returns {@code persons} with the pinned persons first, followed by the other persons, sorted in the order of
+     * the list if there is one, and counts the pinned persons.
+     * The keys of {@code persons} are prepared along the way if the list is kept in an order.
+     */
+    private List<Person> pinnedFirst(List<Person> persons) {
+        List<Person> pinnedPersons = new ArrayList<>();
+        List<Person> unpinnedPersons = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            (person.getPin() ? pinnedPersons : unpinnedPersons).add(person);
+        }
+        if (order != null) {
+            prepareKeys(persons);
+            unpinnedPersons.sort(Comparator.comparing(orderKeys::get));
+        }
+        pinnedCount = pinnedPersons.size();
+        pinnedPersons.addAll(unpinnedPersons);
+        return pinnedPersons;
+    }
+
+    /**
+     * Prepares the keys of {@code persons} that have none yet, and discards the keys of every other person.
+     */
+    private void prepareKeys(List<Person> persons) {
+        Map<Person, PersonOrder.Key> keptKeys = new IdentityHashMap<>(persons.size());
+        List<Person> unpreparedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            PersonOrder.Key key = orderKeys.get(person);
+            if (key == null) {
+                unpreparedPersons.add(person);
+            } else {
+                keptKeys.put(person, key);
+            }
+        }
+
+        List<PersonOrder.Key> keys = order.getKeys(unpreparedPersons);
+        for (int i = 0; i < unpreparedPersons.size(); i++) {
+            keptKeys.put(unpreparedPersons.get(i), keys.get(i));
+        }
+        orderKeys.clear();
+        orderKeys.putAll(keptKeys);
+    }
+
+    /**
+     * Compares persons by their positions in the list: the pinned persons come first, and the unpinned persons are
+     * compared by their keys if the list is kept in an order, and otherwise, or if their keys are equal, the persons
+     * of a segment are compared by their labels.
+     */
+    private int compareInList(Person person, Person otherPerson) {
+        if (person.getPin() != otherPerson.getPin()) {
+            return person.getPin() ? -1 : 1;
+        }
+        if (order != null && !person.getPin()) {
+            int comparison = orderKeys.get(person).compareTo(orderKeys.get(otherPerson));
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return Long.compare(labels.get(person), labels.get(otherPerson));
+    }
+
+    /**
+     * Labels {@code persons}, which are the persons of the list in the order they are put in, so that the labels of
+     * each segment increase down the list.
+     */
+    private void setLabels(List<Person> persons) {
+        labels.clear();
+        for (Person person : persons) {
+            labels.put(person, (long) labels.size());
+        }
+        nextTopLabel = -1;
+        nextBottomLabel = persons.size();
+    }
+
+    /**
+     * Returns true if {@code indexed} is present and is not the same person as {@code exclusion}.
+     */
+    private static boolean isIndexedExcluding(Person indexed, Person exclusion) {
+        return indexed != null && !indexed.isSamePerson(exclusion);
+    }
+
+    /**
+     * Adds the identity fields of {@code person} to the identity indexes.
+     */
+    private void indexPerson(Person person) {
+        nameIndex.put(person.getName(), person);
+        telegramHandleIndex.put(person.getTelegramHandle(), person);
+        emailIndex.put(person.getEmail(), person);
+    }
+
+    /**
+     * Removes the identity fields of {@code person} from the identity indexes.
+     * Entries that have since been claimed by another person are left untouched.
+     */
+    private void unindexPerson(Person person) {
+        nameIndex.remove(person.getName(), person);
+        telegramHandleIndex.remove(person.getTelegramHandle(), person);
+        emailIndex.remove(person.getEmail(), person);
+    }
+
+    /**
+     * Replaces {@code persons} with {@code replacements} in the identity indexes.
+     *
+     * @throws DuplicatePersonException if a replacement has the same identity as a person that is not replaced, or
+     *     as another replacement, in which case the identity indexes are left unchanged.
+     */
+    private void indexReplacements(Collection<Person> persons, List<Person> replacements) {
+        persons.forEach(this::unindexPerson);
+        for (int i = 0; i < replacements.size(); i++) {
+            if (contains(replacements.get(i))) {
+                replacements.subList(0, i).forEach(this::unindexPerson);
+                persons.forEach(this::indexPerson);
+                throw new DuplicatePersonException();
+            }
+            indexPerson(replacements.get(i));
+        }
+    }
+
+    /**
+     * Rebuilds the identity indexes from the backing list.
+     */
+    private void rebuildIndexes() {
+        nameIndex.clear();
+        telegramHandleIndex.clear();
+        emailIndex.clear();
+        internalList.forEach(this::indexPerson);
     }
 }
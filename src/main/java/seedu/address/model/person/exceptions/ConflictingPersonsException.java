@@ -0,0 +1,86 @@
+package seedu.address.model.person.exceptions;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Signals that a list of persons contains duplicate persons, and reports every pair of persons whose identities
+ * conflict.
+ */
+public class ConflictingPersonsException extends DuplicatePersonException {
+
+    private final List<Conflict> conflicts;
+
+    /**
+     * Constructs a {@code ConflictingPersonsException} reporting the given {@code conflicts}.
+     */
+    public ConflictingPersonsException(List<Conflict> conflicts) {
+        super("Operation would result in duplicate persons: " + conflicts.stream()
+                .map(Conflict::toString)
+                .collect(Collectors.joining(", ")));
+        this.conflicts = List.copyOf(conflicts);
+    }
+
+    /**
+     * Returns the conflicting pairs of persons, in the order they were found.
+     */
+    public List<Conflict> getConflicts() {
+        return conflicts;
+    }
+
+    /**
+     * A pair of persons that have the same identity.
+     * {@code first} appears before {@code second} in the list that was checked.
+     */
+    public static class Conflict {
+        private final Person first;
+        private final Person second;
+
+        /**
+         * Both persons must be present and not null.
+         */
+        public Conflict(Person first, Person second) {
+            requireNonNull(first);
+            requireNonNull(second);
+            this.first = first;
+            this.second = second;
+        }
+
+        public Person getFirst() {
+            return first;
+        }
+
+        public Person getSecond() {
+            return second;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof Conflict)) {
+                return false;
+            }
+
+            Conflict otherConflict = (Conflict) other;
+            return first.equals(otherConflict.first) && second.equals(otherConflict.second);
+        }
+
+        @Override
+        public int hashCode() {
+            return first.hashCode() * 31 + second.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return first.getName() + " and " + second.getName();
+        }
+    }
+}
@@ -8,4 +8,8 @@ public class DuplicatePersonException extends RuntimeException {
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
     }
+
+    protected DuplicatePersonException(String message) {
+        super(message);
+    }
 }
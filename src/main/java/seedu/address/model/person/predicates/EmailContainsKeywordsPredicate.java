@@ -2,8 +2,8 @@ package seedu.address.model.person.predicates;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Email} matches any of the keywords given.
@@ -11,13 +11,12 @@ import seedu.address.model.person.Person;
 public class EmailContainsKeywordsPredicate extends FieldContainsKeywordsPredicate {
 
     public EmailContainsKeywordsPredicate(List<String> keywords) {
-        super(keywords);
+        super(keywords, SearchField.EMAIL);
     }
 
     @Override
     public boolean test(Person person) {
-        return super.keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsAnyIgnoreCase(person.getEmail().value, keyword));
+        return containsAnyKeyword(person.getEmailSearchKey());
     }
 
     @Override
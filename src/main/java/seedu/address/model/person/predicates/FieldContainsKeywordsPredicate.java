@@ -1,10 +1,13 @@
 package seedu.address.model.person.predicates;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 
 /**
  * Abstract class for testing that a {@code Person}'s field matches any of the keywords given.
@@ -12,8 +15,67 @@ import seedu.address.model.person.Person;
 public abstract class FieldContainsKeywordsPredicate implements Predicate<Person> {
     protected final List<String> keywords;
 
-    public FieldContainsKeywordsPredicate(List<String> keywords) {
+    // The keywords in the form prepared by StringUtil#toSearchKeyword
+    private final String[] searchKeywords;
+
+    // The field the keywords are matched against, or null if the predicate does not test a single field
+    private final SearchField searchField;
+
+    /**
+     * Creates a predicate that tests {@code searchField} for any of {@code keywords}.
+     * Each keyword must be a single, non-empty word.
+     */
+    public FieldContainsKeywordsPredicate(List<String> keywords, SearchField searchField) {
         this.keywords = keywords;
+        this.searchField = searchField;
+        this.searchKeywords = new String[keywords.size()];
+        for (int i = 0; i < searchKeywords.length; i++) {
+            searchKeywords[i] = StringUtil.toSearchKeyword(keywords.get(i));
+        }
+    }
+
+    /**
+     * Returns the field the keywords are matched against, or an empty {@code Optional} if this predicate does not
+     * test a single field.
+     */
+    public Optional<SearchField> getSearchField() {
+        return Optional.ofNullable(searchField);
+    }
+
+    /**
+     * Returns the keywords in the form prepared by {@link StringUtil#toSearchKeyword(String)}.
+     */
+    public List<String> getSearchKeywords() {
+        return List.of(searchKeywords);
+    }
+
+    /**
+     * Returns true if {@code searchKey}, as prepared by {@link StringUtil#toSearchKey(String)}, contains any of the
+     * keywords.
+     */
+    protected boolean containsAnyKeyword(String searchKey) {
+        for (String searchKeyword : searchKeywords) {
+            if (searchKey.contains(searchKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every person that passes this predicate passes {@code other} as well, because both test the
+     * same field and each keyword of this predicate contains a keyword of {@code other}.
+     */
+    public boolean isNarrowerThan(FieldContainsKeywordsPredicate other) {
+        if (getClass() != other.getClass()) {
+            return false;
+        }
+        for (String searchKeyword : searchKeywords) {
+            if (!other.containsAnyKeyword(searchKeyword)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,97 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.FuzzyIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+
+/**
+ * Tests that a token of a {@code Person}'s name or telegram handle is within a small edit distance of any of the
+ * keywords given, so that keywords with typos still match.
+ *
+ * @see FuzzyIndex
+ */
+public class FuzzyMatchPredicate implements Predicate<Person> {
+
+    /** The distance of a person that does not match any keyword. */
+    public static final int NO_MATCH = Integer.MAX_VALUE;
+
+    private final List<String> keywords;
+    private final SearchField searchField;
+    private final List<String> searchKeywords;
+    private final Set<String> keywordTokens = new LinkedHashSet<>();
+
+    /**
+     * Creates a predicate that tests {@code searchField}, which must be one of {@link FuzzyIndex#FUZZY_FIELDS}, for
+     * any of {@code keywords}. Each keyword must be a single, non-empty word.
+     */
+    public FuzzyMatchPredicate(List<String> keywords, SearchField searchField) {
+        requireNonNull(keywords);
+        requireNonNull(searchField);
+        checkArgument(FuzzyIndex.FUZZY_FIELDS.contains(searchField), "Field cannot be searched fuzzily");
+        this.keywords = keywords;
+        this.searchField = searchField;
+        this.searchKeywords = keywords.stream().map(StringUtil::toSearchKeyword).toList();
+        for (String searchKeyword : searchKeywords) {
+            keywordTokens.addAll(FuzzyIndex.getTokens(searchField, searchKeyword));
+        }
+    }
+
+    public SearchField getSearchField() {
+        return searchField;
+    }
+
+    /**
+     * Returns the keywords in the form prepared by {@link StringUtil#toSearchKeyword(String)}.
+     */
+    public List<String> getSearchKeywords() {
+        return searchKeywords;
+    }
+
+    /**
+     * Returns the edit distance between the closest matching pair of a keyword and a token of the field of
+     * {@code person}, or {@link #NO_MATCH} if no keyword matches.
+     */
+    public int getDistance(Person person) {
+        return FuzzyIndex.getDistance(keywordTokens, FuzzyIndex.getTokens(searchField,
+                searchField.getSearchKey(person)));
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return getDistance(person) != NO_MATCH;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FuzzyMatchPredicate)) {
+            return false;
+        }
+
+        FuzzyMatchPredicate otherFuzzyMatchPredicate = (FuzzyMatchPredicate) other;
+        return keywords.equals(otherFuzzyMatchPredicate.keywords)
+                && searchField == otherFuzzyMatchPredicate.searchField;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("searchField", searchField)
+                .add("keywords", keywords)
+                .toString();
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.person.predicates;
+
+import java.util.List;
+
+import seedu.address.model.person.ModTutGroup;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that any of a {@code Person}'s {@code ModTutGroup}s matches any of the keywords given.
+ * A keyword can be a module, such as {@code CS2103T}, or a whole module - tutorial group, such as
+ * {@code CS2103T-T10}.
+ */
+public class ModTutGroupContainsKeywordsPredicate extends FieldContainsKeywordsPredicate {
+
+    public ModTutGroupContainsKeywordsPredicate(List<String> keywords) {
+        super(keywords, null);
+    }
+
+    /**
+     * Returns true if the module - tutorial group with {@code searchKey}, as prepared by
+     * {@link seedu.address.commons.util.StringUtil#toSearchKey(String)}, matches any of the keywords.
+     */
+    public boolean matches(String searchKey) {
+        return containsAnyKeyword(searchKey);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+            if (containsAnyKeyword(modTutGroup.getSearchKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ModTutGroupContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        ModTutGroupContainsKeywordsPredicate otherModTutGroupContainsKeywordsPredicate =
+                (ModTutGroupContainsKeywordsPredicate) other;
+        return keywords.equals(otherModTutGroupContainsKeywordsPredicate.keywords);
+    }
+}
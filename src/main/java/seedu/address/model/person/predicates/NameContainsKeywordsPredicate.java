@@ -2,8 +2,8 @@ package seedu.address.model.person.predicates;
 
 import java.util.List;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
@@ -11,13 +11,12 @@ import seedu.address.model.person.Person;
 public class NameContainsKeywordsPredicate extends FieldContainsKeywordsPredicate {
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
-        super(keywords);
+        super(keywords, SearchField.NAME);
     }
 
     @Override
     public boolean test(Person person) {
-        return super.keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsAnyIgnoreCase(person.getName().fullName, keyword));
+        return containsAnyKeyword(person.getNameSearchKey());
     }
     @Override
     public boolean equals(Object other) {
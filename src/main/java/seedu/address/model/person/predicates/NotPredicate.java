@@ -0,0 +1,53 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} fails the given operand.
+ */
+public class NotPredicate implements Predicate<Person> {
+
+    private final Predicate<Person> operand;
+
+    /**
+     * Creates a predicate that negates {@code operand}.
+     */
+    public NotPredicate(Predicate<Person> operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Predicate<Person> getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof NotPredicate)) {
+            return false;
+        }
+
+        NotPredicate otherNotPredicate = (NotPredicate) other;
+        return operand.equals(otherNotPredicate.operand);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operand", operand).toString();
+    }
+}
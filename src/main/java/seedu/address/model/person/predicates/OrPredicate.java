@@ -0,0 +1,62 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * Tests that a {@code Person} passes any of the given operands.
+ * Operands are tested in order, stopping at the first operand that passes.
+ */
+public class OrPredicate implements Predicate<Person> {
+
+    private final List<Predicate<Person>> operands;
+
+    /**
+     * Creates a predicate over {@code operands}, which must have at least two operands.
+     */
+    public OrPredicate(List<Predicate<Person>> operands) {
+        requireNonNull(operands);
+        checkArgument(operands.size() >= 2, "Or needs at least two operands");
+        this.operands = List.copyOf(operands);
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Predicate<Person> operand : operands) {
+            if (operand.test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof OrPredicate)) {
+            return false;
+        }
+
+        OrPredicate otherOrPredicate = (OrPredicate) other;
+        return operands.equals(otherOrPredicate.operands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this).add("operands", operands).toString();
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.person.predicates;
+
+import java.util.List;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Tests that any of a {@code Person}'s {@code Tag}s matches any of the keywords given.
+ */
+public class TagContainsKeywordsPredicate extends FieldContainsKeywordsPredicate {
+
+    public TagContainsKeywordsPredicate(List<String> keywords) {
+        super(keywords, null);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (Tag tag : person.getTags()) {
+            if (containsAnyKeyword(tag.getSearchKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof TagContainsKeywordsPredicate)) {
+            return false;
+        }
+
+        TagContainsKeywordsPredicate otherTagContainsKeywordsPredicate = (TagContainsKeywordsPredicate) other;
+        return keywords.equals(otherTagContainsKeywordsPredicate.keywords);
+    }
+}
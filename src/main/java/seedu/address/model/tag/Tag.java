@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.InternPool;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,8 +15,13 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final InternPool<Tag> POOL = new InternPool<>();
+
     public final String tagName;
 
+    // The tag name as prepared by StringUtil#toSearchKey
+    private final String searchKey;
+
     /**
      * Constructs a {@code Tag}.
      *
@@ -23,6 +31,22 @@ public class Tag {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
         this.tagName = tagName;
+        this.searchKey = StringUtil.toSearchKey(tagName);
+    }
+
+    /**
+     * Returns the shared {@code Tag} with the given {@code tagName}.
+     * Equal tags created through this method are the same instance.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        return POOL.intern(tagName, Tag::new);
+    }
+
+    public String getSearchKey() {
+        return searchKey;
     }
 
     /**
@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Writes AddressBook data to an {@link AddressBookStorage} on a background thread.
+ *
+ * Saves of a version of the data that has already been saved are skipped, and saves requested while an earlier one
+ * is still waiting to be written are coalesced, so that only the latest data is written.
+ * With a save interval of {@code n}, only every {@code n}-th requested save is scheduled, and the data of the saves
+ * in between is written by the next scheduled save or by {@link #flush()}.
+ * A failed write is reported to the {@link FailureListener} as soon as it happens, if one is set, and otherwise by
+ * the next call to {@link #save(ReadOnlyAddressBook)} or {@link #flush()}. Either way, the next save retries it.
+ */
+public class AddressBookSaver {
+
+    public static final String MESSAGE_INVALID_SAVE_INTERVAL = "Save interval should not be negative";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private static final long NO_VERSION = -1;
+
+    private final AddressBookStorage addressBookStorage;
+    private final Executor executor;
+    private final int saveInterval;
+
+    private final Object lock = new Object();
+
+    private volatile FailureListener failureListener;
+
+    // Only accessed by the thread requesting saves
+    private long lastRequestedVersion = NO_VERSION;
+    private int requestCount;
+    private ReadOnlyAddressBook unscheduledAddressBook;
+    private String unscheduledCause;
+
+    // Guarded by lock
+    private ReadOnlyAddressBook pendingAddressBook;
+    private String pendingCause;
+    private boolean isWriteScheduled;
+    private boolean isWriting;
+    private IOException failure;
+    private boolean isFailureReported;
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code addressBookStorage} on its own background thread.
+     */
+    public AddressBookSaver(AddressBookStorage addressBookStorage) {
+        this(addressBookStorage, 1);
+    }
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code addressBookStorage} on its own background thread, and
+     * only schedules every {@code saveInterval}-th requested save, or none before {@link #flush()} if it is 0.
+     */
+    public AddressBookSaver(AddressBookStorage addressBookStorage, int saveInterval) {
+        this(addressBookStorage, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBookSaver");
+            thread.setDaemon(true);
+            return thread;
+        }), saveInterval);
+    }
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code addressBookStorage} using {@code executor}.
+     * {@code executor} must run the writes one at a time.
+     */
+    public AddressBookSaver(AddressBookStorage addressBookStorage, Executor executor) {
+        this(addressBookStorage, executor, 1);
+    }
+
+    /**
+     * Creates an {@code AddressBookSaver} that writes to {@code addressBookStorage} using {@code executor}, and only
+     * schedules every {@code saveInterval}-th requested save, or none before {@link #flush()} if it is 0.
+     * {@code executor} must run the writes one at a time.
+     */
+    public AddressBookSaver(AddressBookStorage addressBookStorage, Executor executor, int saveInterval) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(executor);
+        checkArgument(saveInterval >= 0, MESSAGE_INVALID_SAVE_INTERVAL);
+        this.addressBookStorage = addressBookStorage;
+        this.executor = executor;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Sets the listener that failed writes are reported to as soon as they happen, on the thread that wrote them,
+     * instead of by the next {@link #save(ReadOnlyAddressBook)} or {@link #flush()}.
+     */
+    public void setFailureListener(FailureListener failureListener) {
+        this.failureListener = failureListener;
+    }
+
+    /**
+     * Schedules {@code addressBook} to be saved, unless its current version has already been requested, or this is not
+     * an {@code n}-th requested save for the save interval {@code n}.
+     * A snapshot of {@code addressBook} is taken before returning, so it can be modified while it is being written.
+     *
+     * @throws IOException if an earlier write failed and has not been reported yet.
+     */
+    public void save(ReadOnlyAddressBook addressBook) throws IOException {
+        save(addressBook, null);
+    }
+
+    /**
+     * Similar to {@link #save(ReadOnlyAddressBook)}, where {@code cause} describes the latest change to
+     * {@code addressBook}, such as the command that made it, so that a failure to write it can be tied to that change.
+     */
+    public void save(ReadOnlyAddressBook addressBook, String cause) throws IOException {
+        requireNonNull(addressBook);
+        IOException earlierFailure = takeFailure();
+        long version = addressBook.getVersion();
+        if (version != lastRequestedVersion) {
+            lastRequestedVersion = version;
+            unscheduledAddressBook = addressBook.getSnapshot();
+            unscheduledCause = cause;
+        }
+        requestCount++;
+        if (saveInterval > 0 && requestCount >= saveInterval) {
+            requestCount = 0;
+            scheduleUnscheduled();
+        }
+        IOException unreportedFailure = earlierFailure != null ? earlierFailure : takeFailure();
+        if (unreportedFailure != null) {
+            throw unreportedFailure;
+        }
+    }
+
+    /**
+     * Schedules the data of any saves that were requested but not scheduled, and blocks until every scheduled save
+     * has been written.
+     *
+     * @throws IOException if a write failed and has not been reported yet.
+     */
+    public void flush() throws IOException {
+        scheduleUnscheduled();
+        synchronized (lock) {
+            while (isWriteScheduled || isWriting) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        IOException unreportedFailure = takeFailure();
+        if (unreportedFailure != null) {
+            throw unreportedFailure;
+        }
+    }
+
+    private void scheduleUnscheduled() {
+        if (unscheduledAddressBook != null) {
+            schedule(unscheduledAddressBook, unscheduledCause);
+            unscheduledAddressBook = null;
+            unscheduledCause = null;
+        }
+    }
+
+    private void schedule(ReadOnlyAddressBook addressBook, String cause) {
+        boolean shouldSubmit;
+        synchronized (lock) {
+            pendingAddressBook = addressBook;
+            pendingCause = cause;
+            shouldSubmit = !isWriteScheduled;
+            isWriteScheduled = true;
+        }
+
+        if (shouldSubmit) {
+            executor.execute(this::writePending);
+        }
+    }
+
+    private void writePending() {
+        ReadOnlyAddressBook addressBook;
+        String cause;
+        synchronized (lock) {
+            addressBook = pendingAddressBook;
+            cause = pendingCause;
+            pendingAddressBook = null;
+            pendingCause = null;
+            isWriteScheduled = false;
+            isWriting = true;
+        }
+
+        IOException writeFailure = null;
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+        } catch (IOException e) {
+            logger.warning("Failed to save address book: " + StringUtil.getDetails(e));
+            writeFailure = e;
+        }
+
+        FailureListener listener = failureListener;
+        synchronized (lock) {
+            if (writeFailure != null) {
+                failure = writeFailure;
+                isFailureReported = listener != null;
+            }
+            isWriting = false;
+            lock.notifyAll();
+        }
+
+        if (writeFailure != null && listener != null) {
+            listener.onSaveFailed(cause, writeFailure);
+        }
+    }
+
+    /**
+     * Clears the failure of the last write, if it failed, so that it is retried by the next save even if the data has
+     * not changed since, and returns the failure if it has not been reported to the failure listener.
+     */
+    private IOException takeFailure() {
+        IOException lastFailure;
+        boolean isReported;
+        synchronized (lock) {
+            lastFailure = failure;
+            isReported = isFailureReported;
+            failure = null;
+        }
+
+        if (lastFailure == null) {
+            return null;
+        }
+        lastRequestedVersion = NO_VERSION;
+        return isReported ? null : lastFailure;
+    }
+
+    /**
+     * Receives the failures of writes as soon as they happen.
+     */
+    @FunctionalInterface
+    public interface FailureListener {
+        /**
+         * Called on the writing thread when the data saved with {@code cause}, and any earlier data coalesced into
+         * it, could not be written. {@code cause} is null if the save was requested without one.
+         */
+        void onSaveFailed(String cause, IOException failure);
+    }
+}
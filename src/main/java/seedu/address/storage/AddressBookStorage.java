@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -12,6 +13,21 @@ import seedu.address.model.ReadOnlyAddressBook;
  */
 public interface AddressBookStorage {
 
+    /**
+     * Returns an {@code AddressBookStorage} that stores the data at {@code filePath} in the given {@code format}.
+     */
+    static AddressBookStorage forFormat(AddressBookFormat format, Path filePath) {
+        switch (format) {
+        case JOURNAL:
+            return new JournalAddressBookStorage(filePath);
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath);
+        }
+    }
+
     /**
      * Returns the file path of the data file.
      */
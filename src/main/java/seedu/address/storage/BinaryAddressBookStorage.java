@@ -0,0 +1,337 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.ModTutGroup;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.TelegramHandle;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file consists of, in order:
+ * <ul>
+ *     <li>the magic number {@code CNTS} and the format version,</li>
+ *     <li>a dictionary of the distinct module, tutorial and tag names,</li>
+ *     <li>the number of persons, followed by one length-prefixed record per person, in which modules, tutorials and
+ *     tags are stored as positions in the dictionary,</li>
+ *     <li>the number of sort keys of the person order, which is 0 if the persons are not kept in an order, followed
+ *     by the names of the sort keys,</li>
+ *     <li>the CRC32 checksum of everything before it.</li>
+ * </ul>
+ * Strings are stored as their length followed by their UTF-8 bytes. The file is read into memory whole.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_CORRUPTED_FILE = "Data file is not a valid binary address book";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file is in an unsupported format version: %1$d";
+
+    static final int MAGIC = 0x434E5453;
+    static final short FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            // Read onto the heap rather than through a memory mapping, which would keep the file open until the
+            // mapping is garbage collected and stop it from being replaced on some platforms
+            return Optional.of(decode(ByteBuffer.wrap(Files.readAllBytes(filePath))));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data file is replaced atomically.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        Path tempFile = FileUtil.createTempFileBeside(filePath);
+        try {
+            try (FileOutputStream fileOutputStream = new FileOutputStream(tempFile.toFile())) {
+                CRC32 checksum = new CRC32();
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                        new CheckedOutputStream(fileOutputStream, checksum)));
+                encode(addressBook.getPersonList(), addressBook.getPersonOrder().orElse(null), out);
+                out.flush();
+                out.writeLong(checksum.getValue());
+                out.flush();
+                fileOutputStream.getFD().sync();
+            }
+            FileUtil.moveAtomically(tempFile, filePath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void encode(List<Person> persons, PersonOrder order, DataOutputStream out) throws IOException {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Person person : persons) {
+            for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+                dictionary.putIfAbsent(modTutGroup.getModule().getName(), dictionary.size());
+                dictionary.putIfAbsent(modTutGroup.getTutorial().getName(), dictionary.size());
+            }
+            for (Tag tag : person.getTags()) {
+                dictionary.putIfAbsent(tag.tagName, dictionary.size());
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeShort(FORMAT_VERSION);
+        out.writeInt(dictionary.size());
+        for (String value : dictionary.keySet()) {
+            writeString(out, value);
+        }
+
+        out.writeInt(persons.size());
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(record);
+        for (Person person : persons) {
+            record.reset();
+            writeString(recordOut, person.getName().fullName);
+            writeString(recordOut, person.getTelegramHandle().value);
+            writeString(recordOut, person.getEmail().value);
+            recordOut.writeBoolean(person.getPin());
+            recordOut.writeInt(person.getModTutGroups().size());
+            for (ModTutGroup modTutGroup : person.getModTutGroups()) {
+                recordOut.writeInt(dictionary.get(modTutGroup.getModule().getName()));
+                recordOut.writeInt(dictionary.get(modTutGroup.getTutorial().getName()));
+            }
+            recordOut.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                recordOut.writeInt(dictionary.get(tag.tagName));
+            }
+            recordOut.flush();
+
+            out.writeInt(record.size());
+            record.writeTo(out);
+        }
+
+        List<String> sortKeyNames = order == null ? List.of() : JsonSerializableAddressBook.toSortKeyNames(order);
+        out.writeInt(sortKeyNames.size());
+        for (String sortKeyName : sortKeyNames) {
+            writeString(out, sortKeyName);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Converts the binary address book in {@code buffer} into the model's {@code AddressBook}.
+     *
+     * @throws IllegalValueException if {@code buffer} is corrupted or there were any data constraints violated.
+     */
+    static AddressBook decode(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < Long.BYTES) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        int checksumPosition = buffer.limit() - Long.BYTES;
+        CRC32 checksum = new CRC32();
+        checksum.update(buffer.duplicate().limit(checksumPosition));
+        if (checksum.getValue() != buffer.getLong(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        buffer.limit(checksumPosition);
+
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            short version = buffer.getShort();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] dictionary = new String[readCount(buffer)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(buffer);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            Map<String, ModTutGroup> modTutGroups = new HashMap<>();
+            Map<String, Tag> tags = new HashMap<>();
+            int personCount = readCount(buffer);
+            for (int i = 0; i < personCount; i++) {
+                int recordLength = readCount(buffer);
+                int recordEnd = buffer.position() + recordLength;
+                Person person = readPerson(buffer, dictionary, modTutGroups, tags);
+                if (buffer.position() != recordEnd) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+
+            List<String> sortKeyNames = new ArrayList<>();
+            int sortKeyCount = readCount(buffer);
+            for (int i = 0; i < sortKeyCount; i++) {
+                sortKeyNames.add(readString(buffer));
+            }
+            if (sortKeyCount > 0) {
+                addressBook.setPersonOrder(JsonSerializableAddressBook.toPersonOrder(sortKeyNames));
+            }
+
+            if (buffer.hasRemaining()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            return addressBook;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+    }
+
+    /**
+     * Reads a single person record from {@code buffer}.
+     * Module - tutorial groups and tags are shared with the other persons through {@code modTutGroups} and
+     * {@code tags}, so each distinct value is only validated once.
+     */
+    private static Person readPerson(ByteBuffer buffer, String[] dictionary, Map<String, ModTutGroup> modTutGroups,
+                                     Map<String, Tag> tags) throws IllegalValueException {
+        String name = readString(buffer);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        String telegramHandle = readString(buffer);
+        if (!TelegramHandle.isValidTelegramHandle(telegramHandle)) {
+            throw new IllegalValueException(TelegramHandle.MESSAGE_CONSTRAINTS);
+        }
+        String email = readString(buffer);
+        if (!Email.isValidEmail(email)) {
+            throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
+        }
+        boolean isPin = buffer.get() != 0;
+
+        int modTutGroupCount = readCount(buffer);
+        if (modTutGroupCount == 0) {
+            throw new IllegalValueException(String.format(JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT,
+                    ModTutGroup.class.getSimpleName()));
+        }
+        Set<ModTutGroup> personModTutGroups = new HashSet<>();
+        for (int i = 0; i < modTutGroupCount; i++) {
+            String modTutGroup = dictionary[buffer.getInt()] + "-" + dictionary[buffer.getInt()];
+            ModTutGroup modelModTutGroup = modTutGroups.get(modTutGroup);
+            if (modelModTutGroup == null) {
+                if (!ModTutGroup.isValidModTutGroup(modTutGroup)) {
+                    throw new IllegalValueException(ModTutGroup.MESSAGE_CONSTRAINTS);
+                }
+                modelModTutGroup = ModTutGroup.of(modTutGroup);
+                modTutGroups.put(modTutGroup, modelModTutGroup);
+            }
+            personModTutGroups.add(modelModTutGroup);
+        }
+
+        int tagCount = readCount(buffer);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = dictionary[buffer.getInt()];
+            Tag tag = tags.get(tagName);
+            if (tag == null) {
+                if (!Tag.isValidTagName(tagName)) {
+                    throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+                }
+                tag = Tag.of(tagName);
+                tags.put(tagName, tag);
+            }
+            personTags.add(tag);
+        }
+
+        return new Person(new Name(name), new TelegramHandle(telegramHandle), new Email(email), personModTutGroups,
+                personTags, isPin);
+    }
+
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        byte[] bytes = new byte[readCount(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
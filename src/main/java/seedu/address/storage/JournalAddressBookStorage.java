@@ -0,0 +1,416 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only journal of the changes made
+ * since the snapshot was written.
+ *
+ * Each save appends a single line to the journal with the changes made to the person list and person order since the
+ * previous save, taken from the log of changes of the address book, so the cost of a save is proportional to the size
+ * of the change rather than the size of the address book. Only the first save after the data is read, or after the
+ * storage is created, writes a whole snapshot, since the changes since the data was read are not known.
+ *
+ * Once the journal grows past a threshold, it is compacted into a new snapshot on a background thread, while saves
+ * keep appending to the journal. The new snapshot is only installed together with a new journal of the changes saved
+ * while it was written, which is first written beside the journal and then moved over it, so that a crash at any point
+ * leaves a snapshot and a journal that belongs to it.
+ * The journal starts with a header recording the checksum of the snapshot it applies to, so that a journal that has
+ * already been compacted into the snapshot is never replayed twice.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final long compactionThreshold;
+    private final Executor compactionExecutor;
+    private final JsonAddressBookStorage snapshotStorage;
+
+    // The data as recorded by the snapshot and journal at persistedFilePath, or null if they have to be compacted
+    private AddressBookSnapshot persistedSnapshot;
+    private Path persistedFilePath;
+    private long journalSize;
+    private boolean isCompactionScheduled;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} for {@code filePath} that compacts its journal on its own background
+     * thread once the journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold) {
+        this(filePath, compactionThreshold, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "JournalCompactor");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@code JournalAddressBookStorage} for {@code filePath} that compacts its journal using
+     * {@code compactionExecutor} once the journal is larger than {@code compactionThreshold} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, long compactionThreshold, Executor compactionExecutor) {
+        requireNonNull(filePath);
+        requireNonNull(compactionExecutor);
+        checkArgument(compactionThreshold > 0, "Compaction threshold must be positive");
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = compactionExecutor;
+        this.snapshotStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns the path of the journal kept alongside the snapshot at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal");
+    }
+
+    /**
+     * Returns the path the journal of a snapshot being installed at {@code filePath} is written to, until it replaces
+     * the journal.
+     */
+    static Path getNextJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + ".journal.next");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal at {@code filePath} is replayed on top of its snapshot.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the snapshot or replaying the journal failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        // The changes made to the data read are not known, so the next save has to write a snapshot
+        persistedSnapshot = null;
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        PersonOrder order;
+        try {
+            order = replayJournal(filePath, persons, snapshot.get().getPersonOrder().orElse(null));
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Journal of " + filePath + " could not be replayed: " + e);
+            throw new DataLoadingException(e);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            logger.warning("Journal of " + filePath + " produces duplicate persons");
+            throw new DataLoadingException(e);
+        }
+        addressBook.setPersonOrder(order);
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The changes since the last save to {@code filePath} are appended to its journal, unless they are not known, in
+     * which case a new snapshot is written instead.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        Optional<List<JsonAdaptedJournalRecord>> records = Optional.empty();
+        if (persistedSnapshot != null && filePath.equals(persistedFilePath)
+                && FileUtil.isFileExists(getJournalFilePath(filePath))) {
+            records = getRecords(persistedSnapshot, snapshot);
+        }
+        if (!records.isPresent()) {
+            compact(snapshot, filePath);
+            return;
+        }
+
+        if (!records.get().isEmpty()) {
+            String line = JsonUtil.toCompactJsonString(records.get()) + "\n";
+            journalSize += writeAndSync(getJournalFilePath(filePath), line, StandardOpenOption.APPEND);
+        }
+        persistedSnapshot = snapshot;
+
+        if (journalSize > compactionThreshold && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactionExecutor.execute(() -> compactInBackground(snapshot, filePath));
+        }
+    }
+
+    /**
+     * Returns the records of the changes from {@code earlier} to {@code later}, or an empty Optional if they are not
+     * known.
+     */
+    private static Optional<List<JsonAdaptedJournalRecord>> getRecords(AddressBookSnapshot earlier,
+            AddressBookSnapshot later) {
+        return later.getChangesSince(earlier).map(delta -> {
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+            delta.getChanges().forEach(change -> records.add(JsonAdaptedJournalRecord.of(change)));
+            if (!earlier.getPersonOrder().equals(later.getPersonOrder())) {
+                records.add(JsonAdaptedJournalRecord.sort(later.getPersonOrder().orElse(null)));
+            }
+            return records;
+        });
+    }
+
+    /**
+     * Writes {@code snapshot} as a new snapshot at {@code filePath}, and starts a new empty journal on top of it.
+     */
+    private void compact(AddressBookSnapshot snapshot, Path filePath) throws IOException {
+        Files.deleteIfExists(getNextJournalFilePath(filePath));
+        snapshotStorage.saveAddressBook(snapshot, filePath);
+        journalSize = writeJournal(getJournalFilePath(filePath), checksumOf(filePath), List.of());
+        persistedFilePath = filePath;
+        persistedSnapshot = snapshot;
+    }
+
+    /**
+     * Writes {@code snapshot}, which was saved to {@code filePath} earlier, as a new snapshot at {@code filePath}, and
+     * installs it with a journal of the changes saved since then, unless the storage has been read or saved elsewhere
+     * in the meantime. Failures are logged, and leave the snapshot and journal as they were.
+     */
+    private void compactInBackground(AddressBookSnapshot snapshot, Path filePath) {
+        Path snapshotFile = null;
+        try {
+            snapshotFile = FileUtil.createTempFileBeside(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(snapshot), snapshotFile);
+            long checksum = checksumOf(snapshotFile);
+            synchronized (this) {
+                Optional<List<JsonAdaptedJournalRecord>> records = persistedSnapshot == null
+                        || !filePath.equals(persistedFilePath) ? Optional.empty()
+                        : getRecords(snapshot, persistedSnapshot);
+                if (!records.isPresent()) {
+                    return;
+                }
+                // The journal is installed after the snapshot, so it is written beside the journal first
+                Path nextJournalFilePath = getNextJournalFilePath(filePath);
+                long nextJournalSize = writeJournal(nextJournalFilePath, checksum, records.get());
+                snapshotStorage.replaceAddressBookFile(snapshotFile, filePath);
+                FileUtil.moveAtomically(nextJournalFilePath, getJournalFilePath(filePath));
+                journalSize = nextJournalSize;
+            }
+        } catch (IOException e) {
+            logger.warning("Journal of " + filePath + " could not be compacted: " + e);
+        } finally {
+            synchronized (this) {
+                isCompactionScheduled = false;
+            }
+            deleteIfExists(snapshotFile);
+        }
+    }
+
+    private static void deleteIfExists(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warning("Temporary file " + file + " could not be deleted: " + e);
+        }
+    }
+
+    /**
+     * Atomically replaces {@code journalFilePath} with a journal of the snapshot with the given {@code checksum}
+     * holding {@code records}.
+     *
+     * @return the size of the journal in bytes.
+     */
+    private static long writeJournal(Path journalFilePath, long checksum, List<JsonAdaptedJournalRecord> records)
+            throws IOException {
+        StringBuilder content = new StringBuilder(JsonUtil.toCompactJsonString(
+                Collections.singletonList(JsonAdaptedJournalRecord.snapshot(checksum)))).append("\n");
+        if (!records.isEmpty()) {
+            content.append(JsonUtil.toCompactJsonString(records)).append("\n");
+        }
+        Path tempFile = FileUtil.createTempFileBeside(journalFilePath);
+        try {
+            int size = writeAndSync(tempFile, content.toString(), StandardOpenOption.WRITE);
+            FileUtil.moveAtomically(tempFile, journalFilePath);
+            return size;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Writes {@code content} to {@code file} opened with {@code option}, and syncs it to disk.
+     *
+     * @return the number of bytes written.
+     */
+    private static int writeAndSync(Path file, String content, StandardOpenOption option) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        int size = buffer.remaining();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE, option)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        return size;
+    }
+
+    /**
+     * Applies the journal of the snapshot at {@code filePath} to {@code persons}, which are read from the snapshot.
+     * A journal that belongs to a different snapshot is ignored, and so is an incomplete last line left behind by a
+     * crash while appending. A journal left beside the journal by a compaction that installed its snapshot but not
+     * the journal itself is installed first.
+     *
+     * @param order the person order of the snapshot.
+     * @return the person order after the journal is applied.
+     */
+    private PersonOrder replayJournal(Path filePath, List<Person> persons, PersonOrder order)
+            throws IOException, IllegalValueException {
+        // A snapshot being installed leaves no data file until it is moved in, and its backup is read instead
+        Path snapshotFile = FileUtil.isFileExists(filePath) ? filePath
+                : JsonAddressBookStorage.getBackupFilePath(filePath, 1);
+        long checksum = checksumOf(snapshotFile);
+        Path journalFilePath = getJournalFilePath(filePath);
+        Path nextJournalFilePath = getNextJournalFilePath(filePath);
+        if (FileUtil.isFileExists(nextJournalFilePath)) {
+            if (belongsTo(nextJournalFilePath, checksum)) {
+                FileUtil.moveAtomically(nextJournalFilePath, journalFilePath);
+            } else {
+                Files.delete(nextJournalFilePath);
+            }
+        }
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return order;
+        }
+        if (!belongsTo(journalFilePath, checksum)) {
+            logger.info("Journal " + journalFilePath + " does not belong to the current snapshot. Ignoring it.");
+            return order;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            reader.readLine();
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                List<JsonAdaptedJournalRecord> records = readLine(line);
+                if (records == null) {
+                    if (nextLine == null) {
+                        logger.info("Ignoring incomplete last line of journal " + journalFilePath);
+                        return order;
+                    }
+                    throw new IllegalValueException("Journal " + journalFilePath + " is corrupted");
+                }
+                for (JsonAdaptedJournalRecord record : records) {
+                    if (record.isSort()) {
+                        order = record.getPersonOrder();
+                    } else {
+                        record.applyTo(persons);
+                    }
+                }
+                line = nextLine;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Returns true if the journal at {@code journalFilePath} starts with the header of the snapshot with the given
+     * {@code checksum}.
+     */
+    private static boolean belongsTo(Path journalFilePath, long checksum) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            List<JsonAdaptedJournalRecord> header = readLine(reader.readLine());
+            return header != null && header.size() == 1 && header.get(0).isSnapshot()
+                    && header.get(0).getChecksum() != null && header.get(0).getChecksum() == checksum;
+        }
+    }
+
+    /**
+     * Returns the records on the journal line {@code line}, or null if it is missing or cannot be parsed.
+     */
+    private static List<JsonAdaptedJournalRecord> readLine(String line) {
+        if (line == null) {
+            return null;
+        }
+        try {
+            return Arrays.asList(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord[].class));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the checksum of {@code file}, or -1, which no checksum matches, if there is no such file.
+     */
+    private static long checksumOf(Path file) throws IOException {
+        if (!FileUtil.isFileExists(file)) {
+            return -1;
+        }
+        try (InputStream inputStream = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            byte[] buffer = new byte[8192];
+            while (inputStream.read(buffer) != -1) {
+                // read through the file to update the checksum
+            }
+            return ((CheckedInputStream) inputStream).getChecksum().getValue();
+        }
+    }
+}
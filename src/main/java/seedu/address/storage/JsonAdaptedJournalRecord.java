@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.PersonListChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+
+/**
+ * Jackson-friendly version of a single change to the person list, as recorded in the journal of a
+ * {@link JournalAddressBookStorage}.
+ * Positions refer to the person list as it is just before the change is applied.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal contains an invalid record: %s";
+
+    static final String SNAPSHOT = "snapshot";
+    static final String REPLACE = "replace";
+    static final String PERMUTE = "permute";
+    static final String SORT = "sort";
+
+    private final String op;
+    private final Integer index;
+    private final Integer count;
+    private final List<JsonAdaptedPerson> persons;
+    private final List<Integer> order;
+    private final List<String> sortKeys;
+    private final Long checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") Integer index,
+                                    @JsonProperty("count") Integer count,
+                                    @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                    @JsonProperty("order") List<Integer> order,
+                                    @JsonProperty("sortKeys") List<String> sortKeys,
+                                    @JsonProperty("checksum") Long checksum) {
+        this.op = op;
+        this.index = index;
+        this.count = count;
+        this.persons = persons;
+        this.order = order;
+        this.sortKeys = sortKeys;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the header record of a journal kept on top of the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(long checksum) {
+        return new JsonAdaptedJournalRecord(SNAPSHOT, null, null, null, null, null, checksum);
+    }
+
+    /**
+     * Returns the record of {@code change}, a change made to the person list.
+     */
+    public static JsonAdaptedJournalRecord of(PersonListChange change) {
+        if (change.isPermutation()) {
+            List<Integer> order = Arrays.stream(change.getPermutation()).boxed().collect(Collectors.toList());
+            return new JsonAdaptedJournalRecord(PERMUTE, change.getFrom(), null, null, order, null, null);
+        }
+        List<JsonAdaptedPerson> persons = change.getAdded().stream()
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+        return new JsonAdaptedJournalRecord(REPLACE, change.getFrom(), change.getRemoved().size(), persons, null,
+                null, null);
+    }
+
+    /**
+     * Returns a record that changes the order the persons are kept in to {@code order}, which may be null if they are
+     * no longer kept in an order.
+     * The person list itself is left as it is, since the records of its changes already put it in the new order.
+     */
+    public static JsonAdaptedJournalRecord sort(PersonOrder order) {
+        List<String> sortKeys = order == null ? new ArrayList<>() : JsonSerializableAddressBook.toSortKeyNames(order);
+        return new JsonAdaptedJournalRecord(SORT, null, null, null, null, sortKeys, null);
+    }
+
+    public boolean isSnapshot() {
+        return SNAPSHOT.equals(op);
+    }
+
+    public Long getChecksum() {
+        return checksum;
+    }
+
+    public boolean isSort() {
+        return SORT.equals(op);
+    }
+
+    /**
+     * Returns the person order set by this sort record, or null if the persons are no longer kept in an order.
+     *
+     * @throws IllegalValueException if this record is malformed.
+     */
+    public PersonOrder getPersonOrder() throws IllegalValueException {
+        if (sortKeys == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+        return sortKeys.isEmpty() ? null : JsonSerializableAddressBook.toPersonOrder(sortKeys);
+    }
+
+    /**
+     * Applies this change to {@code persons}.
+     *
+     * @throws IllegalValueException if this record is malformed or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        switch (op == null ? "" : op) {
+        case REPLACE:
+            replace(persons);
+            break;
+        case PERMUTE:
+            permute(persons);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+    }
+
+    /**
+     * Replaces the {@code count} persons from {@code index} on with the persons of this record.
+     */
+    private void replace(List<Person> persons) throws IllegalValueException {
+        if (index == null || count == null || this.persons == null
+                || index < 0 || count < 0 || count > persons.size() - index) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+        List<Person> added = new ArrayList<>(this.persons.size());
+        for (JsonAdaptedPerson person : this.persons) {
+            added.add(person.toModelType());
+        }
+        persons.subList(index, index + count).clear();
+        persons.addAll(index, added);
+    }
+
+    /**
+     * Moves each person from {@code index} on to the position given for it by {@code order}, which must be a
+     * rearrangement of the positions it covers.
+     */
+    private void permute(List<Person> persons) throws IllegalValueException {
+        if (index == null || order == null || index < 0 || order.size() > persons.size() - index) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+        boolean[] isTaken = new boolean[order.size()];
+        for (Integer newIndex : order) {
+            if (newIndex == null || newIndex < index || newIndex >= index + order.size()
+                    || isTaken[newIndex - index]) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+            }
+            isTaken[newIndex - index] = true;
+        }
+        List<Person> permuted = new ArrayList<>(persons.subList(index, index + order.size()));
+        for (int i = 0; i < order.size(); i++) {
+            persons.set(order.get(i), permuted.get(i));
+        }
+    }
+}
@@ -42,7 +42,7 @@ class JsonAdaptedModTutGroup {
         if (!ModTutGroup.isValidModTutGroup(modTutGroupName)) {
             throw new IllegalValueException(ModTutGroup.MESSAGE_CONSTRAINTS);
         }
-        return new ModTutGroup(modTutGroupName);
+        return ModTutGroup.of(modTutGroupName);
     }
 
 }
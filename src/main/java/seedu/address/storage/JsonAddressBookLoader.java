@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Loads an {@code AddressBook} from a JSON file in the format written by {@link JsonSerializableAddressBook}.
+ * The {@code persons} array is read one person at a time, and each person is converted and added to the
+ * {@code AddressBook} as soon as it is read, so neither the file contents nor the adapted persons are held in memory
+ * all at once. The person order is applied once every person is read, so the persons are sorted at most once.
+ */
+class JsonAddressBookLoader {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String SORT_KEYS_FIELD = "sortKeys";
+
+    /**
+     * Returns the {@code AddressBook} stored in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook load(Path filePath) throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        AddressBook addressBook = new AddressBook();
+        List<String> sortKeyNames = null;
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected the address book to be a JSON object");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (PERSONS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    loadPersons(parser, addressBook);
+                } else if (SORT_KEYS_FIELD.equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    sortKeyNames = Arrays.asList(parser.readValueAs(String[].class));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        addressBook.setPersonOrder(JsonSerializableAddressBook.toPersonOrder(sortKeyNames));
+        return addressBook;
+    }
+
+    /**
+     * Reads the persons in the array the {@code parser} is at into {@code addressBook}, up to the end of the array.
+     */
+    private static void loadPersons(JsonParser parser, AddressBook addressBook)
+            throws IOException, IllegalValueException {
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected each person to be a JSON object");
+            }
+
+            Person person = parser.readValueAs(JsonAdaptedPerson.class).toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+    }
+}
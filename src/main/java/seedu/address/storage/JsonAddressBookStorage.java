@@ -1,9 +1,12 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -16,15 +19,30 @@ import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Before a data file is overwritten, it is moved into a number of rotated backup files next to it, which are read
+ * instead if the data file is missing or cannot be loaded.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    public static final int DEFAULT_BACKUP_COUNT = 3;
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final int backupCount;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_BACKUP_COUNT);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for {@code filePath} that keeps {@code backupCount} backups of
+     * previous versions of the data file.
+     */
+    public JsonAddressBookStorage(Path filePath, int backupCount) {
+        checkArgument(backupCount >= 0, "Backup count cannot be negative");
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     public Path getAddressBookFilePath() {
@@ -38,22 +56,59 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * If the data file cannot be loaded, or is missing while there are backups of it, the most recent backup that can
+     * be loaded is returned instead.
      *
      * @param filePath location of the data. Cannot be null.
-     * @throws DataLoadingException if loading the data from storage failed.
+     * @throws DataLoadingException if loading the data from storage failed, and no backup could be loaded either.
      */
-
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        DataLoadingException exception = null;
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = readAddressBookFile(filePath);
+            if (addressBook.isPresent()) {
+                return addressBook;
+            }
+        } catch (DataLoadingException e) {
+            exception = e;
+        }
+
+        // A save moves the data file into the backups before writing the new one, so a crash in between leaves
+        // the data file missing
+        for (int i = 1; i <= backupCount; i++) {
+            Path backupFilePath = getBackupFilePath(filePath, i);
+            try {
+                Optional<ReadOnlyAddressBook> backup = readAddressBookFile(backupFilePath);
+                if (backup.isPresent()) {
+                    logger.warning("Data file " + filePath + " could not be loaded."
+                            + " Using backup " + backupFilePath + " instead.");
+                    return backup;
+                }
+            } catch (DataLoadingException backupException) {
+                logger.info("Backup " + backupFilePath + " could not be loaded either.");
+                if (exception == null) {
+                    exception = backupException;
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+        return Optional.empty();
+    }
+
+    private Optional<ReadOnlyAddressBook> readAddressBookFile(Path filePath) throws DataLoadingException {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookLoader.load(filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -67,6 +122,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data file is replaced atomically, after its previous contents are rotated into the backups.
      *
      * @param filePath location of the data. Cannot be null.
      **/
@@ -74,8 +130,45 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
+        rotateBackups(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
     }
 
+    /**
+     * Replaces the data file at {@code filePath} with {@code newFile}, a complete data file written beside it, after
+     * the previous contents are rotated into the backups.
+     */
+    void replaceAddressBookFile(Path newFile, Path filePath) throws IOException {
+        requireNonNull(newFile);
+        requireNonNull(filePath);
+
+        rotateBackups(filePath);
+        FileUtil.moveAtomically(newFile, filePath);
+    }
+
+    /**
+     * Returns the path of the {@code index}-th most recent backup of the data file at {@code filePath}.
+     */
+    public static Path getBackupFilePath(Path filePath, int index) {
+        return filePath.resolveSibling(filePath.getFileName() + ".bak" + index);
+    }
+
+    /**
+     * Shifts every backup of the data file at {@code filePath} back by one, dropping the oldest, and moves the data
+     * file into the most recent backup, leaving no data file until the next one is written.
+     */
+    private void rotateBackups(Path filePath) throws IOException {
+        if (backupCount == 0 || !FileUtil.isFileExists(filePath)) {
+            return;
+        }
+
+        for (int i = backupCount - 1; i >= 1; i--) {
+            Path backupFilePath = getBackupFilePath(filePath, i);
+            if (FileUtil.isFileExists(backupFilePath)) {
+                Files.move(backupFilePath, getBackupFilePath(filePath, i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(filePath, getBackupFilePath(filePath, 1), StandardCopyOption.REPLACE_EXISTING);
+    }
+
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
@@ -12,23 +13,31 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SortKey;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "addressbook")
+@JsonInclude(JsonInclude.Include.NON_NULL)
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_INVALID_SORT_KEYS = "Sort keys are invalid: %s";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    // The names of the sort keys of the person order, or null if the persons are not kept in an order
+    private final List<String> sortKeys;
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and sort keys.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                                       @JsonProperty("sortKeys") List<String> sortKeys) {
         this.persons.addAll(persons);
+        this.sortKeys = sortKeys;
     }
 
     /**
@@ -39,6 +48,7 @@ class JsonSerializableAddressBook {
 
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        sortKeys = source.getPersonOrder().map(JsonSerializableAddressBook::toSortKeyNames).orElse(null);
     }
 
     /**
@@ -55,7 +65,36 @@ class JsonSerializableAddressBook {
             }
             addressBook.addPerson(person);
         }
+        addressBook.setPersonOrder(toPersonOrder(sortKeys));
         return addressBook;
     }
 
+    static List<String> toSortKeyNames(PersonOrder order) {
+        return order.getSortKeys().stream().map(SortKey::name).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the person order with the sort keys named {@code sortKeyNames}, or null if {@code sortKeyNames} is null.
+     *
+     * @throws IllegalValueException if the sort keys do not make a valid person order.
+     */
+    static PersonOrder toPersonOrder(List<String> sortKeyNames) throws IllegalValueException {
+        if (sortKeyNames == null) {
+            return null;
+        }
+
+        List<SortKey> sortKeys = new ArrayList<>();
+        for (String sortKeyName : sortKeyNames) {
+            try {
+                sortKeys.add(SortKey.valueOf(String.valueOf(sortKeyName)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_SORT_KEYS, sortKeyNames));
+            }
+        }
+        if (!PersonOrder.isValidSortKeys(sortKeys)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SORT_KEYS, sortKeyNames));
+        }
+        return new PersonOrder(sortKeys);
+    }
+
 }
@@ -5,6 +5,7 @@ import java.nio.file.Path;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -29,4 +30,23 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Returns the address book in the data file at {@code filePath}, read in the given {@code format}.
+     * Unlike the app's own data file, the file is never recovered from a backup.
+     * Returns {@code Optional.empty()} if the file is not found.
+     *
+     * @throws DataLoadingException if the file could not be read.
+     */
+    Optional<ReadOnlyAddressBook> importAddressBook(Path filePath, AddressBookFormat format)
+            throws DataLoadingException;
+
+    /**
+     * Writes {@code addressBook} to the data file at {@code filePath} in the given {@code format}.
+     * Unlike the app's own data file, no backups of the file are kept.
+     *
+     * @throws IOException if the file could not be written.
+     */
+    void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath, AddressBookFormat format)
+            throws IOException;
+
 }
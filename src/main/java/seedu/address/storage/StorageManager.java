@@ -7,6 +7,7 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -75,4 +76,29 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> importAddressBook(Path filePath, AddressBookFormat format)
+            throws DataLoadingException {
+        logger.fine("Attempting to import data from file: " + filePath);
+        return getExternalStorage(filePath, format).readAddressBook();
+    }
+
+    @Override
+    public void exportAddressBook(ReadOnlyAddressBook addressBook, Path filePath, AddressBookFormat format)
+            throws IOException {
+        logger.fine("Attempting to export data to file: " + filePath);
+        getExternalStorage(filePath, format).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Returns the storage for a data file chosen by the user, which keeps no backups of the file,
+     * so that the file is never replaced by one of its backups when read and leaves none behind when written.
+     */
+    private static AddressBookStorage getExternalStorage(Path filePath, AddressBookFormat format) {
+        if (format == AddressBookFormat.JSON) {
+            return new JsonAddressBookStorage(filePath, 0);
+        }
+        return AddressBookStorage.forFormat(format, filePath);
+    }
+
 }
@@ -1,8 +1,18 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.geometry.Side;
+import javafx.scene.control.ContextMenu;
+import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -10,6 +20,8 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
+ * Completions of the command being typed are listed below the command box, and the first one can be accepted with
+ * the Tab key.
  */
 public class CommandBox extends UiPart<Region> {
 
@@ -17,18 +29,26 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
+    private final ContextMenu completionMenu = new ContextMenu();
+    private List<String> completions = List.of();
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        this.commandCompleter = commandCompleter;
+        // resets the style and requests completions whenever there is a change to the text of the command box.
+        commandTextField.textProperty().addListener((unused1, unused2, newText) -> {
+            setStyleToDefault();
+            requestCompletions(newText);
+        });
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
@@ -41,6 +61,7 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
+        hideCompletions();
         try {
             commandExecutor.execute(commandText);
             commandTextField.setText("");
@@ -49,6 +70,68 @@ public class CommandBox extends UiPart<Region> {
         }
     }
 
+    /**
+     * Requests the completions of {@code commandText}, which are shown once they are ready if the command box still
+     * holds {@code commandText} by then.
+     */
+    private void requestCompletions(String commandText) {
+        if (commandText.isBlank()) {
+            hideCompletions();
+            return;
+        }
+        commandCompleter.complete(commandText).thenAccept(newCompletions ->
+                Platform.runLater(() -> showCompletions(commandText, newCompletions)));
+    }
+
+    private void showCompletions(String commandText, List<String> completions) {
+        if (!commandText.equals(commandTextField.getText())) {
+            return;
+        }
+        if (completions.isEmpty()) {
+            hideCompletions();
+            return;
+        }
+
+        this.completions = completions;
+        List<MenuItem> menuItems = new ArrayList<>();
+        for (String completion : completions) {
+            MenuItem menuItem = new MenuItem(completion);
+            menuItem.setOnAction(unused -> acceptCompletion(completion));
+            menuItems.add(menuItem);
+        }
+        completionMenu.getItems().setAll(menuItems);
+        if (!completionMenu.isShowing()) {
+            completionMenu.show(commandTextField, Side.BOTTOM, 0, 0);
+        }
+    }
+
+    private void hideCompletions() {
+        completions = List.of();
+        completionMenu.hide();
+    }
+
+    /**
+     * Accepts the first completion on Tab, and hides the completions on Escape.
+     */
+    private void handleKeyPressed(KeyEvent event) {
+        if (completions.isEmpty()) {
+            return;
+        }
+        if (event.getCode() == KeyCode.TAB) {
+            acceptCompletion(completions.get(0));
+            event.consume();
+        } else if (event.getCode() == KeyCode.ESCAPE) {
+            hideCompletions();
+            event.consume();
+        }
+    }
+
+    private void acceptCompletion(String completion) {
+        hideCompletions();
+        commandTextField.setText(completion);
+        commandTextField.end();
+    }
+
     /**
      * Sets the command box style to use the default style.
      */
@@ -82,4 +165,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completions of the command being typed.
+         *
+         * @see seedu.address.logic.Logic#getCompletions(String)
+         */
+        CompletableFuture<List<String>> complete(String commandText);
+    }
+
 }
@@ -3,6 +3,7 @@ package seedu.address.ui;
 import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -109,7 +110,7 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        moduleTabPane = new ModuleTabPane(logic.getFilteredPersonList(), logic);
+        moduleTabPane = new ModuleTabPane(logic);
         mainViewPlaceholder.getChildren().add(moduleTabPane.getRoot());
 
         resultDisplay = new ResultDisplay();
@@ -117,8 +118,13 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> {
+            resultDisplay.setFeedbackToUser(message);
+            resultDisplay.show(primaryStage);
+        }));
     }
 
     /**
@@ -172,7 +178,7 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private void viewTabs() {
         logic.setViewAll(false);
-        moduleTabPane = new ModuleTabPane(logic.getFilteredPersonList(), logic);
+        moduleTabPane = new ModuleTabPane(logic);
         mainViewPlaceholder.getChildren().clear();
         mainViewPlaceholder.getChildren().add(moduleTabPane.getRoot());
     }
@@ -194,7 +200,7 @@ public class MainWindow extends UiPart<Stage> {
             } else {
                 List<String> currentSelectedTabs = List.copyOf(logic.getSelectedTabs());
                 if (!commandResult.isView()) {
-                    moduleTabPane = new ModuleTabPane(logic.getFilteredPersonList(), logic);
+                    moduleTabPane = new ModuleTabPane(logic);
                 }
                 moduleTabPane.setSelectedTab(null, currentSelectedTabs, 0);
                 mainViewPlaceholder.getChildren().add(moduleTabPane.getRoot());
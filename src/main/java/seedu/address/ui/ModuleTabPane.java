@@ -2,21 +2,12 @@ package seedu.address.ui;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.Node;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import seedu.address.logic.Logic;
-import seedu.address.model.person.ModTutGroup;
-import seedu.address.model.person.Module;
-import seedu.address.model.person.Person;
 
 /**
  * Represents a module tab.
@@ -24,9 +15,6 @@ import seedu.address.model.person.Person;
 public class ModuleTabPane extends UiPart<TabPane> {
     private static final String FXML = "ModuleTabPane.fxml";
 
-    private static final Map<String, Map<String, Integer>> moduleMap = ModTutGroup.getModuleMap();
-
-    private final List<Person> personList;
     private final Logic logic;
 
     @FXML
@@ -35,22 +23,21 @@ public class ModuleTabPane extends UiPart<TabPane> {
     /**
      * Constructor for a module tab
      *
-     * @param personList the list of persons to convert to module tab view
+     * @param logic the logic to read the persons of each tab from
      */
-    public ModuleTabPane(ObservableList<Person> personList, Logic logic) {
+    public ModuleTabPane(Logic logic) {
         super(FXML);
-        this.personList = personList;
         this.logic = logic;
         init();
     }
 
     private void init() {
         List<String> tabs = new ArrayList<>();
-        if (moduleMap.isEmpty()) {
+        if (logic.getModuleNames().isEmpty()) {
             return;
         }
-        String firstModule = moduleMap.keySet().iterator().next();
-        String firstTutorial = moduleMap.get(firstModule).keySet().iterator().next();
+        String firstModule = logic.getModuleNames().iterator().next();
+        String firstTutorial = logic.getTutorialNames(firstModule).iterator().next();
 
         tabs.add(firstModule);
         tabs.add(firstTutorial);
@@ -59,24 +46,18 @@ public class ModuleTabPane extends UiPart<TabPane> {
 
         moduleTabPane.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
             String newModuleTab = newValue.getText();
-            String newTutorialTab = moduleMap.get(newModuleTab).keySet().iterator().next();
+            String newTutorialTab = logic.getTutorialNames(newModuleTab).iterator().next();
             logic.setSelectedTabs(newModuleTab, newTutorialTab);
         });
     }
 
     private void setTabs(List<String> tabs) {
         moduleTabPane.getTabs().clear();
-        for (String moduleName : moduleMap.keySet()) {
-            ObservableList<Person> filteredList = personList.stream().filter(p -> {
-                Set<ModTutGroup> modTutGroups = p.getModTutGroups();
-                Stream<Module> moduleStream = modTutGroups.stream().map(ModTutGroup::getModule);
-                return moduleStream.anyMatch(m -> m.getName().equals(moduleName));
-            }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-
+        for (String moduleName : logic.getModuleNames()) {
             Tab tab = new Tab(moduleName);
             tab.setClosable(false);
 
-            TutorialTabPane tutorialTabPane = new TutorialTabPane(filteredList, moduleName, logic);
+            TutorialTabPane tutorialTabPane = new TutorialTabPane(moduleName, logic);
 
             tab.setContent(tutorialTabPane.getRoot());
             moduleTabPane.getTabs().add(tab);
@@ -2,10 +2,6 @@ package seedu.address.ui;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -13,9 +9,7 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import seedu.address.logic.Logic;
-import seedu.address.model.person.ModTutGroup;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Tutorial;
 
 /**
  * Represents a tutorial tab.
@@ -23,9 +17,7 @@ import seedu.address.model.person.Tutorial;
 public class TutorialTabPane extends UiPart<TabPane> {
     private static final String FXML = "TutorialTabPane.fxml";
 
-    private final List<Person> personList;
     private final String moduleName;
-    private final Map<String, Integer> tutorialMap;
     private final Logic logic;
 
     @FXML
@@ -34,14 +26,12 @@ public class TutorialTabPane extends UiPart<TabPane> {
     /**
      * Constructor for a tutorial tab
      *
-     * @param personList the list of persons to convert to tutorial tab view
+     * @param moduleName the name of the module whose tutorial groups are shown as tabs
      */
-    public TutorialTabPane(ObservableList<Person> personList, String moduleName, Logic logic) {
+    public TutorialTabPane(String moduleName, Logic logic) {
         super(FXML);
-        this.personList = personList;
         this.logic = logic;
         this.moduleName = moduleName;
-        tutorialMap = ModTutGroup.getModuleMap().get(moduleName);
         init();
     }
 
@@ -55,12 +45,9 @@ public class TutorialTabPane extends UiPart<TabPane> {
     }
 
     private void setTabs(List<String> tabs) {
-        for (String tutorialName : tutorialMap.keySet()) {
-            ObservableList<Person> filteredList = personList.stream().filter(p -> {
-                Set<ModTutGroup> modTutGroups = p.getModTutGroups();
-                Stream<Tutorial> tutorialStream = modTutGroups.stream().map(ModTutGroup::getTutorial);
-                return tutorialStream.anyMatch(m -> m.getName().equals(tutorialName));
-            }).collect(Collectors.toCollection(FXCollections::observableArrayList));
+        for (String tutorialName : logic.getTutorialNames(moduleName)) {
+            ObservableList<Person> filteredList = FXCollections.observableArrayList(
+                    logic.getFilteredModTutGroupPersonList(moduleName, tutorialName));
 
             Tab tab = new Tab(tutorialName);
             tab.setClosable(false);
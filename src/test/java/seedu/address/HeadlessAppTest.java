@@ -0,0 +1,101 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.completion.CompletionEngine;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.AddressBookSaver;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Path addressBookFilePath;
+    private HeadlessApp headlessApp;
+
+    @BeforeEach
+    public void setUp() {
+        addressBookFilePath = temporaryFolder.resolve("addressBook.json");
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookSaver addressBookSaver = new AddressBookSaver(storage, Runnable::run, 0);
+        LogicManager logic = new LogicManager(model, storage, addressBookSaver,
+                new CompletionEngine(FXCollections.emptyObservableList(), Runnable::run));
+        headlessApp = new HeadlessApp(logic, addressBookSaver);
+    }
+
+    @Test
+    public void run_commands_printsResultOfEachCommand() throws Exception {
+        String script = PersonUtil.getAddCommand(AMY) + "\n"
+                + "\n"
+                + "# Comments and blank lines are skipped\n"
+                + "unknown\n"
+                + ListCommand.COMMAND_WORD + "\n";
+
+        assertEquals(1, run(script));
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)) + System.lineSeparator()
+                + String.format(HeadlessApp.MESSAGE_COMMAND_FAILED, 4, MESSAGE_UNKNOWN_COMMAND)
+                + System.lineSeparator()
+                + ListCommand.MESSAGE_SUCCESS + System.lineSeparator(), output.toString(StandardCharsets.UTF_8));
+        assertTrue(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void run_exitCommand_stopsRun() throws Exception {
+        String script = ExitCommand.COMMAND_WORD + "\n"
+                + PersonUtil.getAddCommand(AMY) + "\n";
+
+        assertEquals(0, run(script));
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(),
+                output.toString(StandardCharsets.UTF_8));
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void save_afterRun_writesDataOnce() throws Exception {
+        run(PersonUtil.getAddCommand(AMY) + "\n");
+        assertFalse(Files.exists(addressBookFilePath));
+
+        headlessApp.save();
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(AMY);
+        assertEquals(expectedAddressBook,
+                new AddressBook(new JsonAddressBookStorage(addressBookFilePath).readAddressBook().get()));
+    }
+
+    private int run(String script) throws Exception {
+        return headlessApp.run(new BufferedReader(new StringReader(script)),
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+}
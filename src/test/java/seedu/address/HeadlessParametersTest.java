@@ -0,0 +1,93 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class HeadlessParametersTest {
+
+    private final HeadlessParameters expected = new HeadlessParameters();
+
+    @Test
+    public void parse_noParameters_success() {
+        assertEquals(expected, HeadlessParameters.parse(List.of()));
+    }
+
+    @Test
+    public void parse_validParameters_success() {
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setScriptPath(Paths.get("roster.txt"));
+        expected.setSaveInterval(100);
+        assertEquals(expected, HeadlessParameters.parse(
+                List.of("--config=config.json", "--script=roster.txt", "--save-every=100")));
+    }
+
+    @Test
+    public void parse_invalidConfigPath_success() {
+        expected.setConfigPath(null);
+        assertEquals(expected, HeadlessParameters.parse(List.of("--config=a\0")));
+    }
+
+    @Test
+    public void parse_invalidScriptPath_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(HeadlessParameters.MESSAGE_INVALID_SCRIPT_PATH, ""),
+            () -> HeadlessParameters.parse(List.of("--script")));
+        assertThrows(IllegalArgumentException.class, String.format(HeadlessParameters.MESSAGE_INVALID_SCRIPT_PATH,
+                "a\0"), () -> HeadlessParameters.parse(List.of("--script=a\0")));
+    }
+
+    @Test
+    public void parse_invalidSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(HeadlessParameters.MESSAGE_INVALID_SAVE_INTERVAL,
+                "-1"), () -> HeadlessParameters.parse(List.of("--save-every=-1")));
+        assertThrows(IllegalArgumentException.class, String.format(HeadlessParameters.MESSAGE_INVALID_SAVE_INTERVAL,
+                "often"), () -> HeadlessParameters.parse(List.of("--save-every=often")));
+    }
+
+    @Test
+    public void parse_unknownParameter_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, String.format(HeadlessParameters.MESSAGE_UNKNOWN_PARAMETER,
+                "--gui"), () -> HeadlessParameters.parse(List.of("--gui")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        HeadlessParameters headlessParameters = new HeadlessParameters();
+        String expected = HeadlessParameters.class.getCanonicalName() + "{configPath=null, scriptPath=null, "
+                + "saveInterval=0}";
+        assertEquals(expected, headlessParameters.toString());
+    }
+
+    @Test
+    public void equals() {
+        HeadlessParameters headlessParameters = new HeadlessParameters();
+
+        // same values -> returns true
+        assertTrue(headlessParameters.equals(new HeadlessParameters()));
+
+        // same object -> returns true
+        assertTrue(headlessParameters.equals(headlessParameters));
+
+        // null -> returns false
+        assertFalse(headlessParameters.equals(null));
+
+        // different types -> returns false
+        assertFalse(headlessParameters.equals(5.0f));
+
+        // different script path -> returns false
+        HeadlessParameters otherHeadlessParameters = new HeadlessParameters();
+        otherHeadlessParameters.setScriptPath(Paths.get("script.txt"));
+        assertFalse(headlessParameters.equals(otherHeadlessParameters));
+
+        // different save interval -> returns false
+        otherHeadlessParameters = new HeadlessParameters();
+        otherHeadlessParameters.setSaveInterval(1);
+        assertFalse(headlessParameters.equals(otherHeadlessParameters));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class ArraySetTest {
+
+    private static final Comparator<String> ORDER = Comparator.naturalOrder();
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ArraySet.copyOf(null, ORDER));
+        assertThrows(NullPointerException.class, () -> ArraySet.copyOf(Arrays.asList("a", null), ORDER));
+    }
+
+    @Test
+    public void copyOf_elements_sortedByComparator() {
+        ArraySet<String> set = ArraySet.copyOf(new HashSet<>(Arrays.asList("c", "a", "b")), ORDER);
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(set));
+        assertTrue(set.contains("b"));
+        assertFalse(set.contains("d"));
+        assertFalse(set.contains(null));
+    }
+
+    @Test
+    public void copyOf_arraySet_returnsSameInstance() {
+        ArraySet<String> set = ArraySet.copyOf(Arrays.asList("a", "b"), ORDER);
+        assertSame(set, ArraySet.copyOf(set, ORDER.reversed()));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        ArraySet<String> set = ArraySet.copyOf(Arrays.asList("a", "b"), ORDER);
+        assertThrows(UnsupportedOperationException.class, () -> set.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> set.remove("d"));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeAll(List.of("a")));
+        assertThrows(UnsupportedOperationException.class, () -> set.retainAll(List.of("a")));
+        assertThrows(UnsupportedOperationException.class, () -> set.removeIf(element -> true));
+        assertThrows(UnsupportedOperationException.class, set::clear);
+        assertThrows(UnsupportedOperationException.class, () -> set.iterator().remove());
+    }
+
+    @Test
+    public void equalsAndHashCode_sameAsHashSet() {
+        Set<String> hashSet = new HashSet<>(Arrays.asList("a", "b", "c"));
+        ArraySet<String> set = ArraySet.copyOf(hashSet, ORDER);
+
+        assertEquals(hashSet, set);
+        assertEquals(set, hashSet);
+        assertEquals(hashSet.hashCode(), set.hashCode());
+        assertEquals(set, ArraySet.copyOf(hashSet, ORDER.reversed()));
+        assertFalse(set.equals(ArraySet.copyOf(Arrays.asList("a", "b", "d"), ORDER)));
+        assertEquals(Collections.emptySet(), ArraySet.copyOf(List.of(), ORDER));
+    }
+}
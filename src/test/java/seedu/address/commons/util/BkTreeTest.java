@@ -0,0 +1,61 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class BkTreeTest {
+
+    private final BkTree tree = new BkTree();
+
+    @Test
+    public void distance() {
+        assertEquals(0, BkTree.distance("JOHN", "JOHN"));
+        assertEquals(2, BkTree.distance("JONH", "JOHN"));
+        assertEquals(1, BkTree.distance("JON", "JOHN"));
+        assertEquals(1, BkTree.distance("JOHNS", "JOHN"));
+        assertEquals(4, BkTree.distance("", "JOHN"));
+        assertEquals(3, BkTree.distance("KITTEN", "SITTING"));
+    }
+
+    @Test
+    public void add_duplicateTerm_returnsFalse() {
+        assertThrows(NullPointerException.class, () -> tree.add(null));
+        assertTrue(tree.add("JOHN"));
+        assertTrue(tree.add("JOAN"));
+        assertFalse(tree.add("JOHN"));
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    public void search_termsWithinDistance_found() {
+        for (String term : new String[] {"JOHN", "JOAN", "JON", "JOHNSON", "ALICE", "ALEX", "BOB"}) {
+            tree.add(term);
+        }
+
+        Map<String, Integer> found = new HashMap<>();
+        tree.search("JONH", 2, found::put);
+        assertEquals(Map.of("JOHN", 2, "JOAN", 2, "JON", 1), found);
+
+        found.clear();
+        tree.search("ALICE", 0, found::put);
+        assertEquals(Map.of("ALICE", 0), found);
+
+        found.clear();
+        tree.search("ZZZZZZ", 2, found::put);
+        assertEquals(Map.of(), found);
+    }
+
+    @Test
+    public void search_emptyTree_findsNothing() {
+        tree.search("JOHN", 2, (term, distance) -> {
+            throw new AssertionError(term);
+        });
+    }
+}
@@ -1,13 +1,20 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +27,25 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void moveAtomically_existingTarget_replacesTarget() throws Exception {
+        Path target = testFolder.resolve("data.json");
+        FileUtil.writeToFile(target, "old");
+        Path tempFile = FileUtil.createTempFileBeside(target);
+        FileUtil.writeToFile(tempFile, "new");
+
+        FileUtil.moveAtomically(tempFile, target);
+
+        assertEquals("new", FileUtil.readFromFile(target));
+        assertFalse(FileUtil.isFileExists(tempFile));
+    }
+
+    @Test
+    public void createTempFileBeside_missingParentDirectory_createsFileInSameDirectory() throws Exception {
+        Path target = testFolder.resolve("missing").resolve("data.json");
+        Path tempFile = FileUtil.createTempFileBeside(target);
+
+        assertTrue(FileUtil.isFileExists(tempFile));
+        assertEquals(target.toAbsolutePath().getParent(), tempFile.getParent());
+    }
 }
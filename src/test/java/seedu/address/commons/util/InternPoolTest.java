@@ -0,0 +1,43 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternPoolTest {
+
+    private final InternPool<StringBuilder> pool = new InternPool<>();
+
+    @Test
+    public void intern_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> pool.intern(null, StringBuilder::new));
+        assertThrows(NullPointerException.class, () -> pool.intern("key", null));
+    }
+
+    @Test
+    public void intern_sameKey_returnsSameInstance() {
+        StringBuilder first = pool.intern("key", StringBuilder::new);
+        assertSame(first, pool.intern("key", StringBuilder::new));
+        assertSame(first, pool.intern(new String("key"), key -> {
+            throw new AssertionError("The pooled instance should be reused.");
+        }));
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void intern_differentKeys_returnsDifferentInstances() {
+        assertNotSame(pool.intern("key", StringBuilder::new), pool.intern("Key", StringBuilder::new));
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> pool.intern("key", key -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(0, pool.size());
+    }
+}
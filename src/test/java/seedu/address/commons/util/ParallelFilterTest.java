@@ -0,0 +1,50 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelFilterTest {
+
+    private static final Predicate<Integer> IS_MULTIPLE_OF_THREE = number -> number % 3 == 0;
+
+    @Test
+    public void filter_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> ParallelFilter.filter(null, IS_MULTIPLE_OF_THREE));
+        assertThrows(NullPointerException.class, () -> ParallelFilter.filter(List.of(1), null));
+        assertThrows(IllegalArgumentException.class, () -> ParallelFilter.filter(List.of(1), IS_MULTIPLE_OF_THREE,
+                0));
+    }
+
+    @Test
+    public void filter_emptyList_noPositions() {
+        assertEquals(new BitSet(), ParallelFilter.filter(List.<Integer>of(), IS_MULTIPLE_OF_THREE));
+    }
+
+    @Test
+    public void filter_manyChunks_sameAsSequential() {
+        // sizes around the boundaries of words and chunks, with chunks smaller than a word and of several words
+        for (int size : new int[] {1, 63, 64, 65, 1000, 10_001}) {
+            List<Integer> numbers = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                numbers.add(i);
+            }
+            BitSet expected = new BitSet();
+            for (int i = 0; i < size; i++) {
+                if (IS_MULTIPLE_OF_THREE.test(i)) {
+                    expected.set(i);
+                }
+            }
+
+            assertEquals(expected, ParallelFilter.filter(numbers, IS_MULTIPLE_OF_THREE));
+            assertEquals(expected, ParallelFilter.filter(numbers, IS_MULTIPLE_OF_THREE, 1));
+            assertEquals(expected, ParallelFilter.filter(numbers, IS_MULTIPLE_OF_THREE, 200));
+        }
+    }
+}
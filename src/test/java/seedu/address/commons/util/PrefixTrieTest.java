@@ -0,0 +1,86 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PrefixTrieTest {
+
+    private final PrefixTrie trie = new PrefixTrie();
+
+    @Test
+    public void add_nullTerm_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trie.add(null));
+    }
+
+    @Test
+    public void complete_prefixIgnoringCase_returnsTermsInKeyOrder() {
+        trie.add("Alice Pauline");
+        trie.add("alex yeoh");
+        trie.add("Benson Meier");
+        trie.add("Al");
+
+        assertEquals(List.of("Al", "alex yeoh", "Alice Pauline"), trie.complete("aL", 10));
+        assertEquals(List.of("Alice Pauline"), trie.complete("ALICE P", 10));
+        assertEquals(List.of("Al", "alex yeoh", "Alice Pauline", "Benson Meier"), trie.complete("", 10));
+        assertEquals(List.of(), trie.complete("alx", 10));
+        assertEquals(List.of(), trie.complete("Alice Paulinex", 10));
+    }
+
+    @Test
+    public void complete_limit_stopsAtLimit() {
+        trie.add("CS2103T");
+        trie.add("CS2101");
+        trie.add("CS2100");
+
+        assertEquals(List.of("CS2100", "CS2101"), trie.complete("cs", 2));
+        assertEquals(List.of(), trie.complete("cs", 0));
+    }
+
+    @Test
+    public void remove_termAddedTwice_keptUntilRemovedTwice() {
+        trie.add("friends");
+        trie.add("friends");
+        trie.add("friend");
+
+        trie.remove("friends");
+        assertEquals(List.of("friend", "friends"), trie.complete("fri", 10));
+        assertEquals(2, trie.size());
+
+        trie.remove("friends");
+        assertEquals(List.of("friend"), trie.complete("fri", 10));
+        assertEquals(1, trie.size());
+    }
+
+    @Test
+    public void remove_branchingTerms_remainingTermsStillCompleted() {
+        trie.add("carl");
+        trie.add("carla");
+        trie.add("carlb");
+        trie.add("cat");
+
+        trie.remove("carl");
+        trie.remove("carla");
+        assertEquals(List.of("carlb", "cat"), trie.complete("ca", 10));
+        assertEquals(List.of("carlb"), trie.complete("carl", 10));
+
+        trie.remove("unknown");
+        trie.remove("car");
+        assertEquals(2, trie.size());
+
+        trie.remove("carlb");
+        trie.remove("cat");
+        assertEquals(List.of(), trie.complete("", 10));
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    public void add_termsDifferingInCase_bothKept() {
+        trie.add("Friends");
+        trie.add("friends");
+        assertEquals(List.of("Friends", "friends"), trie.complete("FRIENDS", 10));
+    }
+}
@@ -123,6 +123,24 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsAnyIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toSearchKey / toSearchKeyword ----------------------
+
+    @Test
+    public void toSearchKeyword_invalidWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, "Word parameter cannot be empty", ()
+            -> StringUtil.toSearchKeyword("  "));
+        assertThrows(IllegalArgumentException.class, "Word parameter should be a single word", ()
+            -> StringUtil.toSearchKeyword("aaa bbb"));
+    }
+
+    @Test
+    public void toSearchKeyword_validWord_matchesSearchKey() {
+        String searchKey = StringUtil.toSearchKey("aaa bBb ccc@1");
+        assertTrue(searchKey.contains(StringUtil.toSearchKeyword("  Bbb  ")));
+        assertTrue(searchKey.contains(StringUtil.toSearchKeyword("cCC@1")));
+        assertFalse(searchKey.contains(StringUtil.toSearchKeyword("bbbb")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,141 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class TreeObservableListTest {
+
+    private final TreeObservableList<String> list = new TreeObservableList<>(Comparator.naturalOrder());
+    private int changeCount;
+
+    @BeforeEach
+    public void setUp() {
+        list.setAll(Arrays.asList("b", "d", "f", "h"));
+        list.addListener((ListChangeListener<String>) change -> changeCount++);
+    }
+
+    @Test
+    public void insertAndDelete_keepElementsInOrderInOneChangeEach() {
+        assertEquals(0, list.insert("a"));
+        assertEquals(3, list.insert("e"));
+        list.delete("d");
+        assertEquals(Arrays.asList("a", "b", "e", "f", "h"), list);
+        assertEquals(3, changeCount);
+        assertThrows(NoSuchElementException.class, () -> list.delete("d"));
+    }
+
+    @Test
+    public void positionOf_elements_foundByIdentity() {
+        for (int i = 0; i < list.size(); i++) {
+            assertEquals(i, list.positionOf(list.get(i)));
+        }
+        assertEquals(-1, list.positionOf("c"));
+        assertEquals(-1, list.positionOf(new String("b")));
+    }
+
+    @Test
+    public void replace_inOrder_keepsPosition() {
+        assertEquals(1, list.replace("d", "e"));
+        assertEquals(Arrays.asList("b", "e", "f", "h"), list);
+        assertEquals(1, changeCount);
+    }
+
+    @Test
+    public void replace_outOfOrder_movesElementInOneChange() {
+        assertEquals(2, list.replace("b", "g"));
+        assertEquals(Arrays.asList("d", "f", "g", "h"), list);
+        assertEquals(0, list.replace("h", "a"));
+        assertEquals(Arrays.asList("a", "d", "f", "g"), list);
+        assertEquals(2, changeCount);
+        assertThrows(NoSuchElementException.class, () -> list.replace("b", "c"));
+    }
+
+    @Test
+    public void rearrange_range_permutesOnlyRangeInOneChange() {
+        Map<String, Integer> ranks = new HashMap<>(Map.of("a", 0, "b", 1, "c", 2, "d", 3));
+        TreeObservableList<String> ranked = new TreeObservableList<>(Comparator.comparing(ranks::get));
+        ranked.setAll(Arrays.asList("a", "b", "c", "d"));
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        ranked.addListener((ListChangeListener<String>) changes::add);
+        ranks.putAll(Map.of("b", 3, "d", 1));
+        ranked.rearrange(1, Arrays.asList("d", "c", "b"));
+        assertEquals(Arrays.asList("a", "d", "c", "b"), ranked);
+        assertEquals(1, ranked.positionOf("d"));
+        assertEquals(1, changes.size());
+
+        list.rearrange(1, Arrays.asList("d", "f"));
+        assertEquals(0, changeCount);
+        assertThrows(IllegalArgumentException.class, () -> list.rearrange(0, Arrays.asList("b", "x")));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.rearrange(3, Arrays.asList("h", "b")));
+    }
+
+    @Test
+    public void setAllAndClear_notifyOnce() {
+        list.setAll(Arrays.asList("x", "y"));
+        assertEquals(Arrays.asList("x", "y"), list);
+        list.clear();
+        assertEquals(Collections.emptyList(), list);
+        assertEquals(2, changeCount);
+    }
+
+    @Test
+    public void manyChanges_matchSortedList() {
+        TreeObservableList<Integer> numbers = new TreeObservableList<>(Comparator.naturalOrder());
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            Integer number = (i * 7919) % 1000;
+            numbers.insert(number);
+            expected.add(number);
+        }
+        for (int i = 0; i < 500; i += 3) {
+            Integer number = expected.get(i);
+            numbers.delete(number);
+            expected.set(i, null);
+        }
+        expected.removeIf(number -> number == null);
+        Collections.sort(expected);
+
+        assertEquals(expected, numbers);
+        assertEquals(expected, new ArrayList<>(numbers.getSnapshot()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, numbers.positionOf(numbers.get(i)));
+        }
+    }
+
+    @Test
+    public void getSnapshot_listModified_snapshotUnchanged() {
+        List<String> snapshot = list.getSnapshot();
+        assertSame(snapshot, list.getSnapshot());
+
+        list.insert("a");
+        list.replace("b", "c");
+        List<String> laterSnapshot = list.getSnapshot();
+        list.delete("d");
+        list.clear();
+        list.setAll(Arrays.asList("x", "y"));
+
+        assertEquals(Arrays.asList("b", "d", "f", "h"), snapshot);
+        assertEquals(Arrays.asList("a", "c", "d", "f", "h"), laterSnapshot);
+        assertEquals(Arrays.asList("x", "y"), list);
+    }
+
+    @Test
+    public void getSnapshot_modifySnapshot_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> list.getSnapshot().remove(0));
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Storage storage;
+
+    private final Model model = new ModelManager(getSortedTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_binaryFile_success() throws Exception {
+        Path filePath = testFolder.resolve("export.bin");
+        CommandResult result = new ExportCommand(filePath, AddressBookFormat.BINARY).execute(model, storage);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Exported " + model.getAddressBook().getPersonList().size()
+                + " persons to " + filePath));
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_jsonFile_success() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        new ExportCommand(filePath, AddressBookFormat.JSON).execute(model, storage);
+
+        assertEquals(model.getAddressBook(),
+                new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws Exception {
+        Path directory = testFolder.resolve("export.bin");
+        Files.createDirectory(directory);
+        Files.writeString(directory.resolve("file"), "not empty");
+
+        assertThrows(CommandException.class, () -> new ExportCommand(directory, AddressBookFormat.BINARY)
+                .execute(model, storage));
+    }
+
+    @Test
+    public void execute_existingJsonFile_keepsNoBackups() throws Exception {
+        Path filePath = testFolder.resolve("export.json");
+        new ExportCommand(filePath, AddressBookFormat.JSON).execute(model, storage);
+        new ExportCommand(filePath, AddressBookFormat.JSON).execute(model, storage);
+
+        assertFalse(Files.exists(JsonAddressBookStorage.getBackupFilePath(filePath, 1)));
+    }
+
+    @Test
+    public void equals() {
+        Path firstPath = testFolder.resolve("first.bin");
+        Path secondPath = testFolder.resolve("second.bin");
+        ExportCommand exportFirstCommand = new ExportCommand(firstPath, AddressBookFormat.BINARY);
+
+        // same object -> returns true
+        assertTrue(exportFirstCommand.equals(exportFirstCommand));
+
+        // same values -> returns true
+        assertTrue(exportFirstCommand.equals(new ExportCommand(firstPath, AddressBookFormat.BINARY)));
+
+        // different types -> returns false
+        assertFalse(exportFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(exportFirstCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(secondPath, AddressBookFormat.BINARY)));
+
+        // different format -> returns false
+        assertFalse(exportFirstCommand.equals(new ExportCommand(firstPath, AddressBookFormat.JSON)));
+    }
+}
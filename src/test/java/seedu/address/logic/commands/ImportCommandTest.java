@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Storage storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void execute_binaryFile_replacesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("import.bin");
+        AddressBook imported = getSortedTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(imported);
+        Model model = new ModelManager();
+        model.addPerson(ALICE);
+
+        CommandResult result = new ImportCommand(filePath, AddressBookFormat.BINARY).execute(model, storage);
+
+        assertTrue(result.getFeedbackToUser().startsWith("Imported " + imported.getPersonList().size()
+                + " persons from " + filePath));
+        assertEquals(imported, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_jsonFile_replacesAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("import.json");
+        AddressBook imported = getSortedTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(imported);
+        Model model = new ModelManager();
+
+        new ImportCommand(filePath, AddressBookFormat.JSON).execute(model, storage);
+        assertEquals(imported, model.getAddressBook());
+    }
+
+    @Test
+    public void execute_withoutStorage_throwsCommandException() {
+        Path filePath = testFolder.resolve("import.bin");
+        Model model = new ModelManager(getSortedTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(CommandException.class, Messages.MESSAGE_STORAGE_UNAVAILABLE, ()
+                -> new ImportCommand(filePath, AddressBookFormat.BINARY).execute(model));
+        assertEquals(getSortedTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.bin");
+        Model model = new ModelManager(getSortedTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(CommandException.class, String.format(ImportCommand.MESSAGE_FILE_NOT_FOUND, filePath), ()
+                -> new ImportCommand(filePath, AddressBookFormat.BINARY).execute(model, storage));
+        assertEquals(getSortedTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidFile_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.bin");
+        Files.writeString(filePath, "not a binary address book");
+        Model model = new ModelManager(getSortedTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath, AddressBookFormat.BINARY)
+                .execute(model, storage));
+        assertEquals(getSortedTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_invalidJsonFileWithBackup_throwsCommandException() throws Exception {
+        Path filePath = testFolder.resolve("invalid.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(new AddressBook());
+        Files.writeString(JsonAddressBookStorage.getBackupFilePath(filePath, 1), "{}");
+        Files.writeString(filePath, "not a json address book");
+        Model model = new ModelManager(getSortedTypicalAddressBook(), new UserPrefs());
+
+        assertThrows(CommandException.class, () -> new ImportCommand(filePath, AddressBookFormat.JSON)
+                .execute(model, storage));
+        assertEquals(getSortedTypicalAddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void equals() {
+        Path firstPath = testFolder.resolve("first.json");
+        Path secondPath = testFolder.resolve("second.json");
+        ImportCommand importFirstCommand = new ImportCommand(firstPath, AddressBookFormat.JSON);
+
+        // same object -> returns true
+        assertTrue(importFirstCommand.equals(importFirstCommand));
+
+        // same values -> returns true
+        assertTrue(importFirstCommand.equals(new ImportCommand(firstPath, AddressBookFormat.JSON)));
+
+        // different types -> returns false
+        assertFalse(importFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(importFirstCommand.equals(null));
+
+        // different path -> returns false
+        assertFalse(importFirstCommand.equals(new ImportCommand(secondPath, AddressBookFormat.JSON)));
+    }
+}
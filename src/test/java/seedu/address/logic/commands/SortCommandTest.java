@@ -1,14 +1,24 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
 import static seedu.address.testutil.TypicalPersons.getUnsortedTypicalAddressBook;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SortKey;
+import seedu.address.testutil.PersonBuilder;
 
 public class SortCommandTest {
     private Model expectedModel = new ModelManager(getSortedTypicalAddressBook(), new UserPrefs());
@@ -16,7 +26,40 @@ public class SortCommandTest {
     @Test
     public void execute_sort_success() {
         Model model = new ModelManager(getUnsortedTypicalAddressBook(), new UserPrefs());
-        expectedModel.sortAddressBook(SortCommand.COMPARATOR);
-        assertCommandSuccess(new SortCommand(), model, SortCommand.MESSAGE_SUCCESS, expectedModel);
+        expectedModel.sortAddressBook(PersonOrder.BY_NAME);
+        assertCommandSuccess(new SortCommand(PersonOrder.BY_NAME), model, SortCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_sortThenAdd_addedPersonInOrder() {
+        Model model = new ModelManager(getUnsortedTypicalAddressBook(), new UserPrefs());
+        new SortCommand(PersonOrder.BY_NAME).execute(model);
+
+        Person aaron = new PersonBuilder().withName("Aaron Tan").withEmail("aaron@example.com")
+                .withTele("@aaron_tan").build();
+        model.addPerson(aaron);
+        assertEquals(aaron, model.getFilteredPersonList().get(0));
+        assertEquals(ALICE, model.getFilteredPersonList().get(1));
+    }
+
+    @Test
+    public void equals() {
+        SortCommand sortByNameCommand = new SortCommand(PersonOrder.BY_NAME);
+        SortCommand sortByModuleCommand = new SortCommand(new PersonOrder(List.of(SortKey.MODULE)));
+
+        // same object -> returns true
+        assertTrue(sortByNameCommand.equals(sortByNameCommand));
+
+        // same values -> returns true
+        assertTrue(sortByNameCommand.equals(new SortCommand(new PersonOrder(List.of(SortKey.NAME)))));
+
+        // different types -> returns false
+        assertFalse(sortByNameCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(sortByNameCommand.equals(null));
+
+        // different order -> returns false
+        assertFalse(sortByNameCommand.equals(sortByModuleCommand));
     }
 }
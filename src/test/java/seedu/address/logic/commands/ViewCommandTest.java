@@ -0,0 +1,74 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ModTutGroup;
+
+/**
+ * Contains integration tests (interaction with the Model) for ViewCommand.
+ */
+public class ViewCommandTest {
+
+    private Model model;
+    private Model expectedModel;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getSortedTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_existingGroup_success() {
+        ViewCommand viewCommand = new ViewCommand("CS1234-A10", "CS1234", "A10");
+        CommandResult expectedCommandResult = new CommandResult(
+                String.format(ViewCommand.MESSAGE_SUCCESS, "CS1234-A10"), true, false);
+
+        assertCommandSuccess(viewCommand, model, expectedCommandResult, expectedModel);
+        assertEquals(Arrays.asList("CS1234", "A10"), model.getSelectedTabs());
+    }
+
+    @Test
+    public void execute_unknownGroup_throwsCommandException() {
+        ViewCommand viewCommand = new ViewCommand("CS1234-Z01", "CS1234", "Z01");
+        assertCommandFailure(viewCommand, model,
+                String.format(Messages.MESSAGE_INVALID_MODULE_TUTORIAL_GROUP, "CS1234-Z01"));
+    }
+
+    @Test
+    public void execute_groupOnlyParsed_throwsCommandException() {
+        new ModTutGroup("CS9999-T01");
+        ViewCommand viewCommand = new ViewCommand("CS9999-T01", "CS9999", "T01");
+        assertCommandFailure(viewCommand, model,
+                String.format(Messages.MESSAGE_INVALID_MODULE_TUTORIAL_GROUP, "CS9999-T01"));
+    }
+
+    @Test
+    public void execute_deletedGroup_throwsCommandException() {
+        model.deleteModTut(new ModTutGroup("ES2666-Z01"));
+        ViewCommand viewCommand = new ViewCommand("ES2666-Z01", "ES2666", "Z01");
+        assertCommandFailure(viewCommand, model,
+                String.format(Messages.MESSAGE_INVALID_MODULE_TUTORIAL_GROUP, "ES2666-Z01"));
+    }
+
+    @Test
+    public void execute_groupInOtherModel_throwsCommandException() {
+        Model emptyModel = new ModelManager(new AddressBook(), new UserPrefs());
+        ViewCommand viewCommand = new ViewCommand("CS1234-A10", "CS1234", "A10");
+        assertCommandFailure(viewCommand, emptyModel,
+                String.format(Messages.MESSAGE_INVALID_MODULE_TUTORIAL_GROUP, "CS1234-A10"));
+    }
+}
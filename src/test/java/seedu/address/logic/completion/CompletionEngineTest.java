@@ -0,0 +1,64 @@
+package seedu.address.logic.completion;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class CompletionEngineTest {
+
+    private final ObservableList<Person> persons = FXCollections.observableArrayList(ALICE, BENSON);
+    private final CompletionEngine completionEngine = new CompletionEngine(persons, Runnable::run);
+
+    @Test
+    public void getCompletions_commandWord_completesCommandWords() {
+        assertEquals(List.of("delete ", "deleteMod ", "deleteTut "), complete("del"));
+        assertEquals(List.of("  deleteMod "), complete("  deletem"));
+        assertEquals(List.of(), complete("   "));
+        assertEquals(List.of(), complete("xyz"));
+    }
+
+    @Test
+    public void getCompletions_personValues_completesLastValue() {
+        assertEquals(List.of("find n/Alice Pauline"), complete("find n/al"));
+        assertEquals(List.of("edit 1 t/@benson"), complete("edit 1 t/@b"));
+        assertEquals(List.of("find e/johnd@example.com"), complete("find e/JOHN"));
+        assertEquals(List.of("edit 1 n/Al tag/friends"), complete("edit 1 n/Al tag/fr"));
+    }
+
+    @Test
+    public void getCompletions_modTutGroup_completesModuleThenTutorial() {
+        assertEquals(List.of("add m/CS1234-"), complete("add m/cs"));
+        assertEquals(List.of("add m/CS1234-A10"), complete("add m/CS1234-"));
+    }
+
+    @Test
+    public void getCompletions_completeValue_notReturned() {
+        assertEquals(List.of(), complete("find n/Alice Pauline"));
+    }
+
+    @Test
+    public void getCompletions_personsChanged_valuesUpdated() {
+        persons.remove(ALICE);
+        persons.add(ELLE);
+        persons.set(0, new PersonBuilder(BENSON).withName("Bernard Meier").build());
+
+        assertEquals(List.of(), complete("find n/al"));
+        assertEquals(List.of("find n/Bernard Meier"), complete("find n/b"));
+        assertEquals(List.of("find n/Elle Meyer"), complete("find n/e"));
+        assertEquals(List.of("add m/ES2666-Z01"), complete("add m/ES2666-"));
+    }
+
+    private List<String> complete(String commandText) {
+        return completionEngine.getCompletions(commandText, CompletionEngine.DEFAULT_LIMIT).join();
+    }
+}
@@ -1,20 +1,25 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
 import java.util.Arrays;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.Messages;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.predicates.AndPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.FuzzyMatchPredicate;
+import seedu.address.model.person.predicates.ModTutGroupContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.OrPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.TelegramHandleContainsKeywordsPredicate;
 
 public class FindCommandParserTest {
@@ -45,6 +50,20 @@ public class FindCommandParserTest {
         // email keyword
         assertParseSuccess(parser, " e/alice@gmail bob2001@ymail.com",
                 new FindCommand(new EmailContainsKeywordsPredicate(Arrays.asList("alice@gmail", "bob2001@ymail.com"))));
+
+        // fuzzy name keyword
+        assertParseSuccess(parser, " n~/alcie bbo",
+                new FindCommand(new FuzzyMatchPredicate(Arrays.asList("alcie", "bbo"), SearchField.NAME)));
+
+        // module and tag keywords
+        assertParseSuccess(parser, " m/CS2103T CS2101-T01",
+                new FindCommand(new ModTutGroupContainsKeywordsPredicate(Arrays.asList("CS2103T", "CS2101-T01"))));
+        assertParseSuccess(parser, " tag/TA",
+                new FindCommand(new TagContainsKeywordsPredicate(Arrays.asList("TA"))));
+
+        // fuzzy telegram handle keyword
+        assertParseSuccess(parser, " t~/@alcie",
+                new FindCommand(new FuzzyMatchPredicate(Arrays.asList("@alcie"), SearchField.TELEGRAM_HANDLE)));
     }
 
     @Test
@@ -53,20 +72,54 @@ public class FindCommandParserTest {
     }
 
     @Test
-    public void parse_multipleSamePrefixes_failure() {
-        // multiple Names
-        assertParseFailure(parser, " n/amy n/Amy", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_NAME));
+    public void parse_multipleClauses_success() {
+        Predicate<Person> nameAmy = new NameContainsKeywordsPredicate(Arrays.asList("amy"));
+        Predicate<Person> telegramAmy = new TelegramHandleContainsKeywordsPredicate(Arrays.asList("@amy"));
+        Predicate<Person> moduleCs2103t = new ModTutGroupContainsKeywordsPredicate(Arrays.asList("CS2103T"));
+        Predicate<Person> tagTa = new TagContainsKeywordsPredicate(Arrays.asList("TA"));
+
+        // clauses without operators must all match
+        assertParseSuccess(parser, " n/amy t/@amy",
+                new FindCommand(new AndPredicate(Arrays.asList(nameAmy, telegramAmy))));
+        assertParseSuccess(parser, " n/amy AND t/@amy",
+                new FindCommand(new AndPredicate(Arrays.asList(nameAmy, telegramAmy))));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertParseSuccess(parser, " n/amy OR NOT tag/TA m/CS2103T",
+                new FindCommand(new OrPredicate(Arrays.asList(nameAmy,
+                        new AndPredicate(Arrays.asList(new NotPredicate(tagTa), moduleCs2103t))))));
+
+        // parentheses
+        assertParseSuccess(parser, " (n/amy OR t/@amy) NOT (tag/TA)",
+                new FindCommand(new AndPredicate(Arrays.asList(new OrPredicate(Arrays.asList(nameAmy, telegramAmy)),
+                        new NotPredicate(tagTa)))));
+
+        // lower case operators are keywords
+        assertParseSuccess(parser, " n/amy or bob",
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("amy", "or", "bob"))));
+    }
+
+    @Test
+    public void parse_invalidQuery_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE);
 
-        // multiple Telegram Handles
-        assertParseFailure(parser, " t/@amy t/_yeoh", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_TELEGRAM));
+        // keywords before the first clause
+        assertParseFailure(parser, " amy n/amy", expectedMessage);
 
-        // multiple Emails
-        assertParseFailure(parser, " e/@gmail e/alexy", Messages.getErrorMessageForDuplicatePrefixes(PREFIX_EMAIL));
+        // dangling operator
+        assertParseFailure(parser, " n/amy OR", expectedMessage);
+        assertParseFailure(parser, " NOT", expectedMessage);
+
+        // unbalanced parentheses
+        assertParseFailure(parser, " (n/amy OR t/@amy", expectedMessage);
+        assertParseFailure(parser, " n/amy)", expectedMessage);
     }
 
     @Test
-    public void parse_multipleDifferentPrefixes_failure() {
-        assertParseFailure(parser, " n/amy t/@amy e/@am@gmail.com", Messages.MESSAGE_MORE_THAN_ONE_FIELD);
+    public void parse_fuzzyClauseCombined_failure() {
+        assertParseFailure(parser, " n/amy n~/amy", FindCommand.MESSAGE_FUZZY_NOT_COMBINED);
+        assertParseFailure(parser, " n~/amy OR t~/amy", FindCommand.MESSAGE_FUZZY_NOT_COMBINED);
+        assertParseFailure(parser, " NOT n~/amy", FindCommand.MESSAGE_FUZZY_NOT_COMBINED);
     }
 
     @Test
@@ -82,5 +135,17 @@ public class FindCommandParserTest {
         // empty email
         assertParseFailure(parser, " e/", String.format(
                 MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_EMPTY_EMAIL));
+
+        // empty fuzzy name
+        assertParseFailure(parser, " n~/", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_EMPTY_NAME));
+
+        // empty module
+        assertParseFailure(parser, " n/amy AND m/", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_EMPTY_MODULE));
+
+        // empty tag
+        assertParseFailure(parser, " tag/ OR n/amy", String.format(
+                MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_EMPTY_TAG));
     }
 }
@@ -2,10 +2,12 @@ package seedu.address.logic.parser;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_DATA_FILE;
 import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -14,6 +16,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.person.Email;
 import seedu.address.model.person.ModTutGroup;
 import seedu.address.model.person.Name;
@@ -170,4 +173,23 @@ public class ParserUtilTest {
 
         assertEquals(expectedModTutGroupSet, actualModTutGroupSet);
     }
+
+    @Test
+    public void parseDataFilePath_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATA_FILE, () -> ParserUtil.parseDataFilePath("data.txt"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATA_FILE, () -> ParserUtil.parseDataFilePath(".bin"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_DATA_FILE, () -> ParserUtil.parseDataFilePath("a\0.json"));
+    }
+
+    @Test
+    public void parseDataFilePath_validValueWithWhitespace_returnsTrimmedPath() throws Exception {
+        assertEquals(Paths.get("data/backup.bin"), ParserUtil.parseDataFilePath(WHITESPACE + "data/backup.bin"
+                + WHITESPACE));
+    }
+
+    @Test
+    public void parseDataFileFormat_byExtension() {
+        assertEquals(AddressBookFormat.BINARY, ParserUtil.parseDataFileFormat(Paths.get("backup.BIN")));
+        assertEquals(AddressBookFormat.JSON, ParserUtil.parseDataFileFormat(Paths.get("backup.json")));
+    }
 }
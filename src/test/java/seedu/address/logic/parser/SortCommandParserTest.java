@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SortCommand;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SortKey;
+
+public class SortCommandParserTest {
+
+    private SortCommandParser parser = new SortCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsSortByName() {
+        assertParseSuccess(parser, "  ", new SortCommand(PersonOrder.BY_NAME));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() {
+        assertParseSuccess(parser, " MOD  name\ttag",
+                new SortCommand(new PersonOrder(List.of(SortKey.MODULE, SortKey.NAME, SortKey.TAG))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SortCommand.MESSAGE_USAGE);
+
+        // unknown field
+        assertParseFailure(parser, "phone", expectedMessage);
+
+        // repeated field
+        assertParseFailure(parser, "name email name", expectedMessage);
+    }
+}
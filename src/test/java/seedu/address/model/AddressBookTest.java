@@ -2,6 +2,8 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MODTUT_BOB;
@@ -9,18 +11,30 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TELE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getSortedTypicalPersons;
+import static seedu.address.testutil.TypicalPersons.getUnsortedTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.ModTutGroup;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.SortKey;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -56,6 +70,32 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withPersonOrder_keepsPersonsInOrder() {
+        AddressBook newData = getUnsortedTypicalAddressBook();
+        newData.setPersonOrder(PersonOrder.BY_NAME);
+        addressBook.resetData(newData);
+        assertEquals(getSortedTypicalPersons(), addressBook.getPersonList());
+        assertEquals(Optional.of(PersonOrder.BY_NAME), addressBook.getPersonOrder());
+        assertEquals(newData, addressBook);
+    }
+
+    @Test
+    public void setPersonOrder_changesVersionOnlyIfOrderChanges() {
+        addressBook.resetData(getSortedTypicalAddressBook());
+        long version = addressBook.getVersion();
+
+        // sorted persons are not moved, but the order is part of the data
+        addressBook.setPersonOrder(PersonOrder.BY_NAME);
+        assertEquals(getSortedTypicalPersons(), addressBook.getPersonList());
+        assertNotEquals(version, addressBook.getVersion());
+        assertNotEquals(getSortedTypicalAddressBook(), addressBook);
+
+        version = addressBook.getVersion();
+        addressBook.setPersonOrder(new PersonOrder(List.of(SortKey.NAME)));
+        assertEquals(version, addressBook.getVersion());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -96,11 +136,73 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void replaceOrRemovePersons_changedPersons_updatesGroupsAndSearchIndexes() {
+        AddressBook addressBook = getSortedTypicalAddressBook();
+        List<String> aliceKeywords = List.of(StringUtil.toSearchKeyword("Alice"));
+        List<String> zeldaKeywords = List.of(StringUtil.toSearchKeyword("Zelda"));
+        // Builds the search indexes before the change
+        addressBook.findPersons(SearchField.NAME, aliceKeywords);
+
+        Person zelda = new PersonBuilder(BENSON).withName("Zelda Meier").withModTuts(VALID_MODTUT_BOB).build();
+        addressBook.replaceOrRemovePersons(person -> person.equals(ALICE) ? null
+                : person.equals(BENSON) ? zelda : person);
+
+        assertFalse(addressBook.hasPerson(ALICE));
+        assertEquals(Optional.of(Set.of()), addressBook.findPersons(SearchField.NAME, aliceKeywords));
+        assertEquals(Optional.of(Set.of(zelda)), addressBook.findPersons(SearchField.NAME, zeldaKeywords));
+        ModTutGroup bobGroup = new ModTutGroup(VALID_MODTUT_BOB);
+        List<Person> expectedGroup = addressBook.getPersonList().stream()
+                .filter(person -> person.getModTutGroups().contains(bobGroup))
+                .collect(Collectors.toList());
+        assertEquals(expectedGroup, addressBook.getModTutGroupPersonList(bobGroup.getModule().getName(),
+                bobGroup.getTutorial().getName()));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_addressBookModified_snapshotUnchanged() {
+        AddressBook addressBook = getSortedTypicalAddressBook();
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        assertSame(snapshot, addressBook.getSnapshot());
+
+        addressBook.removePerson(ALICE);
+        addressBook.setPersonOrder(PersonOrder.BY_NAME);
+        assertEquals(getSortedTypicalPersons(), snapshot.getPersonList());
+        assertEquals(Optional.empty(), snapshot.getPersonOrder());
+        assertNotEquals(addressBook.getVersion(), snapshot.getVersion());
+
+        AddressBookSnapshot laterSnapshot = addressBook.getSnapshot();
+        assertEquals(addressBook.getVersion(), laterSnapshot.getVersion());
+        assertEquals(addressBook, new AddressBook(laterSnapshot));
+    }
+
+    @Test
+    public void getChangesSince_earlierSnapshot_rebuildsLaterPersons() {
+        AddressBook addressBook = getSortedTypicalAddressBook();
+        AddressBookSnapshot snapshot = addressBook.getSnapshot();
+        addressBook.removePerson(ALICE);
+        addressBook.setPersonOrder(PersonOrder.BY_NAME);
+        AddressBookSnapshot laterSnapshot = addressBook.getSnapshot();
+
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        laterSnapshot.getChangesSince(snapshot).orElseThrow().apply(persons);
+        assertEquals(laterSnapshot.getPersonList(), persons);
+        assertTrue(snapshot.getChangesSince(snapshot).orElseThrow().isEmpty());
+    }
+
+    @Test
+    public void getChangesSince_otherAddressBook_returnsEmpty() {
+        AddressBookSnapshot snapshot = getSortedTypicalAddressBook().getSnapshot();
+        assertEquals(Optional.empty(), snapshot.getChangesSince(getSortedTypicalAddressBook().getSnapshot()));
+        assertEquals(Optional.empty(), snapshot.getChangesSince(
+                new AddressBookSnapshot(List.of(), Optional.empty(), 0)));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -121,6 +223,21 @@ public class AddressBookTest {
         public ObservableList<Person> getPersonList() {
             return persons;
         }
+
+        @Override
+        public Optional<PersonOrder> getPersonOrder() {
+            return Optional.empty();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public AddressBookSnapshot getSnapshot() {
+            return new AddressBookSnapshot(List.copyOf(persons), getPersonOrder(), getVersion());
+        }
     }
 
 }
@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.AndPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.OrPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class IncrementalFilterTest {
+
+    private static final Predicate<Person> NAME_MEIER = new NameContainsKeywordsPredicate(List.of("meier"));
+    private static final Predicate<Person> NAME_MEI = new NameContainsKeywordsPredicate(List.of("mei"));
+    private static final Predicate<Person> TAG_FRIENDS = new TagContainsKeywordsPredicate(List.of("friends"));
+
+    private final AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON)
+            .withPerson(CARL).withPerson(DANIEL).build();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new IncrementalFilter(null, Set.of(), addressBook));
+        assertThrows(NullPointerException.class, () -> new IncrementalFilter(NAME_MEI, null, addressBook));
+        assertThrows(NullPointerException.class, () -> new IncrementalFilter(NAME_MEI, Set.of(), null));
+    }
+
+    @Test
+    public void isNarrower() {
+        // same predicate or longer keyword -> returns true
+        assertTrue(IncrementalFilter.isNarrower(NAME_MEI, NAME_MEI));
+        assertTrue(IncrementalFilter.isNarrower(NAME_MEIER, NAME_MEI));
+
+        // an operand of an AND is narrower -> returns true
+        assertTrue(IncrementalFilter.isNarrower(new AndPredicate(List.of(TAG_FRIENDS, NAME_MEIER)), NAME_MEI));
+
+        // narrower than an operand of an OR -> returns true
+        assertTrue(IncrementalFilter.isNarrower(NAME_MEIER, new OrPredicate(List.of(TAG_FRIENDS, NAME_MEI))));
+
+        // wider, unrelated or negated -> returns false
+        assertFalse(IncrementalFilter.isNarrower(NAME_MEI, NAME_MEIER));
+        assertFalse(IncrementalFilter.isNarrower(TAG_FRIENDS, NAME_MEI));
+        assertFalse(IncrementalFilter.isNarrower(new OrPredicate(List.of(TAG_FRIENDS, NAME_MEIER)), NAME_MEI));
+        assertFalse(IncrementalFilter.isNarrower(new NotPredicate(NAME_MEIER), new NotPredicate(NAME_MEI)));
+    }
+
+    @Test
+    public void refine_narrowerPredicate_testsOnlyMatches() {
+        IncrementalFilter filter = createFilter(NAME_MEI);
+        assertTrue(filter.canRefine(NAME_MEIER));
+        assertFalse(filter.canRefine(TAG_FRIENDS));
+
+        IncrementalFilter refined = filter.refine(NAME_MEIER);
+        assertEquals(Set.of(BENSON, DANIEL), refined.getMatches());
+        assertTrue(refined.test(BENSON));
+        assertFalse(refined.test(ALICE));
+    }
+
+    @Test
+    public void onChanged_personsAddedAndRemoved_testsOnlyAddedPersons() {
+        IncrementalFilter filter = createFilter(NAME_MEI);
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) filter::onChanged);
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Mei").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        assertTrue(filter.isSynced());
+        assertEquals(Set.of(editedAlice, DANIEL), filter.getMatches());
+        assertTrue(filter.test(editedAlice));
+        assertFalse(filter.test(BENSON));
+    }
+
+    @Test
+    public void test_changeNotPassed_testsWithPredicate() {
+        IncrementalFilter filter = createFilter(NAME_MEI);
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Mei").build();
+        addressBook.setPerson(ALICE, editedAlice);
+
+        assertFalse(filter.isSynced());
+        assertFalse(filter.canRefine(NAME_MEIER));
+        assertTrue(filter.test(editedAlice));
+    }
+
+    private IncrementalFilter createFilter(Predicate<Person> predicate) {
+        return new IncrementalFilter(predicate, addressBook.getPersonList().stream().filter(predicate).toList(),
+                addressBook);
+    }
+}
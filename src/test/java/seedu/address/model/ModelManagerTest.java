@@ -7,16 +7,29 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ModTutGroup;
+import seedu.address.model.person.Module;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SearchField;
+import seedu.address.model.person.predicates.AndPredicate;
+import seedu.address.model.person.predicates.FuzzyMatchPredicate;
+import seedu.address.model.person.predicates.ModTutGroupContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -88,6 +101,121 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void deleteMod_personsInModule_removesModuleFromEveryPerson() {
+        Person aliceInTwoModules = new PersonBuilder(ALICE).withModTuts("CS1234-A10", "ES2666-Z01").build();
+        modelManager.addPerson(aliceInTwoModules);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ELLE);
+
+        modelManager.deleteMod(new Module("CS1234"));
+
+        Person expectedAlice = new PersonBuilder(ALICE).withModTuts("ES2666-Z01").build();
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(expectedAlice).withPerson(ELLE).build();
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(Collections.singleton("ES2666"), modelManager.getModuleNames());
+    }
+
+    @Test
+    public void deleteModTut_personsInGroup_removesGroupFromEveryPerson() {
+        Person aliceInTwoGroups = new PersonBuilder(ALICE).withModTuts("CS1234-A10", "CS1234-B01").build();
+        modelManager.addPerson(aliceInTwoGroups);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ELLE);
+
+        modelManager.deleteModTut(new ModTutGroup("CS1234-A10"));
+
+        Person expectedAlice = new PersonBuilder(ALICE).withModTuts("CS1234-B01").build();
+        AddressBook expectedAddressBook = new AddressBookBuilder().withPerson(expectedAlice).withPerson(ELLE).build();
+        assertEquals(expectedAddressBook, modelManager.getAddressBook());
+        assertEquals(Collections.singleton("B01"), modelManager.getTutorialNames("CS1234"));
+    }
+
+    @Test
+    public void updateFilteredPersonList_keywordPredicate_matchesKeptInSyncWithEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("alice", "meier")));
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(ALICE);
+        assertEquals(Collections.singletonList(editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_combinedQuery_matchesKeptInSyncWithEdits() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ELLE);
+        modelManager.updateFilteredPersonList(new AndPredicate(Arrays.asList(
+                new ModTutGroupContainsKeywordsPredicate(Arrays.asList("CS1234")),
+                new NotPredicate(new TagContainsKeywordsPredicate(Arrays.asList("owesMoney"))))));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        Person editedBenson = new PersonBuilder(BENSON).withTags("friends").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_narrowerPredicate_refinesCurrentMatches() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ELLE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("me")));
+        assertEquals(Arrays.asList(BENSON, ELLE), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("meier")));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        // edited persons are tested against the refined predicate
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON), modelManager.getFilteredPersonList());
+
+        // a wider predicate searches every person again
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("me")));
+        assertEquals(Arrays.asList(editedAlice, BENSON, ELLE), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_fuzzyPredicate_closestFirstUpToLimit() {
+        Person bensonMeyer = new PersonBuilder().withName("Benson Meyer").withTele("@benson_meyer")
+                .withEmail("meyer@example.com").build();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(bensonMeyer);
+        modelManager.addPerson(BENSON);
+        modelManager.updateFilteredPersonList(new FuzzyMatchPredicate(Arrays.asList("Maier"), SearchField.NAME));
+        assertEquals(Arrays.asList(BENSON, bensonMeyer), modelManager.getFilteredPersonList());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFuzzyFindLimit(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.updateFilteredPersonList(new FuzzyMatchPredicate(Arrays.asList("Maier"), SearchField.NAME));
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+
+        // other predicates list persons in address book order again
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(Arrays.asList(ALICE, bensonMeyer, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_fuzzyPredicateThenSort_keepsLimitInGroups() {
+        Person bensonMeyer = new PersonBuilder().withName("Benson Meyer").withTele("@benson_meyer")
+                .withEmail("meyer@example.com").build();
+        modelManager.addPerson(bensonMeyer);
+        modelManager.addPerson(BENSON);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setFuzzyFindLimit(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.updateFilteredPersonList(new FuzzyMatchPredicate(Arrays.asList("Maier"), SearchField.NAME));
+
+        modelManager.sortAddressBook(PersonOrder.BY_NAME);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredModTutGroupPersonList("CS1234", "A10"));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -0,0 +1,79 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonListDeltaTest {
+
+    private final UniquePersonList list = new UniquePersonList();
+    private final ChangeLogEntry firstChangeLogEntry = new ChangeLogEntry();
+    private ChangeLogEntry lastChangeLogEntry = firstChangeLogEntry;
+
+    @BeforeEach
+    public void setUp() {
+        list.setPersons(List.of(DANIEL, ALICE, CARL, BENSON));
+        list.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                PersonListChange.of(change).forEach(personListChange ->
+                        lastChangeLogEntry = lastChangeLogEntry.append(personListChange)));
+    }
+
+    private PersonListDelta getDelta() {
+        return new PersonListDelta(firstChangeLogEntry.getChangesUpTo(lastChangeLogEntry).orElseThrow());
+    }
+
+    @Test
+    public void getChanges_noChange_isEmpty() {
+        PersonListDelta delta = getDelta();
+        assertTrue(delta.isEmpty());
+        assertEquals(0L, delta.countReferences());
+    }
+
+    @Test
+    public void applyAndRevert_mixedChanges_rebuildListsBeforeAndAfter() {
+        List<Person> before = new ArrayList<>(list.asUnmodifiableObservableList());
+        Person editedCarl = new PersonBuilder(CARL).withEmail("carl@example.com").build();
+        list.add(HOON);
+        list.remove(ALICE);
+        list.setPerson(CARL, editedCarl);
+        list.setOrder(PersonOrder.BY_NAME);
+        list.pin(HOON, new PersonBuilder(HOON).withPin(true).build());
+        List<Person> after = new ArrayList<>(list.asUnmodifiableObservableList());
+
+        PersonListDelta delta = getDelta();
+        assertFalse(delta.isEmpty());
+        List<Person> persons = new ArrayList<>(after);
+        delta.revert(persons);
+        assertEquals(before, persons);
+        delta.apply(persons);
+        assertEquals(after, persons);
+    }
+
+    @Test
+    public void countPersons_edit_countsPersonsBeforeAndAfterEdit() {
+        Person editedCarl = new PersonBuilder(CARL).withEmail("carl@example.com").build();
+        list.setPerson(CARL, editedCarl);
+        list.pin(editedCarl, new PersonBuilder(editedCarl).withPin(true).build());
+
+        PersonListDelta delta = getDelta();
+        assertEquals(1L, delta.countRemovedPersons());
+        assertEquals(1L, delta.countAddedPersons());
+    }
+}
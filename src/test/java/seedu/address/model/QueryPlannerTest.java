@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getUnsortedTypicalAddressBook;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.AndPredicate;
+import seedu.address.model.person.predicates.ModTutGroupContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.OrPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
+import seedu.address.testutil.AddressBookBuilder;
+
+public class QueryPlannerTest {
+
+    private final AddressBook addressBook = getUnsortedTypicalAddressBook();
+    private final QueryPlanner queryPlanner = new QueryPlanner(addressBook);
+
+    @Test
+    public void plan_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new QueryPlanner(null));
+        assertThrows(NullPointerException.class, () -> queryPlanner.plan(null));
+    }
+
+    @Test
+    public void plan_indexedClause_matchesFromIndex() {
+        QueryPlanner.Plan plan = queryPlanner.plan(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(Set.of(BENSON, DANIEL), plan.getMatches().get());
+        assertEquals(2.0 / addressBook.getPersonList().size(), plan.getSelectivity());
+
+        plan = queryPlanner.plan(new ModTutGroupContainsKeywordsPredicate(List.of("es2666")));
+        assertEquals(3, plan.getMatches().get().size());
+        assertTrue(plan.getMatches().get().contains(ELLE));
+    }
+
+    @Test
+    public void plan_unindexedClause_testsWithClause() {
+        Predicate<Person> tag = new TagContainsKeywordsPredicate(List.of("friends"));
+        QueryPlanner.Plan plan = queryPlanner.plan(tag);
+        assertSame(tag, plan.getPredicate());
+        assertFalse(plan.getMatches().isPresent());
+        assertEquals(QueryPlanner.UNKNOWN_SELECTIVITY, plan.getSelectivity());
+
+        // keywords too short for the trigram index
+        assertFalse(queryPlanner.plan(new NameContainsKeywordsPredicate(List.of("al"))).getMatches().isPresent());
+    }
+
+    @Test
+    public void plan_andWithIndexedOperand_testsOnlyItsMatches() {
+        Predicate<Person> failIfTested = person -> {
+            if (person != BENSON && person != DANIEL) {
+                throw new AssertionError("Person outside the matches of the name was tested: " + person);
+            }
+            return person != DANIEL;
+        };
+        QueryPlanner.Plan plan = queryPlanner.plan(new AndPredicate(List.of(failIfTested,
+                new NameContainsKeywordsPredicate(List.of("meier")),
+                new ModTutGroupContainsKeywordsPredicate(List.of("cs1234")))));
+        assertEquals(Set.of(BENSON), plan.getMatches().get());
+    }
+
+    @Test
+    public void plan_andWithoutIndexedOperand_selectiveOperandFirst() {
+        Predicate<Person> failIfTested = person -> {
+            throw new AssertionError("Unselective operand should not be tested");
+        };
+        Predicate<Person> failing = new TagContainsKeywordsPredicate(List.of("nosuchtag"));
+        QueryPlanner.Plan plan = queryPlanner.plan(new AndPredicate(List.of(new NotPredicate(failIfTested),
+                failing)));
+        assertFalse(plan.getMatches().isPresent());
+        assertFalse(plan.getPredicate().test(ALICE));
+        assertEquals(0.75 * 0.25, plan.getSelectivity(), 1e-9);
+    }
+
+    @Test
+    public void plan_or_unionOrShortCircuit() {
+        QueryPlanner.Plan plan = queryPlanner.plan(new OrPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("alice")),
+                new ModTutGroupContainsKeywordsPredicate(List.of("es2666")))));
+        assertEquals(4, plan.getMatches().get().size());
+
+        plan = queryPlanner.plan(new OrPredicate(List.of(
+                new NameContainsKeywordsPredicate(List.of("alice")),
+                new TagContainsKeywordsPredicate(List.of("owesMoney")))));
+        assertFalse(plan.getMatches().isPresent());
+        assertTrue(plan.getPredicate().test(ALICE));
+        assertTrue(plan.getPredicate().test(BENSON));
+        assertFalse(plan.getPredicate().test(DANIEL));
+    }
+
+    @Test
+    public void plan_not_complementsOperand() {
+        QueryPlanner.Plan plan = queryPlanner.plan(new NotPredicate(new NameContainsKeywordsPredicate(
+                List.of("meier"))));
+        assertFalse(plan.getMatches().isPresent());
+        assertFalse(plan.getPredicate().test(BENSON));
+        assertTrue(plan.getPredicate().test(ALICE));
+    }
+
+    @Test
+    public void plan_emptyAddressBook_noMatches() {
+        QueryPlanner.Plan plan = new QueryPlanner(new AddressBookBuilder().build())
+                .plan(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(Set.of(), plan.getMatches().get());
+        assertEquals(0.0, plan.getSelectivity());
+    }
+}
@@ -18,4 +18,31 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void setFuzzyFindLimit_nonPositiveLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_FUZZY_FIND_LIMIT, ()
+            -> userPrefs.setFuzzyFindLimit(0));
+    }
+
+    @Test
+    public void setUndoHistoryDepth_negativeDepth_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_UNDO_HISTORY_DEPTH, ()
+            -> userPrefs.setUndoHistoryDepth(-1));
+    }
+
+    @Test
+    public void setUndoHistoryBudgetMegabytes_negativeBudget_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, UserPrefs.MESSAGE_INVALID_UNDO_HISTORY_BUDGET, ()
+            -> userPrefs.setUndoHistoryBudgetMegabytes(-1));
+    }
+
 }
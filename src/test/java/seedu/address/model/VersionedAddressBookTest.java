@@ -0,0 +1,183 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.PINNED_CARL;
+import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SearchField;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private static final long LARGE_BUDGET = Long.MAX_VALUE;
+    private static final List<String> ALICE_KEYWORDS = List.of(StringUtil.toSearchKeyword("Alice"));
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(getSortedTypicalAddressBook(), 2, LARGE_BUDGET);
+
+    @Test
+    public void constructor_negativeLimits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, VersionedAddressBook.MESSAGE_INVALID_HISTORY_LIMITS, ()
+            -> new VersionedAddressBook(new AddressBook(), -1, LARGE_BUDGET));
+        assertThrows(IllegalArgumentException.class, VersionedAddressBook.MESSAGE_INVALID_HISTORY_LIMITS, ()
+            -> new VersionedAddressBook(new AddressBook(), 1, -1));
+    }
+
+    @Test
+    public void constructor_nothingToUndoOrRedo() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertThrows(IllegalStateException.class, versionedAddressBook::undo);
+        assertThrows(IllegalStateException.class, versionedAddressBook::redo);
+    }
+
+    @Test
+    public void commit_unchangedState_returnsFalse() {
+        assertFalse(versionedAddressBook.commit());
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
+    @Test
+    public void undoRedo_restoresCommittedStates() {
+        AddressBook initialState = new AddressBook(versionedAddressBook);
+        versionedAddressBook.removePerson(ALICE);
+        assertTrue(versionedAddressBook.commit());
+        AddressBook stateWithoutAlice = new AddressBook(versionedAddressBook);
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.pin(CARL, PINNED_CARL);
+        assertTrue(versionedAddressBook.commit());
+        AddressBook stateWithHoon = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(stateWithoutAlice, versionedAddressBook);
+        versionedAddressBook.undo();
+        assertEquals(initialState, versionedAddressBook);
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        assertEquals(stateWithoutAlice, versionedAddressBook);
+        versionedAddressBook.redo();
+        assertEquals(stateWithHoon, versionedAddressBook);
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_restoresPersonOrder() {
+        versionedAddressBook.setPersonOrder(PersonOrder.BY_NAME);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Optional.empty(), versionedAddressBook.getPersonOrder());
+        versionedAddressBook.redo();
+        assertEquals(Optional.of(PersonOrder.BY_NAME), versionedAddressBook.getPersonOrder());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardsThem() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        AddressBook stateWithoutAlice = new AddressBook(versionedAddressBook);
+        versionedAddressBook.addPerson(HOON);
+        versionedAddressBook.setPersonOrder(PersonOrder.BY_NAME);
+        versionedAddressBook.pin(CARL, PINNED_CARL);
+
+        versionedAddressBook.undo();
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+        assertFalse(versionedAddressBook.hasPerson(HOON));
+        versionedAddressBook.redo();
+        assertEquals(stateWithoutAlice, versionedAddressBook);
+        assertEquals(Optional.empty(), versionedAddressBook.getPersonOrder());
+    }
+
+    @Test
+    public void undo_restoresSearchIndexes() {
+        // Builds the search indexes before the change
+        versionedAddressBook.findPersons(SearchField.NAME, ALICE_KEYWORDS);
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Optional.of(Set.of(ALICE)), versionedAddressBook.findPersons(SearchField.NAME, ALICE_KEYWORDS));
+        versionedAddressBook.redo();
+        assertEquals(Optional.of(Set.of()), versionedAddressBook.findPersons(SearchField.NAME, ALICE_KEYWORDS));
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoStates() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_beyondHistoryDepth_forgetsOldestStates() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(CARL);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void commit_zeroHistoryDepth_nothingToUndo() {
+        VersionedAddressBook addressBook = new VersionedAddressBook(getSortedTypicalAddressBook(), 0, LARGE_BUDGET);
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.commit());
+        assertFalse(addressBook.canUndo());
+        assertEquals(0L, addressBook.getHistoryBytes());
+    }
+
+    @Test
+    public void commit_edit_countsOnlyEditedPerson() {
+        versionedAddressBook.setPerson(CARL, new PersonBuilder(CARL).withEmail("carl@example.com").build());
+        versionedAddressBook.commit();
+
+        // The change holds the person before and after the edit, and only it refers to the person before the edit
+        assertEquals(2 * VersionedAddressBook.REFERENCE_BYTES + VersionedAddressBook.PERSON_BYTES,
+                versionedAddressBook.getHistoryBytes());
+    }
+
+    @Test
+    public void setHistoryLimits_smallerBudget_forgetsOldestStates() {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit();
+        long historyBytes = versionedAddressBook.getHistoryBytes();
+
+        versionedAddressBook.setHistoryLimits(2, historyBytes - 1);
+        assertTrue(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.getHistoryBytes() < historyBytes);
+
+        versionedAddressBook.setHistoryLimits(2, 0);
+        assertFalse(versionedAddressBook.canUndo());
+        assertEquals(0L, versionedAddressBook.getHistoryBytes());
+    }
+
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.predicates.AndPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.OrPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class BooleanPredicatesTest {
+
+    private static final Predicate<Person> NAME_ALICE = new NameContainsKeywordsPredicate(List.of("alice"));
+    private static final Predicate<Person> TAG_TA = new TagContainsKeywordsPredicate(List.of("TA"));
+    private static final Predicate<Person> FAIL_IF_TESTED = person -> {
+        throw new AssertionError("Operand should not be tested");
+    };
+
+    private final Person alice = new PersonBuilder().withName("Alice Pauline").withTags("TA").build();
+    private final Person bob = new PersonBuilder().withName("Bob Choo").build();
+
+    @Test
+    public void constructor_tooFewOperands_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AndPredicate(List.of(NAME_ALICE)));
+        assertThrows(IllegalArgumentException.class, () -> new OrPredicate(List.of(NAME_ALICE)));
+        assertThrows(NullPointerException.class, () -> new NotPredicate(null));
+    }
+
+    @Test
+    public void test_and() {
+        assertTrue(new AndPredicate(List.of(NAME_ALICE, TAG_TA)).test(alice));
+        assertFalse(new AndPredicate(List.of(NAME_ALICE, TAG_TA)).test(bob));
+
+        // stops at the first failing operand
+        assertFalse(new AndPredicate(List.of(NAME_ALICE, FAIL_IF_TESTED)).test(bob));
+    }
+
+    @Test
+    public void test_or() {
+        assertTrue(new OrPredicate(List.of(TAG_TA, NAME_ALICE)).test(alice));
+        assertFalse(new OrPredicate(List.of(TAG_TA, NAME_ALICE)).test(bob));
+
+        // stops at the first passing operand
+        assertTrue(new OrPredicate(List.of(NAME_ALICE, FAIL_IF_TESTED)).test(alice));
+    }
+
+    @Test
+    public void test_not() {
+        assertFalse(new NotPredicate(NAME_ALICE).test(alice));
+        assertTrue(new NotPredicate(NAME_ALICE).test(bob));
+    }
+
+    @Test
+    public void equals() {
+        AndPredicate and = new AndPredicate(List.of(NAME_ALICE, TAG_TA));
+        assertTrue(and.equals(and));
+        assertTrue(and.equals(new AndPredicate(List.of(new NameContainsKeywordsPredicate(List.of("alice")),
+                new TagContainsKeywordsPredicate(List.of("TA"))))));
+        assertFalse(and.equals(new AndPredicate(List.of(TAG_TA, NAME_ALICE))));
+        assertFalse(and.equals(new OrPredicate(List.of(NAME_ALICE, TAG_TA))));
+        assertFalse(and.equals(null));
+
+        NotPredicate not = new NotPredicate(NAME_ALICE);
+        assertTrue(not.equals(new NotPredicate(new NameContainsKeywordsPredicate(List.of("alice")))));
+        assertFalse(not.equals(new NotPredicate(TAG_TA)));
+        assertFalse(not.equals(NAME_ALICE));
+    }
+
+    @Test
+    public void toStringMethod() {
+        String expected = OrPredicate.class.getCanonicalName() + "{operands=" + List.of(NAME_ALICE, TAG_TA) + "}";
+        assertEquals(expected, new OrPredicate(List.of(NAME_ALICE, TAG_TA)).toString());
+    }
+}
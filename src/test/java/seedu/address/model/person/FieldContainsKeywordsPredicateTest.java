@@ -11,7 +11,9 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.ModTutGroupContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 import seedu.address.model.person.predicates.TelegramHandleContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
@@ -127,6 +129,48 @@ public class FieldContainsKeywordsPredicateTest {
                 .withModTuts("CS1234-A10").build()));
     }
 
+    @Test
+    public void test_modTutGroupContainsKeywords() {
+        Person person = new PersonBuilder().withModTuts("CS2103T-T10", "CS2101-G01").build();
+
+        // module
+        assertTrue(new ModTutGroupContainsKeywordsPredicate(Arrays.asList("cs2101")).test(person));
+
+        // module - tutorial group
+        assertTrue(new ModTutGroupContainsKeywordsPredicate(Arrays.asList("MA1521", "CS2103T-T10")).test(person));
+
+        // other tutorial group of module
+        assertFalse(new ModTutGroupContainsKeywordsPredicate(Arrays.asList("CS2103T-T11")).test(person));
+        assertFalse(new ModTutGroupContainsKeywordsPredicate(Arrays.asList("MA1521")).test(person));
+    }
+
+    @Test
+    public void test_tagContainsKeywords() {
+        Person person = new PersonBuilder().withTags("TA", "friends").build();
+        assertTrue(new TagContainsKeywordsPredicate(Arrays.asList("ta")).test(person));
+        assertTrue(new TagContainsKeywordsPredicate(Arrays.asList("colleague", "FRIEND")).test(person));
+        assertFalse(new TagContainsKeywordsPredicate(Arrays.asList("colleague")).test(person));
+        assertFalse(new TagContainsKeywordsPredicate(Arrays.asList("ta")).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void isNarrowerThan() {
+        NameContainsKeywordsPredicate alOrBe = new NameContainsKeywordsPredicate(Arrays.asList("al", "Be"));
+
+        // every keyword extends a keyword of the other predicate -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("ALICE")).isNarrowerThan(alOrBe));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("alice", "ben")).isNarrowerThan(alOrBe));
+        assertTrue(new NameContainsKeywordsPredicate(Arrays.asList("kal")).isNarrowerThan(alOrBe));
+        assertTrue(alOrBe.isNarrowerThan(alOrBe));
+
+        // a keyword extends no keyword of the other predicate -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(Arrays.asList("alice", "carl")).isNarrowerThan(alOrBe));
+        assertFalse(alOrBe.isNarrowerThan(new NameContainsKeywordsPredicate(Arrays.asList("alice"))));
+
+        // different field -> returns false
+        assertFalse(new EmailContainsKeywordsPredicate(Arrays.asList("alice")).isNarrowerThan(alOrBe));
+    }
+
     @Test
     public void toStringMethod() {
         List<String> keywords = List.of("keyword1", "keyword2");
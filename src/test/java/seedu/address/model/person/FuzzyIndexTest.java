@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyIndexTest {
+
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    private final FuzzyIndex fuzzyIndex = new FuzzyIndex(persons);
+
+    @Test
+    public void getMaxDistance_shortKeyword_smallerDistance() {
+        assertEquals(0, FuzzyIndex.getMaxDistance("A"));
+        assertEquals(1, FuzzyIndex.getMaxDistance("AL"));
+        assertEquals(1, FuzzyIndex.getMaxDistance("ALI"));
+        assertEquals(2, FuzzyIndex.getMaxDistance("ALIC"));
+        assertEquals(2, FuzzyIndex.getMaxDistance("ALICE PAULINE"));
+    }
+
+    @Test
+    public void getTokens() {
+        assertEquals(Set.of("ALICE", "PAULINE"), FuzzyIndex.getTokens(SearchField.NAME, "ALICE  PAULINE"));
+        assertEquals(Set.of("CARL_KURZ"), FuzzyIndex.getTokens(SearchField.TELEGRAM_HANDLE, "@CARL_KURZ"));
+        assertEquals(Set.of(), FuzzyIndex.getTokens(SearchField.TELEGRAM_HANDLE, "@"));
+    }
+
+    @Test
+    public void findPersons_invalidArguments_throwsException() {
+        assertThrows(NullPointerException.class, () -> fuzzyIndex.findPersons(null, List.of("ALICE"), 10));
+        assertThrows(NullPointerException.class, () -> fuzzyIndex.findPersons(SearchField.NAME, null, 10));
+        assertThrows(IllegalArgumentException.class, () -> fuzzyIndex.findPersons(SearchField.EMAIL,
+                List.of("ALICE"), 10));
+    }
+
+    @Test
+    public void findPersons_typos_returnsClosestFirst() {
+        // KURTZ is 1 away from KURZ
+        assertEquals(List.of(BENSON, DANIEL, CARL),
+                fuzzyIndex.findPersons(SearchField.NAME, List.of("KURTZ", "MEIER"), 10));
+        assertEquals(List.of(BENSON, DANIEL), fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIR"), 10));
+        assertEquals(List.of(ALICE), fuzzyIndex.findPersons(SearchField.NAME, List.of("ALCIE"), 10));
+        assertEquals(List.of(CARL), fuzzyIndex.findPersons(SearchField.TELEGRAM_HANDLE, List.of("@CARL_KRUZ"), 10));
+        assertEquals(List.of(), fuzzyIndex.findPersons(SearchField.NAME, List.of("XYZXYZ"), 10));
+    }
+
+    @Test
+    public void findPersons_limit_returnsClosestPersons() {
+        assertEquals(List.of(BENSON, DANIEL), fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIR"), 2));
+        assertEquals(List.of(), fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIR"), 0));
+    }
+
+    @Test
+    public void findPersons_afterMutations_keptInSync() {
+        fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIER"), 10);
+
+        Person hans = new PersonBuilder().withName("Hans Meier").withEmail("hans@example.com")
+                .withTele("@hans_meier").build();
+        persons.add(hans);
+        fuzzyIndex.add(hans);
+        persons.remove(BENSON);
+        fuzzyIndex.remove(BENSON);
+        Person editedDaniel = new PersonBuilder(DANIEL).withName("Daniel Mayer").build();
+        persons.set(persons.indexOf(DANIEL), editedDaniel);
+        fuzzyIndex.setPerson(DANIEL, editedDaniel);
+
+        assertEquals(List.of(hans, editedDaniel), fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIER"), 10));
+
+        fuzzyIndex.invalidate();
+        assertEquals(List.of(hans, editedDaniel), fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIER"), 10));
+    }
+
+    @Test
+    public void remove_manyPersons_rebuildsWithoutUnusedTokens() {
+        fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIER"), 10);
+        for (int i = 0; i < 2000; i++) {
+            Person person = new PersonBuilder().withName("Person Number" + i).withTele("@person_" + i).build();
+            fuzzyIndex.add(person);
+            fuzzyIndex.remove(person);
+        }
+        assertEquals(List.of(BENSON, DANIEL), fuzzyIndex.findPersons(SearchField.NAME, List.of("MEIER"), 10));
+    }
+}
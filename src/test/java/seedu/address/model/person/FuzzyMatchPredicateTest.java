@@ -0,0 +1,95 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.predicates.FuzzyMatchPredicate;
+import seedu.address.testutil.PersonBuilder;
+
+public class FuzzyMatchPredicateTest {
+
+    @Test
+    public void constructor_nonFuzzyField_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FuzzyMatchPredicate(List.of("alice"),
+                SearchField.EMAIL));
+    }
+
+    @Test
+    public void equals() {
+        FuzzyMatchPredicate firstPredicate = new FuzzyMatchPredicate(Collections.singletonList("first"),
+                SearchField.NAME);
+        FuzzyMatchPredicate secondPredicate = new FuzzyMatchPredicate(Arrays.asList("first", "second"),
+                SearchField.NAME);
+
+        // same object -> returns true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new FuzzyMatchPredicate(Collections.singletonList("first"),
+                SearchField.NAME)));
+
+        // different types -> returns false
+        assertFalse(firstPredicate.equals(1));
+
+        // null -> returns false
+        assertFalse(firstPredicate.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different field -> returns false
+        assertFalse(firstPredicate.equals(new FuzzyMatchPredicate(Collections.singletonList("first"),
+                SearchField.TELEGRAM_HANDLE)));
+    }
+
+    @Test
+    public void test_nameWithinDistance_returnsTrue() {
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(Arrays.asList("jonh", "Smiht"), SearchField.NAME);
+        assertEquals(2, predicate.getDistance(new PersonBuilder().withName("John Doe").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("John Doe").build()));
+
+        // closest keyword counts
+        assertEquals(1, new FuzzyMatchPredicate(Arrays.asList("jonh", "smit"), SearchField.NAME)
+                .getDistance(new PersonBuilder().withName("John Smith").build()));
+    }
+
+    @Test
+    public void test_nameTooFar_returnsFalse() {
+        // short keyword allows a single typo only
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(Collections.singletonList("joe"), SearchField.NAME);
+        assertEquals(FuzzyMatchPredicate.NO_MATCH, predicate.getDistance(new PersonBuilder().withName("John").build()));
+        assertFalse(predicate.test(new PersonBuilder().withName("John").build()));
+
+        // partial words do not match
+        assertFalse(new FuzzyMatchPredicate(Collections.singletonList("Alice"), SearchField.NAME)
+                .test(new PersonBuilder().withName("Alicexyz Pauline").build()));
+    }
+
+    @Test
+    public void test_telegramHandleWithinDistance_returnsTrue() {
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(Collections.singletonList("@alcie"),
+                SearchField.TELEGRAM_HANDLE);
+        assertTrue(predicate.test(new PersonBuilder().withTele("@alice").build()));
+        assertTrue(new FuzzyMatchPredicate(Collections.singletonList("alcie"), SearchField.TELEGRAM_HANDLE)
+                .test(new PersonBuilder().withTele("@alice").build()));
+        assertFalse(predicate.test(new PersonBuilder().withTele("@benson").build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<String> keywords = List.of("keyword1", "keyword2");
+        FuzzyMatchPredicate predicate = new FuzzyMatchPredicate(keywords, SearchField.NAME);
+
+        String expected = FuzzyMatchPredicate.class.getCanonicalName() + "{searchField=" + SearchField.NAME
+                + ", keywords=" + keywords + "}";
+        assertEquals(expected, predicate.toString());
+    }
+}
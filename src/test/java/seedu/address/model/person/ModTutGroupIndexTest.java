@@ -0,0 +1,166 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class ModTutGroupIndexTest {
+
+    // Every change is made to the person list before it is made to the index, as the index expects
+    private final UniquePersonList persons = new UniquePersonList();
+    private final ModTutGroupIndex modTutGroupIndex = new ModTutGroupIndex(persons::positionOf);
+
+    @Test
+    public void getPersons_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modTutGroupIndex.getPersons(null, "A10"));
+        assertThrows(NullPointerException.class, () -> modTutGroupIndex.getPersons("CS1234", null));
+    }
+
+    @Test
+    public void getPersons_unknownGroup_returnsEmptyList() {
+        add(ALICE);
+        assertTrue(modTutGroupIndex.getPersons("CS1234", "Z01").isEmpty());
+        assertTrue(modTutGroupIndex.getPersons("ES2666", "A10").isEmpty());
+    }
+
+    @Test
+    public void add_personsInDifferentGroups_keepsGroupsSeparate() {
+        setPersons(Arrays.asList(ALICE, ELLE, BENSON));
+        assertEquals(Arrays.asList(ALICE, BENSON), modTutGroupIndex.getPersons("CS1234", "A10"));
+        assertEquals(Collections.singletonList(ELLE), modTutGroupIndex.getPersons("ES2666", "Z01"));
+    }
+
+    @Test
+    public void add_personInSeveralGroups_addedToEachGroup() {
+        Person person = new PersonBuilder(ALICE).withModTuts("CS1234-A10", "ES2666-Z01").build();
+        add(person);
+        assertEquals(Collections.singletonList(person), modTutGroupIndex.getPersons("CS1234", "A10"));
+        assertEquals(Collections.singletonList(person), modTutGroupIndex.getPersons("ES2666", "Z01"));
+    }
+
+    @Test
+    public void add_withOrder_keepsGroupsInOrder() {
+        persons.setOrder(PersonOrder.BY_NAME);
+        add(CARL);
+        add(ALICE);
+        add(BENSON);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modTutGroupIndex.getPersons("CS1234", "A10"));
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Zelda Pauline").build();
+        setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, editedAlice), modTutGroupIndex.getPersons("CS1234", "A10"));
+    }
+
+    @Test
+    public void remove_lastPersonInGroup_removesGroup() {
+        setPersons(Arrays.asList(ALICE, ELLE));
+        remove(ELLE);
+        assertTrue(modTutGroupIndex.getPersons("ES2666", "Z01").isEmpty());
+        assertEquals(Collections.singletonList(ALICE), modTutGroupIndex.getPersons("CS1234", "A10"));
+    }
+
+    @Test
+    public void setPerson_sameGroup_keepsPosition() {
+        setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withEmail("benson@example.com").build();
+        setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), modTutGroupIndex.getPersons("CS1234", "A10"));
+    }
+
+    @Test
+    public void setPerson_differentGroup_movesPerson() {
+        setPersons(Arrays.asList(ALICE, BENSON, ELLE));
+        Person editedAlice = new PersonBuilder(ALICE).withModTuts("ES2666-Z01").build();
+        setPerson(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(BENSON), modTutGroupIndex.getPersons("CS1234", "A10"));
+        // Alice keeps her place in the person list, ahead of Elle
+        assertEquals(Arrays.asList(editedAlice, ELLE), modTutGroupIndex.getPersons("ES2666", "Z01"));
+    }
+
+    @Test
+    public void setPerson_pinnedPersonJoinsGroup_placedAfterEarlierPinnedPersons() {
+        Person pinnedAlice = new PersonBuilder(ALICE).withPin(true).build();
+        Person pinnedElle = new PersonBuilder(ELLE).withPin(true).build();
+        setPersons(Arrays.asList(pinnedAlice, pinnedElle, BENSON));
+        Person editedElle = new PersonBuilder(pinnedElle).withModTuts("CS1234-A10", "ES2666-Z01").build();
+        setPerson(pinnedElle, editedElle);
+        assertEquals(Arrays.asList(pinnedAlice, editedElle, BENSON), modTutGroupIndex.getPersons("CS1234", "A10"));
+    }
+
+    @Test
+    public void replaceAll_replacedAndRemovedPersons_updatesOnlyTheirGroups() {
+        setPersons(Arrays.asList(ALICE, BENSON, CARL, ELLE));
+        Person editedAlice = new PersonBuilder(ALICE).withModTuts("ES2666-Z01").build();
+        Map<Person, Person> changes = persons.replaceOrRemoveAll(person -> person.equals(ALICE) ? editedAlice
+                : person.equals(BENSON) ? null : person);
+        modTutGroupIndex.replaceAll(changes);
+
+        assertEquals(Collections.singletonList(CARL), modTutGroupIndex.getPersons("CS1234", "A10"));
+        assertEquals(Arrays.asList(editedAlice, ELLE), modTutGroupIndex.getPersons("ES2666", "Z01"));
+    }
+
+    @Test
+    public void pinAndUnpin_movesPersonWithinGroup() {
+        setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person pinnedCarl = new PersonBuilder(CARL).withPin(true).build();
+        persons.pin(CARL, pinnedCarl);
+        modTutGroupIndex.setPerson(CARL, pinnedCarl);
+        assertEquals(Arrays.asList(pinnedCarl, ALICE, BENSON), modTutGroupIndex.getPersons("CS1234", "A10"));
+
+        persons.unpin(pinnedCarl, CARL);
+        modTutGroupIndex.setPerson(pinnedCarl, CARL);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), modTutGroupIndex.getPersons("CS1234", "A10"));
+    }
+
+    @Test
+    public void getModuleNames_groupsRemoved_reflectsCurrentPersons() {
+        setPersons(Arrays.asList(ELLE, ALICE));
+        assertEquals(Arrays.asList("CS1234", "ES2666"), new ArrayList<>(modTutGroupIndex.getModuleNames()));
+        assertEquals(Collections.singleton("A10"), modTutGroupIndex.getTutorialNames("CS1234"));
+
+        remove(ALICE);
+        assertEquals(Collections.singleton("ES2666"), modTutGroupIndex.getModuleNames());
+        assertTrue(modTutGroupIndex.getTutorialNames("CS1234").isEmpty());
+    }
+
+    @Test
+    public void getPersons_modifyList_throwsUnsupportedOperationException() {
+        add(ALICE);
+        assertThrows(UnsupportedOperationException.class, () ->
+                modTutGroupIndex.getPersons("CS1234", "A10").remove(0));
+    }
+
+    private void setPersons(List<Person> newPersons) {
+        persons.setPersons(newPersons);
+        modTutGroupIndex.setPersons(persons.asUnmodifiableObservableList());
+    }
+
+    private void add(Person person) {
+        persons.add(person);
+        modTutGroupIndex.add(person);
+    }
+
+    private void remove(Person person) {
+        persons.remove(person);
+        modTutGroupIndex.remove(person);
+    }
+
+    private void setPerson(Person target, Person editedPerson) {
+        persons.setPerson(target, editedPerson);
+        modTutGroupIndex.setPerson(target, editedPerson);
+    }
+}
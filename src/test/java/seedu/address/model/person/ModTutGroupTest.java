@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -19,6 +21,24 @@ public class ModTutGroupTest {
         assertThrows(IllegalArgumentException.class, () -> new ModTutGroup(invalidModTutGroup));
     }
 
+    @Test
+    public void of_invalidModTutGroup_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> ModTutGroup.of(null));
+        assertThrows(IllegalArgumentException.class, () -> ModTutGroup.of("CS1234--A10"));
+    }
+
+    @Test
+    public void of_sameValue_returnsSameInstance() {
+        ModTutGroup modTutGroup = ModTutGroup.of("CS1234-A10");
+        assertSame(modTutGroup, ModTutGroup.of(new String("CS1234-A10")));
+        assertSame(modTutGroup.getModule(), ModTutGroup.of("CS1234-A11").getModule());
+        assertSame(modTutGroup.getTutorial(), ModTutGroup.of("CS5678-A10").getTutorial());
+
+        // different case -> equal but different instances
+        assertTrue(modTutGroup.equals(ModTutGroup.of("cs1234-a10")));
+        assertNotSame(modTutGroup, ModTutGroup.of("cs1234-a10"));
+    }
+
     @Test
     public void isValidModTutGroup() {
         // null modTutGroup
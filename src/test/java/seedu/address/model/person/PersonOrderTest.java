@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrderTest {
+
+    @Test
+    public void constructor_invalidSortKeys_throwsIllegalArgumentException() {
+        assertThrows(NullPointerException.class, () -> new PersonOrder(null));
+        assertThrows(IllegalArgumentException.class, PersonOrder.MESSAGE_CONSTRAINTS, () -> new PersonOrder(List.of()));
+        assertThrows(IllegalArgumentException.class, PersonOrder.MESSAGE_CONSTRAINTS, ()
+                -> new PersonOrder(List.of(SortKey.TAG, SortKey.TAG)));
+    }
+
+    @Test
+    public void compare_collatedIgnoringCase() {
+        Person lowerCase = new PersonBuilder().withName("alice Tan").build();
+        Person upperCase = new PersonBuilder().withName("Bob Tan").build();
+        Person digits = new PersonBuilder().withName("123 Tan").build();
+
+        assertTrue(PersonOrder.BY_NAME.compare(lowerCase, upperCase) < 0);
+        assertTrue(PersonOrder.BY_NAME.compare(digits, lowerCase) < 0);
+        assertEquals(0, PersonOrder.BY_NAME.compare(lowerCase, new PersonBuilder(lowerCase).build()));
+    }
+
+    @Test
+    public void compare_laterKeysBreakTies() {
+        PersonOrder order = new PersonOrder(List.of(SortKey.MODULE, SortKey.NAME));
+        Person amyInCs = new PersonBuilder().withName("Amy").withModTuts("CS2103T-T01").build();
+        Person bobInCs = new PersonBuilder().withName("Bob").withModTuts("CS2103T-T01", "MA1521-T02").build();
+        Person amyInMa = new PersonBuilder().withName("Amy").withModTuts("MA1521-T02").build();
+
+        assertTrue(order.compare(amyInCs, bobInCs) < 0);
+        assertTrue(order.compare(bobInCs, amyInMa) < 0);
+    }
+
+    @Test
+    public void compare_missingValue_comesLast() {
+        PersonOrder order = new PersonOrder(List.of(SortKey.TAG));
+        Person tagged = new PersonBuilder().withTags("zzz").build();
+        Person untagged = new PersonBuilder().withTags().build();
+
+        assertNull(SortKey.TAG.getValue(untagged));
+        assertTrue(order.compare(tagged, untagged) < 0);
+        assertEquals(0, order.getKey(untagged).compareTo(order.getKey(untagged)));
+    }
+
+    @Test
+    public void sortKeyFromKeyword() {
+        assertEquals(Optional.of(SortKey.MODULE), SortKey.fromKeyword("MOD"));
+        assertEquals(Optional.of(SortKey.TELEGRAM_HANDLE), SortKey.fromKeyword("handle"));
+        assertEquals(Optional.empty(), SortKey.fromKeyword("phone"));
+    }
+
+    @Test
+    public void equals() {
+        PersonOrder order = new PersonOrder(List.of(SortKey.EMAIL, SortKey.NAME));
+
+        assertTrue(order.equals(order));
+        assertTrue(order.equals(new PersonOrder(List.of(SortKey.EMAIL, SortKey.NAME))));
+
+        assertFalse(order.equals(null));
+        assertFalse(order.equals(5));
+        assertFalse(order.equals(new PersonOrder(List.of(SortKey.NAME, SortKey.EMAIL))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        PersonOrder order = new PersonOrder(List.of(SortKey.MODULE, SortKey.NAME));
+        assertEquals(PersonOrder.class.getCanonicalName() + "{sortKeys=mod name}", order.toString());
+    }
+}
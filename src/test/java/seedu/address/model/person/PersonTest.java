@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MODTUT_BOB;
@@ -11,6 +12,8 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -23,6 +26,21 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getModTutGroups().remove(0));
     }
 
+    @Test
+    public void withUpdatedModTutGroups_equalGroup_usesSharedInstance() {
+        Person person = ALICE.withUpdatedModTutGroups(Set.of(new ModTutGroup("CS9999-T99")));
+        assertSame(ModTutGroup.of("CS9999-T99"), person.getModTutGroups().iterator().next());
+    }
+
+    @Test
+    public void getSearchKeys_upperCasedFields() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withTele("@alice_P")
+                .withEmail("Alice@example.com").build();
+        assertEquals("ALICE PAULINE", person.getNameSearchKey());
+        assertEquals("@ALICE_P", person.getTelegramHandleSearchKey());
+        assertEquals("ALICE@EXAMPLE.COM", person.getEmailSearchKey());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
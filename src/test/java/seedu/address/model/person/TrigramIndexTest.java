@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TrigramIndexTest {
+
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    private final TrigramIndex trigramIndex = new TrigramIndex(persons);
+
+    @Test
+    public void findPersons_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> trigramIndex.findPersons(null, List.of("ALI")));
+        assertThrows(NullPointerException.class, () -> trigramIndex.findPersons(SearchField.NAME, null));
+    }
+
+    @Test
+    public void findPersons_shortKeyword_returnsEmptyOptional() {
+        assertFalse(trigramIndex.findPersons(SearchField.NAME, List.of("ALICE", "AL")).isPresent());
+    }
+
+    @Test
+    public void findPersons_substringKeywords_returnsMatchingPersons() {
+        assertEquals(Set.of(BENSON, DANIEL), find(SearchField.NAME, "MEIER"));
+        assertEquals(Set.of(ALICE, CARL), find(SearchField.NAME, "PAUL", "KURZ"));
+        assertEquals(Set.of(CARL), find(SearchField.TELEGRAM_HANDLE, "L_K"));
+        assertEquals(Set.of(ALICE, BENSON, CARL, DANIEL), find(SearchField.EMAIL, "@EXAMPLE.COM"));
+        assertEquals(Collections.emptySet(), find(SearchField.NAME, "ALICEX"));
+    }
+
+    @Test
+    public void countCandidates_keywords_atLeastMatchCount() {
+        assertFalse(trigramIndex.countCandidates(SearchField.NAME, List.of("ALICE", "AL")).isPresent());
+        assertEquals(2, trigramIndex.countCandidates(SearchField.NAME, List.of("MEIER")).getAsInt());
+        assertEquals(3, trigramIndex.countCandidates(SearchField.NAME, List.of("MEIER", "PAUL")).getAsInt());
+        assertEquals(0, trigramIndex.countCandidates(SearchField.NAME, List.of("XYZ")).getAsInt());
+    }
+
+    @Test
+    public void findPersons_keywordTrigramsNotContiguous_notMatched() {
+        Person person = new PersonBuilder().withName("Abcx Bcd").build();
+        persons.add(person);
+        assertEquals(Collections.emptySet(), find(SearchField.NAME, "ABCD"));
+        assertEquals(Set.of(person), find(SearchField.NAME, "ABC"));
+    }
+
+    @Test
+    public void add_afterSearch_personFound() {
+        find(SearchField.NAME, "MEIER");
+        Person person = new PersonBuilder().withName("Hans Meier").withEmail("hans@example.com")
+                .withTele("@hans_meier").build();
+        persons.add(person);
+        trigramIndex.add(person);
+        assertEquals(Set.of(BENSON, DANIEL, person), find(SearchField.NAME, "MEIER"));
+    }
+
+    @Test
+    public void remove_afterSearch_personNotFound() {
+        find(SearchField.NAME, "MEIER");
+        persons.remove(BENSON);
+        trigramIndex.remove(BENSON);
+        assertEquals(Set.of(DANIEL), find(SearchField.NAME, "MEIER"));
+        assertEquals(Collections.emptySet(), find(SearchField.EMAIL, "JOHND"));
+    }
+
+    @Test
+    public void setPerson_afterSearch_editedPersonFound() {
+        find(SearchField.NAME, "MEIER");
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        persons.set(persons.indexOf(BENSON), editedBenson);
+        trigramIndex.setPerson(BENSON, editedBenson);
+        assertEquals(Set.of(DANIEL), find(SearchField.NAME, "MEIER"));
+        assertEquals(Set.of(editedBenson), find(SearchField.NAME, "MAYER"));
+    }
+
+    @Test
+    public void invalidate_personsReplaced_rebuiltFromSource() {
+        find(SearchField.NAME, "MEIER");
+        persons.clear();
+        persons.add(ALICE);
+        trigramIndex.invalidate();
+        assertEquals(Collections.emptySet(), find(SearchField.NAME, "MEIER"));
+        assertEquals(Set.of(ALICE), find(SearchField.NAME, "ALICE"));
+    }
+
+    private Set<Person> find(SearchField searchField, String... searchKeywords) {
+        return trigramIndex.findPersons(searchField, Arrays.asList(searchKeywords)).get();
+    }
+}
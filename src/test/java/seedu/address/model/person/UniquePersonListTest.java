@@ -2,12 +2,18 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_MODTUT_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TELE_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.PINNED_ALICE;
 import static seedu.address.testutil.TypicalPersons.PINNED_BOB;
 
@@ -15,10 +21,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.logic.commands.SortCommand;
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.exceptions.ConflictingPersonsException;
+import seedu.address.model.person.exceptions.ConflictingPersonsException.Conflict;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonMustBeSameException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -52,6 +62,36 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_replacedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void containsExcluding_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.containsExcluding(null, ALICE));
+        assertThrows(NullPointerException.class, () -> uniquePersonList.containsExcluding(ALICE, null));
+    }
+
+    @Test
+    public void containsExcluding_onlyExcludedPersonMatches_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTele(VALID_TELE_BOB).build();
+        assertFalse(uniquePersonList.containsExcluding(ALICE, ALICE));
+        assertTrue(uniquePersonList.containsExcluding(editedAlice, ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -113,6 +153,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesFieldWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withTele(VALID_TELE_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -131,6 +179,16 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_equalPersonInLaterPosition_removesPerson() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        uniquePersonList.remove(BENSON);
+        uniquePersonList.remove(new PersonBuilder(DANIEL).build());
+        uniquePersonList.setPerson(new PersonBuilder(CARL).build(), BOB);
+        assertEquals(Arrays.asList(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.remove(CARL));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -167,21 +225,133 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void sort_nullComparator_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniquePersonList.sort(null));
+    public void setPersons_listWithDuplicatePersons_reportsAllConflicts() {
+        Person editedAlice = new PersonBuilder(ALICE).withTele(VALID_TELE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        List<Conflict> expectedConflicts = Arrays.asList(new Conflict(ALICE, editedAlice),
+                new Conflict(BOB, editedAlice));
+        try {
+            uniquePersonList.setPersons(listWithDuplicatePersons);
+            fail();
+        } catch (ConflictingPersonsException e) {
+            assertEquals(expectedConflicts, e.getConflicts());
+        }
     }
 
     @Test
-    public void sort_sortsList() {
+    public void setOrder_sortsList() {
         uniquePersonList.add(BOB);
         uniquePersonList.add(ALICE);
-        uniquePersonList.sort(SortCommand.COMPARATOR);
+        uniquePersonList.setOrder(PersonOrder.BY_NAME);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(ALICE);
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setOrder_sortsListAndKeepsItSorted() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, PINNED_BOB, ALICE));
+        uniquePersonList.setOrder(PersonOrder.BY_NAME);
+        assertEquals(Arrays.asList(PINNED_BOB, ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        // added persons are placed in order, pinned persons at the end of the pinned persons
+        Person pinnedDaniel = new PersonBuilder(DANIEL).withPin(true).build();
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(pinnedDaniel);
+        assertEquals(Arrays.asList(PINNED_BOB, pinnedDaniel, ALICE, BENSON, CARL),
+                uniquePersonList.asUnmodifiableObservableList());
+
+        // edited persons are moved to their place in the order
+        Person editedAlice = new PersonBuilder(ALICE).withName("Daisy Pauline").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(PINNED_BOB, pinnedDaniel, BENSON, CARL, editedAlice),
+                uniquePersonList.asUnmodifiableObservableList());
+
+        // unpinned persons are moved to their place in the order
+        uniquePersonList.unpin(PINNED_BOB, BOB);
+        assertEquals(Arrays.asList(pinnedDaniel, BENSON, BOB, CARL, editedAlice),
+                uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.of(PersonOrder.BY_NAME), uniquePersonList.getOrder());
+    }
+
+    @Test
+    public void setOrder_pinnedPersons_sortsOnlyUnpinnedPersons() {
+        Person pinnedCarl = new PersonBuilder(CARL).withPin(true).build();
+        uniquePersonList.setPersons(Arrays.asList(pinnedCarl, PINNED_BOB, DANIEL, ALICE));
+        uniquePersonList.setOrder(PersonOrder.BY_NAME);
+        assertEquals(Arrays.asList(pinnedCarl, PINNED_BOB, ALICE, DANIEL),
+                uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void add_pinnedPerson_addedAfterPinnedPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(PINNED_BOB);
+        Person pinnedCarl = new PersonBuilder(CARL).withPin(true).build();
+        uniquePersonList.add(pinnedCarl);
+        assertEquals(Arrays.asList(PINNED_BOB, pinnedCarl, ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPersons_listWithPinnedPersons_movesPinnedPersonsToTop() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, PINNED_BOB, CARL));
+        assertEquals(Arrays.asList(PINNED_BOB, ALICE, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        // pinned persons removed from the list are no longer counted
+        uniquePersonList.replaceOrRemoveAll(person -> person.getPin() ? null : person);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void pinAndSort_notifyObserversOnce() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, BENSON, ALICE, BOB));
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+
+        uniquePersonList.pin(BOB, PINNED_BOB);
+        uniquePersonList.setOrder(PersonOrder.BY_NAME);
+        uniquePersonList.unpin(PINNED_BOB, BOB);
+        assertEquals(3, changeCount[0]);
+        assertEquals(Arrays.asList(ALICE, BENSON, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+
+        // sorting a list that is already sorted changes nothing
+        uniquePersonList.setOrder(PersonOrder.BY_NAME);
+        assertEquals(3, changeCount[0]);
+    }
+
+    @Test
+    public void pinAndUnpin_severalPersons_keepsSegmentsAndPositions() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+        Person pinnedCarl = new PersonBuilder(CARL).withPin(true).build();
+        uniquePersonList.pin(CARL, pinnedCarl);
+        uniquePersonList.pin(ALICE, PINNED_ALICE);
+        assertEquals(Arrays.asList(PINNED_ALICE, pinnedCarl, BENSON, DANIEL),
+                uniquePersonList.asUnmodifiableObservableList());
+
+        // the newest pinned person is on top, and an unpinned person goes to the bottom
+        uniquePersonList.unpin(pinnedCarl, CARL);
+        uniquePersonList.add(BOB);
+        List<Person> expected = Arrays.asList(PINNED_ALICE, BENSON, DANIEL, CARL, BOB);
+        assertEquals(expected, uniquePersonList.asUnmodifiableObservableList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(i, uniquePersonList.positionOf(expected.get(i)));
+        }
+        assertEquals(-1, uniquePersonList.positionOf(pinnedCarl));
+    }
+
+    @Test
+    public void setOrder_null_keepsPositionsAndAddsToEnd() {
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE));
+        uniquePersonList.setOrder(PersonOrder.BY_NAME);
+        uniquePersonList.setOrder(null);
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(Optional.empty(), uniquePersonList.getOrder());
+    }
+
     @Test
     public void pin_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.pin(null, null));
@@ -221,6 +391,14 @@ public class UniquePersonListTest {
         assertThrows(WrongPinStatusException.class, () -> uniquePersonList.pin(PINNED_ALICE, PINNED_ALICE));
     }
 
+    @Test
+    public void pin_samePersonWithDifferentPinStatus_keepsIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.pin(ALICE, PINNED_ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.containsExcluding(ALICE, PINNED_ALICE));
+    }
+
     @Test
     public void unpin_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.unpin(null, null));
@@ -260,6 +438,76 @@ public class UniquePersonListTest {
         assertThrows(WrongPinStatusException.class, () -> uniquePersonList.unpin(ALICE, ALICE));
     }
 
+    @Test
+    public void replaceOrRemoveAll_nullMapper_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.replaceOrRemoveAll(null));
+    }
+
+    @Test
+    public void replaceOrRemoveAll_replacedAndRemovedPersons_keepsOrderAndReturnsChanges() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(CARL);
+        Person editedCarl = new PersonBuilder(CARL).withModTuts(VALID_MODTUT_BOB).build();
+        Map<Person, Person> changes = uniquePersonList.replaceOrRemoveAll(person ->
+                person.equals(ALICE) ? null : person.equals(CARL) ? editedCarl : person);
+
+        assertEquals(Arrays.asList(BOB, editedCarl), uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(2, changes.size());
+        assertNull(changes.get(ALICE));
+        assertSame(editedCarl, changes.get(CARL));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(editedCarl));
+    }
+
+    @Test
+    public void replaceOrRemoveAll_noChanges_returnsEmptyMap() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.replaceOrRemoveAll(person -> person).isEmpty());
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void replaceOrRemoveAll_changes_notifyObserversOnce() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        int[] changeCount = {0};
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changeCount[0]++);
+        uniquePersonList.replaceOrRemoveAll(person -> person.equals(ALICE)
+                ? null : new PersonBuilder(person).withModTuts(VALID_MODTUT_BOB).build());
+        assertEquals(1, changeCount[0]);
+    }
+
+    @Test
+    public void replaceOrRemoveAll_withOrder_keepsReplacementsInOrder() {
+        uniquePersonList.setOrder(PersonOrder.BY_NAME);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Zelda Pauline").build();
+        uniquePersonList.replaceOrRemoveAll(person -> person.equals(ALICE) ? renamedAlice : person);
+        assertEquals(Arrays.asList(BOB, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+
+        uniquePersonList.add(CARL);
+        assertEquals(Arrays.asList(BOB, CARL, renamedAlice), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replaceOrRemoveAll_duplicatePersons_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person aliceWithBobTelegram = new PersonBuilder(ALICE).withTele(VALID_TELE_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.replaceOrRemoveAll(person ->
+                person.equals(ALICE) ? aliceWithBobTelegram : person));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.containsExcluding(aliceWithBobTelegram, ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
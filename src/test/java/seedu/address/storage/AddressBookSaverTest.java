@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookStorageStub storage = new AddressBookStorageStub();
+    private final Queue<Runnable> queuedWrites = new ArrayDeque<>();
+
+    @Test
+    public void save_nullAddressBook_throwsNullPointerException() {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        assertThrows(NullPointerException.class, () -> saver.save(null));
+    }
+
+    @Test
+    public void save_unchangedAddressBook_savedOnce() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.save(addressBook);
+        saver.save(addressBook);
+        assertEquals(1, storage.savedAddressBooks.size());
+
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook);
+        assertEquals(2, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, AddressBookSaver.MESSAGE_INVALID_SAVE_INTERVAL, ()
+            -> new AddressBookSaver(storage, Runnable::run, -1));
+    }
+
+    @Test
+    public void save_saveInterval_savesEveryNthRequestAndOnFlush() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run, 2);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        assertEquals(0, storage.savedAddressBooks.size());
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook);
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(addressBook, storage.savedAddressBooks.get(0));
+
+        addressBook.removePerson(ALICE);
+        saver.save(addressBook);
+        saver.flush();
+        assertEquals(2, storage.savedAddressBooks.size());
+        assertEquals(addressBook, storage.savedAddressBooks.get(1));
+
+        // Nothing is left to save
+        saver.flush();
+        assertEquals(2, storage.savedAddressBooks.size());
+    }
+
+    @Test
+    public void save_zeroSaveInterval_savesOnlyOnFlush() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run, 0);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook);
+        assertEquals(0, storage.savedAddressBooks.size());
+
+        saver.flush();
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(addressBook, storage.savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void save_changesWhileWritePending_coalescedIntoOneWrite() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedWrites::add);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook);
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook);
+        assertEquals(1, queuedWrites.size());
+
+        queuedWrites.remove().run();
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(addressBook, storage.savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void save_addressBookModifiedAfterSave_writesDataAtTimeOfSave() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedWrites::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+
+        saver.save(addressBook);
+        addressBook.removePerson(ALICE);
+        queuedWrites.remove().run();
+        assertEquals(expectedAddressBook, storage.savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void save_earlierWriteFailed_throwsIoExceptionOnceAndRetries() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        storage.failure = failure;
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedWrites::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.save(addressBook);
+        queuedWrites.remove().run();
+
+        storage.failure = null;
+        assertThrows(IOException.class, failure.getMessage(), () -> saver.save(addressBook));
+        saver.save(addressBook);
+        queuedWrites.remove().run();
+        assertEquals(1, storage.savedAddressBooks.size());
+        assertEquals(addressBook, storage.savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void save_failureListenerSet_reportsFailureWithCauseAsItHappens() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        storage.failure = failure;
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedWrites::add);
+        List<String> reportedCauses = new ArrayList<>();
+        saver.setFailureListener((cause, reportedFailure) -> {
+            assertEquals(failure, reportedFailure);
+            reportedCauses.add(cause);
+        });
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+
+        saver.save(addressBook, "add Alice");
+        queuedWrites.remove().run();
+        assertEquals(List.of("add Alice"), reportedCauses);
+
+        // The failure is not reported again, and the unchanged data is written again
+        storage.failure = null;
+        saver.save(addressBook, "list");
+        queuedWrites.remove().run();
+        assertEquals(List.of("add Alice"), reportedCauses);
+        assertEquals(addressBook, storage.savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void flush_backgroundThread_writesLatestData() throws Exception {
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        AddressBookSaver saver = new AddressBookSaver(jsonStorage);
+        AddressBook addressBook = getSortedTypicalAddressBook();
+
+        saver.save(addressBook);
+        addressBook.removePerson(ALICE);
+        saver.save(addressBook);
+        saver.flush();
+
+        assertEquals(addressBook, new AddressBook(jsonStorage.readAddressBook().get()));
+    }
+
+    /**
+     * An AddressBookStorage that records the data of the address books it is asked to save.
+     */
+    private static class AddressBookStorageStub implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        private IOException failure;
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (failure != null) {
+                throw failure;
+            }
+            savedAddressBooks.add(new AddressBook(addressBook));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getPinnedTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SortKey;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertThrows(NullPointerException.class, () -> storage.readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getPinnedTypicalAddressBook();
+
+        // Save in new file and read back
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original, filePath);
+        assertEquals(original, new AddressBook(storage.readAddressBook(filePath).get()));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_emptyAddressBook_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_personOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressBook.bin"));
+        AddressBook original = getPinnedTypicalAddressBook();
+        original.setPersonOrder(new PersonOrder(List.of(SortKey.TAG, SortKey.NAME)));
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonOrder(), readBack.getPersonOrder());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getSortedTypicalAddressBook());
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 1;
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        Files.write(filePath, new byte[] {1, 2, 3});
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void decode_unsupportedVersion_throwsIllegalValueException() {
+        ByteBuffer content = ByteBuffer.allocate(Integer.BYTES + Short.BYTES);
+        content.putInt(BinaryAddressBookStorage.MAGIC).putShort((short) (BinaryAddressBookStorage.FORMAT_VERSION + 1));
+
+        assertThrows(IllegalValueException.class,
+                String.format(BinaryAddressBookStorage.MESSAGE_UNSUPPORTED_VERSION,
+                        BinaryAddressBookStorage.FORMAT_VERSION + 1), ()
+                -> BinaryAddressBookStorage.decode(withChecksum(content.array())));
+    }
+
+    @Test
+    public void decode_invalidName_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.bin");
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        byte[] content = new byte[bytes.length - Long.BYTES];
+        System.arraycopy(bytes, 0, content, 0, content.length);
+        int namePosition = new String(content, StandardCharsets.ISO_8859_1).indexOf(ALICE.getName().fullName);
+        content[namePosition] = '!';
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, ()
+                -> BinaryAddressBookStorage.decode(withChecksum(content)));
+    }
+
+    private static ByteBuffer withChecksum(byte[] content) {
+        CRC32 checksum = new CRC32();
+        checksum.update(content);
+        ByteBuffer buffer = ByteBuffer.allocate(content.length + Long.BYTES);
+        buffer.put(content).putLong(checksum.getValue()).flip();
+        return buffer;
+    }
+}
@@ -0,0 +1,264 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.PINNED_CARL;
+import static seedu.address.testutil.TypicalPersons.getUnsortedTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nonPositiveThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new JournalAddressBookStorage(testFolder.resolve("addressBook.json"), 0));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String snapshot = Files.readString(filePath);
+
+        // add, edit, delete, pin and sort
+        original.addPerson(HOON);
+        original.setPerson(BENSON, new PersonBuilder(BENSON).withTele("@benson_edited").build());
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        original.pin(CARL, PINNED_CARL);
+        storage.saveAddressBook(original);
+        original.setPersonOrder(PersonOrder.BY_NAME);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        assertEquals(4, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(original, readWithNewStorage(filePath));
+
+        // clear
+        original.setPersons(List.of());
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_personOrderChanged_appendedToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.setPersonOrder(PersonOrder.BY_NAME);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        AddressBook readBack = readWithNewStorage(filePath);
+        assertEquals(original, readBack);
+        assertEquals(Optional.of(PersonOrder.BY_NAME), readBack.getPersonOrder());
+
+        // no longer kept in order
+        original.setPersonOrder(null);
+        storage.saveAddressBook(original);
+        assertEquals(3, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(Optional.empty(), readWithNewStorage(filePath).getPersonOrder());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_writesSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getUnsortedTypicalAddressBook());
+
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(1, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(readBack, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+
+        // later changes are appended to the journal
+        readBack.addPerson(IDA);
+        storage.saveAddressBook(readBack);
+        assertEquals(2, Files.readAllLines(JournalAddressBookStorage.getJournalFilePath(filePath)).size());
+        assertEquals(readBack, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compacted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1, Runnable::run);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_savedWhileCompacting_changesKeptInNewJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        List<Runnable> compactions = new ArrayList<>();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 1, compactions::add);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook compacted = new AddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(1, compactions.size());
+        assertEquals(3, Files.readAllLines(journalFilePath).size());
+
+        compactions.get(0).run();
+        assertEquals(compacted, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(original, readWithNewStorage(filePath));
+
+        // saves continue on the new journal
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedBeforeJournalInstalled_nextJournalInstalled() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path journalFilePath = JournalAddressBookStorage.getJournalFilePath(filePath);
+        Path nextJournalFilePath = JournalAddressBookStorage.getNextJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // the snapshot is installed, but the journal of the snapshot before it is still in place
+        Files.move(journalFilePath, nextJournalFilePath);
+        Files.writeString(journalFilePath, "[{\"op\":\"snapshot\",\"checksum\":0}]\n");
+
+        assertEquals(original, readWithNewStorage(filePath));
+        assertFalse(Files.exists(nextJournalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_compactionInterruptedBeforeSnapshotInstalled_nextJournalDeleted() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        Path nextJournalFilePath = JournalAddressBookStorage.getNextJournalFilePath(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(nextJournalFilePath, "[{\"op\":\"snapshot\",\"checksum\":0}]\n");
+
+        assertEquals(original, readWithNewStorage(filePath));
+        assertFalse(Files.exists(nextJournalFilePath));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedAfterJournal_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // e.g. the data file was replaced by hand
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        JournalAddressBookStorage newStorage = new JournalAddressBookStorage(filePath);
+        assertEquals(replacement, newStorage.readAddressBook().get());
+
+        // the stale journal is replaced on the next save
+        replacement.addPerson(HOON);
+        newStorage.saveAddressBook(replacement);
+        assertEquals(replacement, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastLine_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook original = getUnsortedTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+        appendToJournal(filePath, "[{\"op\":\"replace\",\"ind");
+
+        JournalAddressBookStorage newStorage = new JournalAddressBookStorage(filePath);
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        assertEquals(expected, readBack);
+
+        readBack.addPerson(IDA);
+        newStorage.saveAddressBook(readBack);
+        assertEquals(readBack, readWithNewStorage(filePath));
+    }
+
+    @Test
+    public void readAddressBook_invalidRecord_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        new JournalAddressBookStorage(filePath).saveAddressBook(getUnsortedTypicalAddressBook());
+        appendToJournal(filePath, "[{\"op\":\"replace\",\"index\":100,\"count\":1,\"persons\":[]}]\n");
+
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    private AddressBook readWithNewStorage(Path filePath) throws DataLoadingException {
+        return new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private void appendToJournal(Path filePath, String content) throws IOException {
+        Files.writeString(JournalAddressBookStorage.getJournalFilePath(filePath), content, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+    }
+}
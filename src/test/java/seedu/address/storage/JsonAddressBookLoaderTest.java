@@ -0,0 +1,99 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookLoaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void load_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> JsonAddressBookLoader.load(null));
+    }
+
+    @Test
+    public void load_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookLoader.load(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getSortedTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void load_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookLoader.load(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void load_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookLoader.load(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void load_unknownFields_ignored() throws Exception {
+        Path filePath = testFolder.resolve("unknownFields.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : 2, \"other\" : { \"persons\" : [ 1 ] }, \"persons\" : [ {"
+                + " \"name\" : \"Alice Pauline\", \"telegramHandle\" : \"@alice\", \"email\" : \"alice@example.com\","
+                + " \"modTutGroups\" : [ \"CS1234-A10\" ], \"tags\" : [ \"friends\" ], \"nickname\" : \"Al\" } ] }");
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(TypicalPersons.ALICE);
+        assertEquals(expectedAddressBook, JsonAddressBookLoader.load(filePath));
+    }
+
+    @Test
+    public void load_sortKeys_sortsPersons() throws Exception {
+        Path filePath = testFolder.resolve("sortKeys.json");
+        FileUtil.writeToFile(filePath, "{ \"sortKeys\" : [ \"NAME\" ], \"persons\" : [ {"
+                + " \"name\" : \"Benson Meier\", \"telegramHandle\" : \"@benson\", \"email\" : \"johnd@example.com\","
+                + " \"modTutGroups\" : [ \"CS1234-A10\" ], \"tags\" : [ \"owesMoney\", \"friends\" ] }, {"
+                + " \"name\" : \"Alice Pauline\", \"telegramHandle\" : \"@alice\", \"email\" : \"alice@example.com\","
+                + " \"modTutGroups\" : [ \"CS1234-A10\" ], \"tags\" : [ \"friends\" ] } ] }");
+
+        AddressBook expectedAddressBook = new AddressBook();
+        expectedAddressBook.addPerson(TypicalPersons.ALICE);
+        expectedAddressBook.addPerson(TypicalPersons.BENSON);
+        expectedAddressBook.setPersonOrder(PersonOrder.BY_NAME);
+        assertEquals(expectedAddressBook, JsonAddressBookLoader.load(filePath));
+    }
+
+    @Test
+    public void load_invalidSortKeys_throwsIllegalValueException() throws Exception {
+        Path filePath = testFolder.resolve("invalidSortKeys.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ ], \"sortKeys\" : [ \"NAME\", \"PHONE\" ] }");
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookLoader.load(filePath));
+    }
+
+    @Test
+    public void load_notJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        FileUtil.writeToFile(filePath, "[ ]");
+        assertThrows(IOException.class, () -> JsonAddressBookLoader.load(filePath));
+    }
+
+    @Test
+    public void load_personNotJsonObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("personNotObject.json");
+        FileUtil.writeToFile(filePath, "{ \"persons\" : [ \"Alice\" ] }");
+        assertThrows(IOException.class, () -> JsonAddressBookLoader.load(filePath));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,16 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getSortedTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -86,6 +90,78 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_existingFile_rotatesBackups() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, 2);
+        AddressBook first = new AddressBook();
+        first.addPerson(ALICE);
+        AddressBook second = new AddressBook(first);
+        second.addPerson(HOON);
+        AddressBook third = new AddressBook(second);
+        third.addPerson(IDA);
+
+        jsonAddressBookStorage.saveAddressBook(first);
+        assertFalse(FileUtil.isFileExists(JsonAddressBookStorage.getBackupFilePath(filePath, 1)));
+
+        jsonAddressBookStorage.saveAddressBook(second);
+        jsonAddressBookStorage.saveAddressBook(third);
+        assertEquals(third, readAddressBookFile(jsonAddressBookStorage, filePath));
+        assertEquals(second, readAddressBookFile(jsonAddressBookStorage,
+                JsonAddressBookStorage.getBackupFilePath(filePath, 1)));
+        assertEquals(first, readAddressBookFile(jsonAddressBookStorage,
+                JsonAddressBookStorage.getBackupFilePath(filePath, 2)));
+        assertFalse(FileUtil.isFileExists(JsonAddressBookStorage.getBackupFilePath(filePath, 3)));
+
+        // no temporary files are left behind
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_readsLatestBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getSortedTypicalAddressBook();
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+        FileUtil.writeToFile(filePath, "not json");
+
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithBackup_readsLatestBackup() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getSortedTypicalAddressBook();
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        jsonAddressBookStorage.saveAddressBook(new AddressBook());
+        // a crash after the data file was moved into the backups, before the new one was written
+        Files.move(JsonAddressBookStorage.getBackupFilePath(filePath, 1),
+                JsonAddressBookStorage.getBackupFilePath(filePath, 2));
+        Files.move(filePath, JsonAddressBookStorage.getBackupFilePath(filePath, 1));
+
+        assertEquals(new AddressBook(), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedFileAndBackups_throwDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        FileUtil.writeToFile(filePath, "not json");
+        FileUtil.writeToFile(JsonAddressBookStorage.getBackupFilePath(filePath, 1), "not json either");
+
+        assertThrows(DataLoadingException.class, () -> jsonAddressBookStorage.readAddressBook());
+    }
+
+    private AddressBook readAddressBookFile(JsonAddressBookStorage storage, Path filePath) throws Exception {
+        return new AddressBook(storage.readAddressBook(filePath).get());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
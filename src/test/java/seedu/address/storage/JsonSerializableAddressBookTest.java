@@ -5,12 +5,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.PersonOrder;
+import seedu.address.model.person.SortKey;
 import seedu.address.testutil.TypicalPersons;
 
 
@@ -32,6 +36,23 @@ public class JsonSerializableAddressBookTest {
     }
 
 
+    @Test
+    public void toModelType_personOrder_keptInOrder() throws Exception {
+        AddressBook addressBook = TypicalPersons.getUnsortedTypicalAddressBook();
+        addressBook.setPersonOrder(new PersonOrder(List.of(SortKey.MODULE, SortKey.EMAIL)));
+        assertEquals(addressBook, new JsonSerializableAddressBook(addressBook).toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidSortKeys_throwsIllegalValueException() {
+        JsonSerializableAddressBook duplicateSortKeys = new JsonSerializableAddressBook(List.of(),
+                List.of("NAME", "NAME"));
+        assertThrows(IllegalValueException.class, duplicateSortKeys::toModelType);
+        JsonSerializableAddressBook nullSortKey = new JsonSerializableAddressBook(List.of(),
+                Arrays.asList("NAME", null));
+        assertThrows(IllegalValueException.class, nullSortKey::toModelType);
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(INVALID_PERSON_FILE,